@@ -4,6 +4,7 @@ import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 	
 
@@ -20,8 +21,11 @@ import org.springframework.context.annotation.ComponentScan;
 		"com.universalathletics.modules.session.entity",
 		"com.universalathletics.modules.jct.coachSkill.entity",
 		"com.universalathletics.modules.jct.coachSkill.model",
+		"com.universalathletics.service.geocoding.model",
+		"com.universalathletics.modules.requests.archive.entity",
 })
 @ComponentScan(basePackages = "com.universalathletics")
+@EnableScheduling
 public class UaBackendApplication {
 
 	public static void main(String[] args) {
@@ -1,11 +1,15 @@
 package com.universalathletics.cloudStorage.controller;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
+import com.universalathletics.cloudStorage.service.SignedUrlCache;
+
 /**
  * Lightweight controller used to test cloud connectivity. Only created when
  * the `gcp.bucket.name` property is defined to avoid startup failures when
@@ -19,8 +23,19 @@ public class CloudTestController {
     @Value("${gcp.bucket.name:}")
     private String bucketName;
 
+    @Autowired
+    private GoogleCloudStorageService storageService;
+
     @GetMapping
     public String testCloudConnection() {
         return "Connected to Google Cloud Storage bucket: " + bucketName;
     }
+
+    /**
+     * Reports hit/miss/eviction counters for the signed URL cache.
+     */
+    @GetMapping("/signed-url-cache")
+    public SignedUrlCache.Stats signedUrlCacheStats() {
+        return storageService.getSignedUrlCacheStats();
+    }
 }
@@ -3,22 +3,43 @@ package com.universalathletics.cloudStorage.service;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 import com.google.cloud.storage.StorageOptions;
-import com.google.auth.oauth2.GoogleCredentials;
 import com.google.auth.oauth2.ServiceAccountCredentials;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 @Service
 public class GoogleCloudStorageService {
 
+    private static final Logger logger = LoggerFactory.getLogger(GoogleCloudStorageService.class);
+
     @Value("${gcp.bucket.name:}")
     private String bucketName;
 
@@ -27,12 +48,52 @@ public class GoogleCloudStorageService {
 
     @Value("${gcp.credentials.path:}")
     private String credentialsPath;
-    
+
+    /**
+     * Maximum number of signed URLs kept in memory.
+     */
+    @Value("${gcp.signed-url.cache.max-size:10000}")
+    private int signedUrlCacheMaxSize;
+
+    /**
+     * Cached signatures are re-signed once they are this close to expiring.
+     */
+    @Value("${gcp.signed-url.cache.safety-margin-minutes:60}")
+    private long signedUrlSafetyMarginMinutes;
+
+    /**
+     * Number of threads used to sign URLs in parallel for list responses.
+     */
+    @Value("${gcp.signed-url.signing-threads:4}")
+    private int signingThreads;
+
+    /**
+     * How long each signed URL stays valid.
+     */
+    private static final long SIGNED_URL_TTL_HOURS = 24;
+
+    /**
+     * Pending signing tasks allowed before callers sign on their own thread.
+     */
+    private static final int SIGNING_QUEUE_CAPACITY = 256;
 
     private Storage storage;
 
+    /**
+     * Service account credentials, parsed once at startup and reused for
+     * every signature.
+     */
+    private ServiceAccountCredentials signingCredentials;
+
+    private ExecutorService signingExecutor;
+
+    private SignedUrlCache signedUrlCache;
+
     @PostConstruct
     public void initialize() throws IOException {
+        this.signedUrlCache = new SignedUrlCache(signedUrlCacheMaxSize,
+            TimeUnit.MINUTES.toMillis(signedUrlSafetyMarginMinutes));
+
         // If any of the required GCP properties are missing, skip initialization.
         if (bucketName == null || bucketName.isEmpty() || projectId == null || projectId.isEmpty() || credentialsPath == null || credentialsPath.isEmpty()) {
             // don't initialize storage; the service will operate in no-op mode
@@ -40,11 +101,32 @@ public class GoogleCloudStorageService {
             return;
         }
 
+        try (FileInputStream credentialsStream = new FileInputStream(credentialsPath)) {
+            this.signingCredentials = ServiceAccountCredentials.fromStream(credentialsStream);
+        }
+
         StorageOptions storageOptions = StorageOptions.newBuilder()
             .setProjectId(projectId)
-            .setCredentials(GoogleCredentials.fromStream(new FileInputStream(credentialsPath)))
+            .setCredentials(signingCredentials)
             .build();
         this.storage = storageOptions.getService();
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.signingExecutor = new ThreadPoolExecutor(signingThreads, signingThreads, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(SIGNING_QUEUE_CAPACITY),
+            runnable -> {
+                Thread thread = new Thread(runnable, "gcs-signer-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (signingExecutor != null) {
+            signingExecutor.shutdown();
+        }
     }
 
     public String getSignedFileUrl(String fileName) throws IOException {
@@ -52,6 +134,163 @@ public class GoogleCloudStorageService {
             throw new IllegalStateException("GoogleCloudStorageService is not configured. Set gcp.bucket.name, gcp.project.id and gcp.credentials.path to enable.");
         }
 
+        fileName = toObjectName(fileName);
+
+        // Reuse a cached signature until it gets close to expiring
+        String cachedUrl = signedUrlCache.get(fileName);
+        if (cachedUrl != null) {
+            return cachedUrl;
+        }
+
+        return sign(fileName);
+    }
+
+    /**
+     * Signs many pictures at once. Duplicate, null and blank keys are skipped, cached
+     * signatures are reused, and the rest are signed in parallel on a bounded
+     * executor. Keys that fail to sign are logged and left out of the result.
+     *
+     * @param fileNames Stored picture references (object names or bucket URLs)
+     * @return Map of each input reference to its signed URL (empty if there is
+     *         nothing to sign, even when storage is not configured)
+     * @throws IllegalStateException if there are keys to sign but storage is
+     *         not configured
+     */
+    public Map<String, String> signAll(Collection<String> fileNames) {
+        Set<String> uniqueNames = new LinkedHashSet<>();
+        for (String fileName : fileNames) {
+            if (fileName != null && !fileName.isBlank()) {
+                uniqueNames.add(fileName);
+            }
+        }
+        if (uniqueNames.isEmpty()) {
+            return new HashMap<>();
+        }
+
+        if (storage == null) {
+            throw new IllegalStateException("GoogleCloudStorageService is not configured. Set gcp.bucket.name, gcp.project.id and gcp.credentials.path to enable.");
+        }
+
+        Map<String, String> signedUrls = new HashMap<>();
+        Map<String, Future<String>> pending = new HashMap<>();
+        for (String fileName : uniqueNames) {
+            String objectName = toObjectName(fileName);
+            String cachedUrl = signedUrlCache.get(objectName);
+            if (cachedUrl != null) {
+                signedUrls.put(fileName, cachedUrl);
+            } else {
+                pending.put(fileName, signingExecutor.submit(() -> sign(objectName)));
+            }
+        }
+
+        for (Map.Entry<String, Future<String>> entry : pending.entrySet()) {
+            try {
+                signedUrls.put(entry.getKey(), entry.getValue().get());
+            } catch (ExecutionException e) {
+                logger.error("Error signing URL for {}: {}", entry.getKey(), e.getCause().getMessage(), e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                logger.warn("Interrupted while signing URLs");
+                break;
+            }
+        }
+        return signedUrls;
+    }
+
+    /**
+     * Replaces one picture reference on each item with its signed URL, signing
+     * the whole list in one batch.
+     *
+     * @param items  The items to update
+     * @param getter Reads the stored picture reference from an item
+     * @param setter Writes the signed URL back to an item
+     */
+    public <T> void signInPlace(Collection<T> items, Function<T, String> getter, BiConsumer<T, String> setter) {
+        newPictureBatch().add(items, getter, setter).sign();
+    }
+
+    /**
+     * Starts a batch for responses with several picture fields or several
+     * lists, so all of their pictures are signed together.
+     *
+     * @return An empty PictureBatch
+     */
+    public PictureBatch newPictureBatch() {
+        return new PictureBatch();
+    }
+
+    /**
+     * Picture references collected from one response, signed with a single
+     * signAll call. If signing fails (e.g. storage is not configured) the
+     * error is logged and the stored references are left in place, so a list
+     * response never fails because of its pictures.
+     */
+    public class PictureBatch {
+
+        private final List<String> keys = new ArrayList<>();
+        private final List<Consumer<String>> writers = new ArrayList<>();
+
+        private PictureBatch() {
+        }
+
+        /**
+         * Adds one picture field of each item to the batch.
+         *
+         * @param items  The items to update
+         * @param getter Reads the stored picture reference from an item
+         * @param setter Writes the signed URL back to an item
+         * @return This batch
+         */
+        public <T> PictureBatch add(Collection<T> items, Function<T, String> getter, BiConsumer<T, String> setter) {
+            for (T item : items) {
+                String key = getter.apply(item);
+                if (key != null && !key.isBlank()) {
+                    keys.add(key);
+                    writers.add(signedUrl -> setter.accept(item, signedUrl));
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Signs every collected picture and writes the signed URLs back.
+         */
+        public void sign() {
+            Map<String, String> signedUrls;
+            try {
+                signedUrls = signAll(keys);
+            } catch (Exception e) {
+                logger.error("Error signing {} profile picture URLs: {}", keys.size(), e.getMessage(), e);
+                return;
+            }
+            for (int i = 0; i < keys.size(); i++) {
+                String signedUrl = signedUrls.get(keys.get(i));
+                if (signedUrl != null) {
+                    writers.get(i).accept(signedUrl);
+                }
+            }
+        }
+    }
+
+    /**
+     * Creates a new signature for an object and caches it.
+     */
+    private String sign(String objectName) {
+        long expiresAtMillis = System.currentTimeMillis() + TimeUnit.HOURS.toMillis(SIGNED_URL_TTL_HOURS);
+        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, objectName).build();
+        URL signedUrl = storage.signUrl(blobInfo, SIGNED_URL_TTL_HOURS, TimeUnit.HOURS,
+            Storage.SignUrlOption.signWith(signingCredentials));
+        signedUrlCache.put(objectName, signedUrl.toString(), expiresAtMillis);
+        return signedUrl.toString();
+    }
+
+    /**
+     * Converts a stored picture reference into a bucket object name.
+     *
+     * @param fileName Object name, or a full storage.googleapis.com URL
+     * @return String the object name within the bucket
+     */
+    private String toObjectName(String fileName) {
         // Make sure fileName doesn't already contain the bucket URL
         if (fileName.startsWith("https://storage.googleapis.com/")) {
             // Extract just the object name from the URL
@@ -66,14 +305,17 @@ public class GoogleCloudStorageService {
                 }
             }
         }
-        
-        // Otherwise, we just get the signed URL as normal
-        BlobInfo blobInfo = BlobInfo.newBuilder(bucketName, fileName).build();
-        URL signedUrl = storage.signUrl(blobInfo, 24, TimeUnit.HOURS, Storage.SignUrlOption.signWith(
-            ServiceAccountCredentials.fromStream(new FileInputStream(credentialsPath))));
-        return signedUrl.toString();
+        return fileName;
+    }
+
+    /**
+     * Hit/miss counters for the signed URL cache.
+     *
+     * @return SignedUrlCache.Stats snapshot
+     */
+    public SignedUrlCache.Stats getSignedUrlCacheStats() {
+        return signedUrlCache.stats();
     }
-    
 
     public String uploadFile(MultipartFile file, String folder) throws IOException {
         if (storage == null) {
@@ -86,6 +328,8 @@ public class GoogleCloudStorageService {
             .build();
         
         storage.create(blobInfo, file.getBytes());
+        // Any signature cached for this key points at the old content
+        signedUrlCache.invalidate(fileName);
         return fileName;
     }
 }
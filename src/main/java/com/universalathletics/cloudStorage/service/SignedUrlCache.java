@@ -0,0 +1,121 @@
+package com.universalathletics.cloudStorage.service;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * Bounded concurrent cache of signed URLs keyed by object name.
+ *
+ * A cached signature is reused until a safety margin before it expires, so
+ * clients never receive a URL that is about to stop working. Entries are
+ * evicted oldest-first once the cache is over capacity, and dropped as soon
+ * as they are found past the safety margin.
+ */
+public class SignedUrlCache {
+
+    /**
+     * Snapshot of the cache counters.
+     */
+    public record Stats(long hits, long misses, long evictions, int size) {
+    }
+
+    private record Entry(String url, long refreshAtMillis) {
+    }
+
+    private record Insertion(String key, Entry entry) {
+    }
+
+    private final int maxEntries;
+    private final long safetyMarginMillis;
+    private final LongSupplier clock;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    // Insertion order doubles as age order because every signature has the same lifetime
+    private final Queue<Insertion> insertionOrder = new ConcurrentLinkedQueue<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    public SignedUrlCache(int maxEntries, long safetyMarginMillis) {
+        this(maxEntries, safetyMarginMillis, System::currentTimeMillis);
+    }
+
+    SignedUrlCache(int maxEntries, long safetyMarginMillis, LongSupplier clock) {
+        this.maxEntries = maxEntries;
+        this.safetyMarginMillis = safetyMarginMillis;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns the cached signed URL for an object, or null if there is none
+     * or it is too close to expiry to hand out.
+     *
+     * @param objectName The object name in the bucket
+     * @return String signed URL, or null on a miss
+     */
+    public String get(String objectName) {
+        Entry entry = entries.get(objectName);
+        if (entry != null && clock.getAsLong() < entry.refreshAtMillis()) {
+            hits.increment();
+            return entry.url();
+        }
+        if (entry != null) {
+            entries.remove(objectName, entry);
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * Stores a freshly signed URL.
+     *
+     * @param objectName      The object name in the bucket
+     * @param url             The signed URL
+     * @param expiresAtMillis When the signature expires, in epoch milliseconds
+     */
+    public void put(String objectName, String url, long expiresAtMillis) {
+        Entry entry = new Entry(url, expiresAtMillis - safetyMarginMillis);
+        entries.put(objectName, entry);
+        insertionOrder.add(new Insertion(objectName, entry));
+        evict();
+    }
+
+    /**
+     * Drops any cached signature for an object, e.g. after it was re-uploaded.
+     *
+     * @param objectName The object name in the bucket
+     */
+    public void invalidate(String objectName) {
+        entries.remove(objectName);
+    }
+
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), evictions.sum(), entries.size());
+    }
+
+    /**
+     * Drops expired or replaced entries from the head of the age queue, then
+     * evicts the oldest live entries while over capacity.
+     */
+    private void evict() {
+        long now = clock.getAsLong();
+        Insertion oldest;
+        while ((oldest = insertionOrder.peek()) != null) {
+            Entry current = entries.get(oldest.key());
+            boolean stale = current != oldest.entry();
+            boolean expired = !stale && now >= current.refreshAtMillis();
+            boolean overCapacity = entries.size() > maxEntries;
+            if (!stale && !expired && !overCapacity) {
+                break;
+            }
+            if (insertionOrder.remove(oldest) && !stale && entries.remove(oldest.key(), oldest.entry())) {
+                evictions.increment();
+            }
+        }
+    }
+}
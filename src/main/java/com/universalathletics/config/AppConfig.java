@@ -4,6 +4,9 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.datatype.hibernate6.Hibernate6Module;
+
 @Configuration
 public class AppConfig {
     
@@ -11,4 +14,17 @@ public class AppConfig {
     public RestTemplate restTemplate() {
         return new RestTemplate();
     }
+
+    /**
+     * Lets Jackson recognize Hibernate proxies and collections. With
+     * open-in-view disabled, anything a service did not load is written as
+     * null instead of triggering a lazy load after the session has closed.
+     * Transient fields such as CoachEntity.skillsWithLevels are part of the
+     * API, so the module must not skip them.
+     */
+    @Bean
+    public Module hibernate6Module() {
+        return new Hibernate6Module()
+            .disable(Hibernate6Module.Feature.USE_TRANSIENT_ANNOTATION);
+    }
 }
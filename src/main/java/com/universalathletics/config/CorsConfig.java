@@ -80,6 +80,9 @@ public class CorsConfig {
         // Allow all HTTP methods
         config.addAllowedMethod("*");
 
+        // Let browsers read the total count sent with paged lists
+        config.addExposedHeader("X-Total-Count");
+
         // Apply CORS configuration to all endpoints
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", config);
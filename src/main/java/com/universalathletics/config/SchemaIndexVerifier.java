@@ -0,0 +1,135 @@
+package com.universalathletics.config;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Checks at startup that the indexes the repositories rely on exist, so a
+ * database that skipped a migration fails fast instead of silently falling
+ * back to full table scans.
+ *
+ * An index counts as present when any index on the table starts with the
+ * required columns in order, whatever it is named.
+ * Disable with schema.index-check.enabled=false.
+ */
+@Component
+public class SchemaIndexVerifier {
+
+    private static final Logger logger = LoggerFactory.getLogger(SchemaIndexVerifier.class);
+
+    /**
+     * An index a repository query depends on.
+     */
+    public record RequiredIndex(String table, String name, List<String> columns) {
+    }
+
+    static final List<RequiredIndex> REQUIRED_INDEXES = List.of(
+        new RequiredIndex("Session", "idx_session_coach_schedule", List.of("Coach_ID", "Session_Date", "Session_Time")),
+        new RequiredIndex("Session", "idx_session_member_schedule", List.of("Member_ID", "Session_Date", "Session_Time")),
+        new RequiredIndex("Session", "idx_session_coach_member", List.of("Coach_ID", "Member_ID", "Session_Date")),
+        new RequiredIndex("Session", "idx_session_request", List.of("Request_ID")),
+        new RequiredIndex("Session", "idx_session_schedule", List.of("Session_Date", "Session_Time")),
+        new RequiredIndex("Connection_Request", "uq_connection_pending_pair", List.of("Pending_Pair_Key"))
+    );
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${schema.index-check.enabled:true}")
+    private boolean enabled;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verify() throws SQLException {
+        if (!enabled) {
+            return;
+        }
+        List<RequiredIndex> missing = findMissingIndexes();
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("Missing database indexes " + missing.stream().map(RequiredIndex::name).toList()
+                + "; run the Flyway migrations or set schema.index-check.enabled=false");
+        }
+        logger.info("Verified {} required database indexes", REQUIRED_INDEXES.size());
+    }
+
+    /**
+     * Lists the required indexes that are not present in the database.
+     *
+     * @return List of missing indexes (empty when the schema is complete)
+     * @throws SQLException if the database metadata cannot be read
+     */
+    public List<RequiredIndex> findMissingIndexes() throws SQLException {
+        List<RequiredIndex> missing = new ArrayList<>();
+        try (Connection connection = dataSource.getConnection()) {
+            DatabaseMetaData metaData = connection.getMetaData();
+            String catalog = connection.getCatalog();
+            Map<String, List<List<String>>> indexesByTable = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (RequiredIndex required : REQUIRED_INDEXES) {
+                List<List<String>> indexes = indexesByTable.computeIfAbsent(required.table(),
+                    table -> readIndexColumns(metaData, catalog, table));
+                if (indexes.stream().noneMatch(columns -> startsWith(columns, required.columns()))) {
+                    missing.add(required);
+                }
+            }
+        }
+        return missing;
+    }
+
+    // ------------------------------- Helpers -------------------------------//
+    /**
+     * Reads the column list of every index on a table, trying the table name
+     * as written and in upper/lower case to cope with identifier folding.
+     */
+    private static List<List<String>> readIndexColumns(DatabaseMetaData metaData, String catalog, String table) {
+        for (String candidate : List.of(table, table.toUpperCase(Locale.ROOT), table.toLowerCase(Locale.ROOT))) {
+            Map<String, TreeMap<Short, String>> columnsByIndex = new TreeMap<>();
+            try (ResultSet rs = metaData.getIndexInfo(catalog, null, candidate, false, true)) {
+                while (rs.next()) {
+                    String indexName = rs.getString("INDEX_NAME");
+                    String column = rs.getString("COLUMN_NAME");
+                    if (indexName == null || column == null) {
+                        continue;
+                    }
+                    columnsByIndex.computeIfAbsent(indexName, name -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), column);
+                }
+            } catch (SQLException e) {
+                logger.warn("Could not read indexes for table {}: {}", candidate, e.getMessage());
+            }
+            if (!columnsByIndex.isEmpty()) {
+                List<List<String>> indexes = new ArrayList<>();
+                columnsByIndex.values().forEach(columns -> indexes.add(new ArrayList<>(columns.values())));
+                return indexes;
+            }
+        }
+        return List.of();
+    }
+
+    private static boolean startsWith(List<String> indexColumns, List<String> requiredColumns) {
+        if (indexColumns.size() < requiredColumns.size()) {
+            return false;
+        }
+        for (int i = 0; i < requiredColumns.size(); i++) {
+            if (!indexColumns.get(i).equalsIgnoreCase(requiredColumns.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
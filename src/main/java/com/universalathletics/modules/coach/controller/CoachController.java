@@ -12,8 +12,11 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
+import com.universalathletics.modules.coach.model.CoachPageDTO;
+import com.universalathletics.modules.coach.model.CoachPurgeStatusDTO;
 import com.universalathletics.modules.coach.model.CoachSortDTO;
-import com.universalathletics.service.geocoding.GeocodingService;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+import com.universalathletics.service.sorting.CoachRankCursor;
 import com.universalathletics.service.sorting.CoachSortingService;
 import org.springframework.http.MediaType;
 
@@ -21,13 +24,15 @@ import org.springframework.http.MediaType;
 import jakarta.persistence.EntityNotFoundException;
 
 import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.coach.service.CoachPurgeJob;
 import com.universalathletics.modules.coach.service.CoachService;
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
 import com.universalathletics.modules.memberInfo.controller.MemberInfoController;
-import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.util.BitSet;
 import java.util.List;
 
 /**
@@ -66,16 +71,28 @@ public class CoachController {
     private GoogleCloudStorageService storageService;
 
     /**
-     * Autowired instance of GeocodingService for handling geocoding operations.
+     * Autowired instance of CoachSortingService for handling sorting operations.
      */
     @Autowired
-    private GeocodingService geocodingService;
+    private CoachSortingService coachSortingService;
 
     /**
-     * Autowired instance of CoachSortingService for handling sorting operations.
+     * Runs admin coach purges in the background.
      */
     @Autowired
-    private CoachSortingService coachSortingService;
+    private CoachPurgeJob coachPurgeJob;
+
+    /**
+     * Upper bounds for the nearby-coach endpoints.
+     */
+    private static final int MAX_NEAREST_COACHES = 100;
+    private static final int DEFAULT_RELATIONSHIP_PAGE_SIZE = 50;
+
+    /**
+     * Response header carrying the total size of a paged list, when requested.
+     */
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+    private static final double MAX_RADIUS_KM = 1000.0;
 
     /**
      * Creates a new coach in the system.
@@ -173,30 +190,44 @@ public class CoachController {
     }
 
     /**
-     * Retrieves all members from the system.
+     * Retrieves coaches in a specific order based on the user's skills and
+     * location.
      *
-     * @return ResponseEntity<List<CoachEntity>> with status 200 (OK) and list
-     *         of all coaches in a specific order based on users skills and location
+     * When the request body includes a limit, coaches are scored from their
+     * coordinates and skills, only that many are loaded and signed, and the
+     * response is a CoachPageDTO whose nextCursor can be sent back to fetch
+     * the following page.
+     *
+     * @return ResponseEntity with status 200 (OK) and either the full sorted
+     *         list of coaches or one CoachPageDTO, or 400 (BAD REQUEST) if the
+     *         limit or cursor is invalid
      */
     @PostMapping("/sort")
-    public ResponseEntity<List<CoachEntity>> getAllCoaches(@RequestBody CoachSortDTO requestBody) throws IOException {
+    public ResponseEntity<?> getAllCoaches(@RequestBody CoachSortDTO requestBody) throws IOException {
         try {
             logger.info("Received request to get all coaches: " + requestBody);
-            List<CoachEntity> coaches = coachservice.findAllCoaches();
-            coaches = coachSortingService.sortCoaches(coaches, requestBody.getSkills(), requestBody.getLocation());
 
-            for (CoachEntity coach : coaches) {
-                if (coach.getProfilePic() != null) {
-                    try {
-                        String signedUrl = storageService.getSignedFileUrl(coach.getProfilePic());
-                        coach.setProfilePic(signedUrl);
-                    } catch (Exception e) {
-                        System.err.println("Error signing URL for coach " + coach.getId() + ": " + e.getMessage());
-                        e.printStackTrace();
-                    }
-                }
+            if (requestBody.getLimit() != null) {
+                CoachRankCursor cursor = requestBody.getCursor() != null
+                        ? CoachRankCursor.decode(requestBody.getCursor())
+                        : null;
+                // Rank from coordinates and the skill index; only the page's coaches are loaded
+                CoachSortingService.RankedPage page = coachSortingService.topCoaches(
+                        coachservice.findAllCoachLocations(), requestBody.getSkills(), requestBody.getLocation(),
+                        requestBody.getLimit(), cursor, coachservice::findCoachesByIds);
+
+                signProfilePics(page.coaches());
+                String nextCursor = page.nextCursor() != null ? page.nextCursor().encode() : null;
+                return new ResponseEntity<>(new CoachPageDTO(page.coaches(), nextCursor), HttpStatus.OK);
             }
+
+            List<CoachEntity> coaches = coachservice.findAllCoaches();
+            coaches = coachSortingService.sortCoaches(coaches, requestBody.getSkills(), requestBody.getLocation());
+            signProfilePics(coaches);
             return new ResponseEntity<>(coaches, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid sort request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             System.err.println("Error in getAllCoaches: " + e.getMessage());
             e.printStackTrace();
@@ -205,12 +236,104 @@ public class CoachController {
     }
 
     /**
-     * Retrieves a specific member by ID and converts coordinates to city, state
-     * format.
+     * Replaces each coach's stored profile picture path with a signed URL,
+     * signing the whole list in one batch.
+     */
+    private void signProfilePics(List<CoachEntity> coaches) {
+        storageService.signInPlace(coaches, CoachEntity::getProfilePic, CoachEntity::setProfilePic);
+    }
+
+    /**
+     * Retrieves the coaches closest to a location, ordered by distance.
+     *
+     * @param lat      Latitude of the search point
+     * @param lng      Longitude of the search point
+     * @param k        Maximum number of coaches to return
+     * @param skillIds Optional skill IDs used when scoring each coach
+     * @return ResponseEntity<List<CoachEntity>> with status 200 (OK), or 400
+     *         (BAD REQUEST) if the parameters are out of range or a skill ID
+     *         is unknown
+     */
+    @GetMapping("/nearest")
+    public ResponseEntity<List<CoachEntity>> getNearestCoaches(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "20") int k,
+            @RequestParam(required = false) List<Integer> skillIds) {
+        if (!isValidCoordinate(lat, lng) || k <= 0 || k > MAX_NEAREST_COACHES) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            GeoPoint origin = new GeoPoint(lat, lng);
+            List<CoachEntity> coaches = coachservice.findNearestCoaches(origin, k);
+            return new ResponseEntity<>(scoreAndSignNearbyCoaches(coaches, origin, skillIds), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid nearest coaches request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            logger.error("Error finding nearest coaches: {}", e.getMessage(), e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Retrieves every coach within a radius of a location, ordered by distance.
+     *
+     * @param lat      Latitude of the search point
+     * @param lng      Longitude of the search point
+     * @param radiusKm Search radius in kilometers
+     * @param skillIds Optional skill IDs used when scoring each coach
+     * @return ResponseEntity<List<CoachEntity>> with status 200 (OK), or 400
+     *         (BAD REQUEST) if the parameters are out of range or a skill ID
+     *         is unknown
+     */
+    @GetMapping("/within")
+    public ResponseEntity<List<CoachEntity>> getCoachesWithinRadius(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam double radiusKm,
+            @RequestParam(required = false) List<Integer> skillIds) {
+        if (!isValidCoordinate(lat, lng) || radiusKm <= 0 || radiusKm > MAX_RADIUS_KM) {
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        }
+        try {
+            GeoPoint origin = new GeoPoint(lat, lng);
+            List<CoachEntity> coaches = coachservice.findCoachesWithinRadius(origin, radiusKm);
+            return new ResponseEntity<>(scoreAndSignNearbyCoaches(coaches, origin, skillIds), HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid coaches within radius request: {}", e.getMessage());
+            return new ResponseEntity<>(HttpStatus.BAD_REQUEST);
+        } catch (Exception e) {
+            logger.error("Error finding coaches within {}km: {}", radiusKm, e.getMessage(), e);
+            return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    /**
+     * Attaches a compatibility score to each nearby coach and signs their
+     * profile picture. The distance order from the spatial index is kept.
+     */
+    private List<CoachEntity> scoreAndSignNearbyCoaches(List<CoachEntity> coaches, GeoPoint origin,
+            List<Integer> skillIds) {
+        BitSet requestedSkills = coachSortingService.toSkillBits(skillIds);
+        for (CoachEntity coach : coaches) {
+            coach.setScore(coachSortingService.scoreCoach(coach, requestedSkills, origin));
+        }
+        signProfilePics(coaches);
+        return coaches;
+    }
+
+    private boolean isValidCoordinate(double lat, double lng) {
+        return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
+    }
+
+    /**
+     * Retrieves a specific member by ID, with the location shown in the
+     * city, state format stored when the coach was written.
      *
      * @param firebaseID The Firebase ID of the member to be retrieved
      * @return ResponseEntity<CoachEntity> with status 200 (OK) and the member
-     *         information with location converted to city, state format, or 404
+     *         information with location in city, state format, or 404
      *         (NOT FOUND) if not found
      */
     @GetMapping("/{firebaseID}")
@@ -246,28 +369,9 @@ public class CoachController {
                     }
                 }
 
-                // Handle location conversion from coordinates to city, state
-                if (coach.getLocation() != null && isCoordinateFormat(coach.getLocation())) {
-                    try {
-                        double latitude = geocodingService.parseLatitude(coach.getLocation());
-                        double longitude = geocodingService.parseLongitude(coach.getLocation());
-
-                        if (latitude != 0.0 || longitude != 0.0) { // Check if parsing was successful
-                            String cityStateLocation = geocodingService.getCityStateFromCoordinates(latitude,
-                                    longitude);
-                            if (cityStateLocation != null && !cityStateLocation.isEmpty() &&
-                                    !cityStateLocation.equals("Location not found") &&
-                                    !cityStateLocation.equals("Error retrieving location")) {
-                                coach.setLocation(cityStateLocation);
-                                logger.info("Successfully converted coordinates to: {}", cityStateLocation);
-                            } else {
-                                logger.warn("Could not convert coordinates to city, state for coach {}", coach.getId());
-                            }
-                        }
-                    } catch (Exception e) {
-                        logger.error("Error converting coordinates to city, state for coach " + coach.getId() + ": "
-                                + e.getMessage(), e);
-                    }
+                // Show the city, state resolved when the coach was written
+                if (coach.getDisplayLocation() != null) {
+                    coach.setLocation(coach.getDisplayLocation());
                 }
 
                 return new ResponseEntity<>(coach, HttpStatus.OK);
@@ -281,57 +385,32 @@ public class CoachController {
     }
 
     /**
-     * Helper method to check if location is in coordinate format
-     * Checks for both "lat,lng" format and "Latitude: X, Longitude: Y" format
-     * 
-     * @param location The location string to check
-     * @return true if location appears to be in coordinate format
-     */
-    private boolean isCoordinateFormat(String location) {
-        if (location == null || location.trim().isEmpty()) {
-            return false;
-        }
-
-        // Check for "Latitude: X, Longitude: Y" format (your existing format)
-        if (location.contains("Latitude:") && location.contains("Longitude:")) {
-            return true;
-        }
-
-        // Check for simple "lat,lng" format
-        String[] parts = location.split(",");
-        if (parts.length == 2) {
-            try {
-                double lat = Double.parseDouble(parts[0].trim());
-                double lng = Double.parseDouble(parts[1].trim());
-
-                // Basic validation for valid latitude and longitude ranges
-                return lat >= -90 && lat <= 90 && lng >= -180 && lng <= 180;
-            } catch (NumberFormatException e) {
-                return false;
-            }
-        }
-
-        return false;
-    }
-
-    /**
-     * Endpoint to retrieve all members associated with a specific coach.
+     * Endpoint to retrieve one page of the members associated with a specific
+     * coach, as cards (IDs, names, signed profile picture and location).
      * 
-     * @param memberId The unique identifier of the member
-     * @return ResponseEntity containing a list of members or appropriate error
-     *         response
+     * @param coachId      The unique identifier of the coach
+     * @param page         The zero-based page number
+     * @param size         The page size (1 to ProfileCardDTO.MAX_PAGE_SIZE)
+     * @param includeTotal Whether to also count all members into the X-Total-Count header
+     * @return ResponseEntity containing a list of member cards, 400 for an
+     *         invalid page, or 404 if the coach doesn't exist
      */
     @GetMapping("/{coachId}/members")
-    public ResponseEntity<List<MemberInfoEntity>> getCoachesMembers(@PathVariable Integer coachId) {
+    public ResponseEntity<List<ProfileCardDTO>> getCoachesMembers(
+            @PathVariable Integer coachId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + DEFAULT_RELATIONSHIP_PAGE_SIZE) int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal) {
         try {
-            List<MemberInfoEntity> members = coachservice.getCoachMembers(coachId);
-            for (MemberInfoEntity member : members) {
-                if (member.getProfilePic() != null) {
-                    String signedUrl = storageService.getSignedFileUrl(member.getProfilePic());
-                    member.setProfilePic(signedUrl);
-                }
+            List<ProfileCardDTO> cards = coachservice.getCoachMemberCards(coachId, page, size);
+            storageService.signInPlace(cards, ProfileCardDTO::getProfilePic, ProfileCardDTO::setProfilePic);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (includeTotal) {
+                response.header(TOTAL_COUNT_HEADER, String.valueOf(coachservice.countCoachMembers(coachId)));
             }
-            return ResponseEntity.ok(members);
+            return response.body(cards);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -340,30 +419,82 @@ public class CoachController {
     }
 
     /**
-     * Temporary GET wrapper for the admin clear-all endpoint.
+     * Temporary GET wrapper for the admin clear-all endpoint. Starts a
+     * background purge of every coach; poll /admin/purge/{jobId} for progress.
      */
     @GetMapping("/admin/clear-all")
     public ResponseEntity<String> clearAllCoachesGet(@RequestParam("token") String token) {
-        String expected = System.getenv("ADMIN_API_TOKEN");
-        if (expected == null || !expected.equals(token)) {
+        if (!isAdminToken(token)) {
             return new ResponseEntity<>("Forbidden", HttpStatus.FORBIDDEN);
         }
 
         try {
-            List<CoachEntity> coaches = coachservice.findAllCoaches();
-            int deleted = 0;
-            for (CoachEntity c : coaches) {
-                try {
-                    coachservice.deleteCoach(c.getId());
-                    deleted++;
-                } catch (Exception e) {
-                    logger.warn("Failed to delete coach {}: {}", c.getId(), e.getMessage());
-                }
-            }
-            return new ResponseEntity<>("Deleted " + deleted + " coaches", HttpStatus.OK);
+            CoachPurgeStatusDTO status = coachPurgeJob.purgeAll();
+            return new ResponseEntity<>("Purging " + status.getTotalCoaches() + " coaches; poll /api/coaches/admin/purge/"
+                + status.getJobId() + " for progress", HttpStatus.ACCEPTED);
+        } catch (IllegalStateException e) {
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         } catch (Exception e) {
             logger.error("Error clearing all coaches: {}", e.getMessage(), e);
             return new ResponseEntity<>("Error: " + e.getMessage(), HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Starts a background purge of the given coaches, or of every coach when
+     * all=true, together with all rows that reference them.
+     *
+     * @param token    The admin API token
+     * @param all      Whether to purge every coach
+     * @param coachIds The coach IDs to purge when all is false
+     * @return ResponseEntity with status 202 (ACCEPTED) and the job status,
+     *         400 if neither all nor any IDs were given, or 409 if a purge is
+     *         already running
+     */
+    @PostMapping("/admin/purge")
+    public ResponseEntity<CoachPurgeStatusDTO> purgeCoaches(
+            @RequestParam("token") String token,
+            @RequestParam(value = "all", defaultValue = "false") boolean all,
+            @RequestBody(required = false) List<Integer> coachIds) {
+        if (!isAdminToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        if (!all && (coachIds == null || coachIds.isEmpty())) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        try {
+            CoachPurgeStatusDTO status = all ? coachPurgeJob.purgeAll() : coachPurgeJob.purge(coachIds);
+            return ResponseEntity.status(HttpStatus.ACCEPTED).body(status);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).build();
+        } catch (Exception e) {
+            logger.error("Error starting coach purge: {}", e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Reports the progress of a background coach purge.
+     *
+     * @param token The admin API token
+     * @param jobId The job ID returned when the purge was started
+     * @return ResponseEntity with the job status, or 404 if the job is unknown
+     */
+    @GetMapping("/admin/purge/{jobId}")
+    public ResponseEntity<CoachPurgeStatusDTO> getPurgeStatus(
+            @RequestParam("token") String token,
+            @PathVariable String jobId) {
+        if (!isAdminToken(token)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+        return coachPurgeJob.status(jobId)
+            .map(ResponseEntity::ok)
+            .orElseGet(() -> ResponseEntity.notFound().build());
+    }
+
+    private static boolean isAdminToken(String token) {
+        String expected = System.getenv("ADMIN_API_TOKEN");
+        return expected != null && expected.equals(token);
+    }
 }
@@ -5,6 +5,7 @@ import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import lombok.AllArgsConstructor;
+import org.hibernate.Hibernate;
 import java.util.List;
 
 // This import is crucial for handling the JSON serialization of bidirectional relationships
@@ -15,6 +16,8 @@ import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
 import com.universalathletics.modules.skill.entity.SkillEntity;
 import com.universalathletics.modules.jct.coachSkill.model.CoachSkillDTO;
 import com.universalathletics.modules.jct.coachSkill.entity.CoachSkillEntity;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+import com.universalathletics.service.sorting.CoachScore;
 
 
 //--------------------- Coach Entity Class ------------------------------//
@@ -111,6 +114,19 @@ public class CoachEntity {
   @Column(name = "Location")
   private String location;
 
+  /**
+   * Coach's coordinates, parsed from location whenever the coach is written.
+   */
+  @Embedded
+  private GeoPoint coordinates;
+
+  /**
+   * Human-readable "City, State" for the location, resolved once when the
+   * coach is written (or later by the backfill job).
+   */
+  @Column(name = "Display_Location")
+  private String displayLocation;
+
   /**
    * Coach's unique authentication token.
    */
@@ -134,6 +150,10 @@ public class CoachEntity {
   @Transient
   private List<CoachSkillDTO> skillsWithLevels;
 
+  // Transient field for JSON serialization - compatibility score from a sort request
+  @Transient
+  private CoachScore score;
+
   /**
    * Constructor for Coach Entity
    * 
@@ -190,6 +210,34 @@ public class CoachEntity {
     this.skillsWithLevels = skillsWithLevels;
   }
 
+  /**
+   * Getter for the compatibility score (transient field for JSON)
+   *
+   * @return CoachScore, or null if the coach was not ranked
+   */
+  public CoachScore getScore() {
+    return this.score;
+  }
+
+  /**
+   * Setter for the compatibility score (transient field for JSON)
+   *
+   * @param score CoachScore computed by CoachSortingService
+   */
+  public void setScore(CoachScore score) {
+    this.score = score;
+  }
+
+  /**
+   * Keeps the numeric coordinates in sync with the location string so
+   * readers never have to parse it.
+   */
+  @PrePersist
+  @PreUpdate
+  protected void syncCoordinates() {
+    this.coordinates = GeoPoint.parse(this.location);
+  }
+
   // Keep the old getSkills method for backward compatibility
   /**
    * Getter used by CoachService to get the attached skills of a certain coach
@@ -198,7 +246,20 @@ public class CoachEntity {
    */
   @Deprecated
   public List<SkillEntity> getSkills() {
-    if (this.coachSkills != null) {
+    // Prefer the already-loaded skillsWithLevels so serialization does not
+    // initialize the lazy coachSkills collection for every coach
+    if (this.skillsWithLevels != null) {
+      return this.skillsWithLevels.stream()
+        .map(dto -> {
+          SkillEntity skill = new SkillEntity();
+          skill.setSkill_id(dto.getSkillId());
+          skill.setTitle(dto.getSkillTitle());
+          return skill;
+        })
+        .collect(java.util.stream.Collectors.toList());
+    }
+    // Never trigger a lazy load from here; without an open session it would fail
+    if (this.coachSkills != null && Hibernate.isInitialized(this.coachSkills)) {
       return this.coachSkills.stream()
         .map(CoachSkillEntity::getSkill)
         .collect(java.util.stream.Collectors.toList());
@@ -251,6 +312,12 @@ public class CoachEntity {
   public String getLocation() {
     return location;
   }
+  public GeoPoint getCoordinates() {
+    return coordinates;
+  }
+  public String getDisplayLocation() {
+    return displayLocation;
+  }
   public String getFirebaseID() {
     return firebaseID;
   }
@@ -292,6 +359,12 @@ public class CoachEntity {
   public void setLocation(String location) {
     this.location = location;
   }
+  public void setCoordinates(GeoPoint coordinates) {
+    this.coordinates = coordinates;
+  }
+  public void setDisplayLocation(String displayLocation) {
+    this.displayLocation = displayLocation;
+  }
   public void setFirebaseID(String firebaseID) {
     this.firebaseID = firebaseID;
   }
@@ -0,0 +1,24 @@
+package com.universalathletics.modules.coach.model;
+import java.util.List;
+
+import com.universalathletics.modules.coach.entity.CoachEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Used to model one page of ranked coaches returned by the sort endpoint
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoachPageDTO {
+    private List<CoachEntity> coaches;
+
+    /**
+     * Cursor for the next page, or null when this is the last page
+     */
+    private String nextCursor;
+}
@@ -0,0 +1,43 @@
+package com.universalathletics.modules.coach.model;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Used to model the progress of a background coach purge
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CoachPurgeStatusDTO {
+
+    public enum State {
+        RUNNING,
+        COMPLETED,
+        FAILED
+    }
+
+    private String jobId;
+    private State state;
+
+    /**
+     * Number of existing coaches selected for deletion
+     */
+    private int totalCoaches;
+    private int deletedCoaches;
+
+    private LocalDateTime startedAt;
+
+    /**
+     * When the job completed or failed, or null while it is running
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * Failure message, or null unless the state is FAILED
+     */
+    private String error;
+}
@@ -14,6 +14,18 @@ public class CoachSortDTO {
     private List<SkillEntity> skills;
     private String location;
 
+    /**
+     * Optional page size (1 to CoachSortingService.MAX_PAGE_SIZE). When set,
+     * only the top {@code limit} coaches after {@code cursor} are returned
+     * along with a cursor for the next page.
+     */
+    private Integer limit;
+
+    /**
+     * Opaque cursor returned as nextCursor by the previous page
+     */
+    private String cursor;
+
     public CoachSortDTO(List<SkillEntity> skills, String location) {
         this.skills = skills;
         this.location = location;
@@ -1,10 +1,17 @@
 package com.universalathletics.modules.coach.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 //------------------------------- imports ------------------------------------//
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.universalathletics.modules.coach.entity.CoachEntity;
 
@@ -26,4 +33,71 @@ public interface CoachRepository extends JpaRepository<CoachEntity, Integer> {
    * Find a member by their firebaseID
    */
   Optional<CoachEntity> findByFirebaseID(String firebaseID);
+
+  /**
+   * Read a coach's location and display location without loading the entity.
+   * The row is [location, displayLocation]; the list is empty if there is no
+   * such coach.
+   */
+  @Query("SELECT c.location, c.displayLocation FROM CoachEntity c WHERE c.firebaseID = :firebaseID")
+  List<Object[]> findLocationByFirebaseID(@Param("firebaseID") String firebaseID);
+
+  /**
+   * Find the ID and coordinates of every coach with a known location.
+   * Each row is [coachId, latitude, longitude].
+   */
+  @Query("SELECT c.id, c.coordinates.latitude, c.coordinates.longitude FROM CoachEntity c "
+      + "WHERE c.coordinates.latitude IS NOT NULL AND c.coordinates.longitude IS NOT NULL")
+  List<Object[]> findAllCoordinates();
+
+  /**
+   * Find the ID and coordinates of every coach, including coaches without a
+   * location. Each row is [coachId, latitude, longitude], with null
+   * coordinates when the location is unknown.
+   */
+  @Query("SELECT c.id, c.coordinates.latitude, c.coordinates.longitude FROM CoachEntity c")
+  List<Object[]> findAllIdsAndCoordinates();
+
+  /**
+   * Find coaches with coordinates but no display location, in ID order after
+   * a cursor. Each row is [coachId, latitude, longitude].
+   */
+  @Query("SELECT c.id, c.coordinates.latitude, c.coordinates.longitude FROM CoachEntity c "
+      + "WHERE c.displayLocation IS NULL AND c.coordinates.latitude IS NOT NULL "
+      + "AND c.coordinates.longitude IS NOT NULL AND c.id > :afterId ORDER BY c.id")
+  List<Object[]> findMissingDisplayLocation(@Param("afterId") Integer afterId, Pageable pageable);
+
+  /**
+   * Fill in the display location of a coach without loading the entity.
+   * A display location written in the meantime, e.g. by an update, is kept.
+   *
+   * @return Number of rows affected
+   */
+  @Modifying
+  @Transactional
+  @Query("UPDATE CoachEntity c SET c.displayLocation = :displayLocation "
+      + "WHERE c.id = :coachId AND c.displayLocation IS NULL")
+  int updateDisplayLocation(@Param("coachId") Integer coachId, @Param("displayLocation") String displayLocation);
+
+  /**
+   * Find the ID of every coach, in ID order.
+   */
+  @Query("SELECT c.id FROM CoachEntity c ORDER BY c.id")
+  List<Integer> findAllIds();
+
+  /**
+   * Find which of the given coach IDs exist, in ID order.
+   */
+  @Query("SELECT c.id FROM CoachEntity c WHERE c.id IN :coachIds ORDER BY c.id")
+  List<Integer> findExistingIds(@Param("coachIds") Collection<Integer> coachIds);
+
+  /**
+   * Lock the rows of the given coaches, in ID order, until the transaction
+   * ends. Serializes booking checks for the same coach.
+   *
+   * @return IDs of the locked coaches
+   */
+  @Query(value = "SELECT Coach_ID FROM Coach WHERE Coach_ID IN (:coachIds) ORDER BY Coach_ID FOR UPDATE",
+      nativeQuery = true)
+  List<Integer> lockByIds(@Param("coachIds") Collection<Integer> coachIds);
 }
@@ -0,0 +1,148 @@
+package com.universalathletics.modules.coach.service;
+
+//------------------------------- imports ------------------------------------//
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.universalathletics.modules.coach.model.CoachPurgeStatusDTO;
+import com.universalathletics.modules.coach.model.CoachPurgeStatusDTO.State;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
+
+//--------------------------- Coach Purge Job Class ---------------------------//
+/**
+ * Runs coach purges in the background so admin requests return at once
+ * instead of timing out.
+ *
+ * Only one purge runs at a time. The target coach IDs are resolved when the
+ * job is started, then deleted in chunks of {@code coaches.purge.chunk-size},
+ * each chunk in its own transaction so a failure keeps what was already
+ * purged. The most recent jobs are kept in memory for the progress endpoint.
+ */
+@Component
+public class CoachPurgeJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(CoachPurgeJob.class);
+
+    /**
+     * Number of finished jobs kept for status lookups.
+     */
+    private static final int MAX_TRACKED_JOBS = 20;
+
+    @Autowired
+    private CoachPurgeService coachPurgeService;
+
+    /**
+     * Maximum coaches per chunk, i.e. per transaction and per IN (...) list.
+     */
+    @Value("${coaches.purge.chunk-size:500}")
+    private int chunkSize;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "coach-purge");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** jobId -> status, oldest first; guarded by this */
+    private final Map<String, CoachPurgeStatusDTO> jobs = new LinkedHashMap<>();
+
+    private String runningJobId;
+
+    // ------------------------------ Start Purge -----------------------------//
+    /**
+     * Starts purging every coach.
+     *
+     * @return The initial status of the job
+     * @throws IllegalStateException if a purge is already running
+     */
+    public CoachPurgeStatusDTO purgeAll() {
+        return start(coachPurgeService.findAllCoachIds());
+    }
+
+    /**
+     * Starts purging the given coaches. IDs without a coach are ignored.
+     *
+     * @param coachIds The coach IDs to delete
+     * @return The initial status of the job
+     * @throws IllegalStateException if a purge is already running
+     */
+    public CoachPurgeStatusDTO purge(Collection<Integer> coachIds) {
+        return start(coachPurgeService.findExistingCoachIds(coachIds));
+    }
+
+    // ------------------------------ Job Status ------------------------------//
+    /**
+     * @param jobId The ID returned when the job was started
+     * @return A snapshot of the job's progress, or empty if it is unknown
+     */
+    public synchronized Optional<CoachPurgeStatusDTO> status(String jobId) {
+        CoachPurgeStatusDTO status = jobs.get(jobId);
+        return Optional.ofNullable(status != null ? copy(status) : null);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    // ------------------------------- Helpers -------------------------------//
+    private synchronized CoachPurgeStatusDTO start(List<Integer> coachIds) {
+        if (runningJobId != null) {
+            throw new IllegalStateException("Coach purge " + runningJobId + " is already running");
+        }
+        String jobId = UUID.randomUUID().toString();
+        CoachPurgeStatusDTO status = new CoachPurgeStatusDTO(jobId, State.RUNNING, coachIds.size(), 0,
+            LocalDateTime.now(), null, null);
+        jobs.put(jobId, status);
+        while (jobs.size() > MAX_TRACKED_JOBS) {
+            jobs.remove(jobs.keySet().iterator().next());
+        }
+        runningJobId = jobId;
+        executor.execute(() -> run(status, List.copyOf(coachIds)));
+        return copy(status);
+    }
+
+    private void run(CoachPurgeStatusDTO status, List<Integer> coachIds) {
+        logger.info("Coach purge {} started for {} coaches", status.getJobId(), coachIds.size());
+        try {
+            for (int from = 0; from < coachIds.size(); from += chunkSize) {
+                List<Integer> chunk = coachIds.subList(from, Math.min(from + chunkSize, coachIds.size()));
+                int deleted = coachPurgeService.purgeChunk(chunk);
+                synchronized (this) {
+                    status.setDeletedCoaches(status.getDeletedCoaches() + deleted);
+                }
+            }
+            finish(status, State.COMPLETED, null);
+            logger.info("Coach purge {} deleted {} coaches", status.getJobId(), status.getDeletedCoaches());
+        } catch (Exception e) {
+            logger.error("Coach purge {} failed: {}", status.getJobId(), e.getMessage(), e);
+            finish(status, State.FAILED, e.getMessage());
+        }
+    }
+
+    private synchronized void finish(CoachPurgeStatusDTO status, State state, String error) {
+        status.setState(state);
+        status.setError(error);
+        status.setFinishedAt(LocalDateTime.now());
+        runningJobId = null;
+    }
+
+    private static CoachPurgeStatusDTO copy(CoachPurgeStatusDTO status) {
+        return new CoachPurgeStatusDTO(status.getJobId(), status.getState(), status.getTotalCoaches(),
+            status.getDeletedCoaches(), status.getStartedAt(), status.getFinishedAt(), status.getError());
+    }
+}
@@ -0,0 +1,118 @@
+package com.universalathletics.modules.coach.service;
+
+//------------------------------- imports ------------------------------------//
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.service.AfterCommit;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.sorting.CoachSkillIndex;
+
+import java.util.Collection;
+import java.util.List;
+
+//------------------------- Coach Purge Service Class -------------------------//
+/**
+ * Deletes coaches and everything that references them, a chunk of coaches
+ * at a time.
+ *
+ * Each chunk is one transaction of set-based native deletes, one statement
+ * per table with an IN (...) list, in an FK-safe order. CoachPurgeJob drives
+ * the chunks in the background and reports progress, and
+ * CoachService.deleteCoach purges a single coach as a chunk of one.
+ */
+@Service
+public class CoachPurgeService {
+
+    /**
+     * Dependent tables keyed by Coach_ID, deleted in this order before the
+     * coach rows themselves.
+     */
+    private static final List<String> COACH_ID_DELETES = List.of(
+        "DELETE FROM Member_Coach WHERE Coach_ID IN (:ids)",
+        "DELETE FROM Coach_Job_Title WHERE Coach_ID IN (:ids)",
+        "DELETE FROM Session WHERE Coach_ID IN (:ids)");
+
+    /**
+     * Request tables where the coach may be either sender or receiver.
+     */
+    private static final List<String> REQUEST_TABLES = List.of(
+        "Session_Request",
+        "Connection_Request",
+        "Session_Request_Archive",
+        "Connection_Request_Archive");
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private CoachSpatialIndex coachSpatialIndex;
+
+    @Autowired
+    private CoachSkillIndex coachSkillIndex;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // ------------------------------ Target IDs ------------------------------//
+    /**
+     * @return The ID of every coach, in ID order
+     */
+    public List<Integer> findAllCoachIds() {
+        return coachRepository.findAllIds();
+    }
+
+    /**
+     * @param coachIds Requested coach IDs
+     * @return The requested IDs that belong to an existing coach, in ID order
+     */
+    public List<Integer> findExistingCoachIds(Collection<Integer> coachIds) {
+        return coachRepository.findExistingIds(coachIds);
+    }
+
+    // ------------------------------ Purge Chunk -----------------------------//
+    /**
+     * Deletes one chunk of coaches and all rows that reference them, then
+     * drops them from the in-memory indexes once the chunk commits.
+     *
+     * @param coachIds The coach IDs in this chunk
+     * @return Number of coach rows deleted
+     */
+    @Transactional
+    public int purgeChunk(List<Integer> coachIds) {
+        if (coachIds.isEmpty()) {
+            return 0;
+        }
+        for (String delete : COACH_ID_DELETES) {
+            entityManager.createNativeQuery(delete)
+                .setParameter("ids", coachIds)
+                .executeUpdate();
+        }
+        for (String table : REQUEST_TABLES) {
+            entityManager.createNativeQuery("DELETE FROM " + table
+                    + " WHERE (Sender_Type='COACH' AND Sender_ID IN (:ids))"
+                    + " OR (Receiver_Type='COACH' AND Receiver_ID IN (:ids))")
+                .setParameter("ids", coachIds)
+                .executeUpdate();
+        }
+        entityManager.createNativeQuery("DELETE FROM Coach_Skill WHERE Coach_ID IN (:ids)")
+            .setParameter("ids", coachIds)
+            .executeUpdate();
+        int deleted = entityManager.createNativeQuery("DELETE FROM Coach WHERE Coach_ID IN (:ids)")
+            .setParameter("ids", coachIds)
+            .executeUpdate();
+
+        List<Integer> purged = List.copyOf(coachIds);
+        AfterCommit.run(() -> {
+            for (Integer coachId : purged) {
+                coachSpatialIndex.remove(coachId);
+                coachSkillIndex.removeCoach(coachId);
+            }
+        });
+        return deleted;
+    }
+}
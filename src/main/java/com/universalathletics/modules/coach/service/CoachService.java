@@ -2,24 +2,39 @@ package com.universalathletics.modules.coach.service;
 
 //------------------------------- imports ------------------------------------//
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.PersistenceContext;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.universalathletics.modules.coach.entity.CoachEntity;
 import com.universalathletics.modules.coach.repository.CoachRepository;
-import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
 import com.universalathletics.modules.skill.entity.SkillEntity;
-import com.universalathletics.modules.skill.repository.SkillRepository;
+import com.universalathletics.modules.skill.service.SkillCatalog;
 
 import com.universalathletics.modules.jct.coachSkill.entity.CoachSkillEntity;
 import com.universalathletics.modules.jct.coachSkill.SkillLevel;
 import com.universalathletics.modules.jct.coachSkill.model.CoachSkillDTO;
 import com.universalathletics.modules.jct.coachSkill.repository.CoachSkillRepository;
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
+import com.universalathletics.modules.jct.memberCoach.repository.MemberCoachRepository;
+import com.universalathletics.modules.jct.repository.SkillAssociationWriter;
+import com.universalathletics.service.AfterCommit;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.geocoding.GeocodingService;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+import com.universalathletics.service.sorting.CoachSkillIndex;
 
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
@@ -49,10 +64,23 @@ public class CoachService {
     private CoachRepository coachRepository;
 
     /**
-     * Autowired instance of SkillRepository for database operations.
+     * Shared in-memory skill catalog, used to validate and attach skills
+     * without a query per skill.
      */
     @Autowired
-    private SkillRepository skillRepository;
+    private SkillCatalog skillCatalog;
+
+    /**
+     * Reads the Member_Coach relationship lists as paged card projections.
+     */
+    @Autowired
+    private MemberCoachRepository memberCoachRepository;
+
+    /**
+     * Writes Coach_Skill changes as a set difference instead of row by row.
+     */
+    @Autowired
+    private SkillAssociationWriter skillAssociationWriter;
 
     /**
      * Autowired instance of CoachSkillRepository for managing coach-skill
@@ -61,8 +89,90 @@ public class CoachService {
     @Autowired
     private CoachSkillRepository coachSkillRepository;
 
-    @PersistenceContext
-    private EntityManager entityManager;
+    /**
+     * In-memory spatial index over coach coordinates, kept in sync on
+     * create, update and delete.
+     */
+    @Autowired
+    private CoachSpatialIndex coachSpatialIndex;
+
+    /**
+     * In-memory bitmap index over coach skills and levels, kept in sync
+     * whenever a coach's skills change.
+     */
+    @Autowired
+    private CoachSkillIndex coachSkillIndex;
+
+    /**
+     * Autowired instance of GeocodingService, used to resolve the display
+     * location once when a coach is written.
+     */
+    @Autowired
+    private GeocodingService geocodingService;
+
+    /**
+     * Runs the writes of saveCoach and updateCoach, so the reverse geocoding
+     * that precedes them happens outside the transaction.
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    /**
+     * Runs the native deletes that remove a coach and every row that
+     * references it.
+     */
+    @Autowired
+    private CoachPurgeService coachPurgeService;
+
+    /**
+     * Maximum number of coach IDs per IN clause when bulk loading skills.
+     */
+    private static final int SKILL_LOAD_BATCH_SIZE = 500;
+
+    /**
+     * Loads every coach's coordinates into the spatial index once the
+     * application has started, and again periodically so coaches created,
+     * moved or deleted through another instance are picked up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${coaches.spatial-index.refresh-ms:60000}",
+            fixedDelayString = "${coaches.spatial-index.refresh-ms:60000}")
+    public void loadSpatialIndex() {
+        Map<Integer, GeoPoint> coachLocations = new HashMap<>();
+        for (Object[] row : coachRepository.findAllCoordinates()) {
+            coachLocations.put((Integer) row[0], new GeoPoint((Double) row[1], (Double) row[2]));
+        }
+        coachSpatialIndex.rebuild(coachLocations);
+    }
+
+    /**
+     * Loads every coach's skill levels into the skill index once the
+     * application has started, and again periodically so skill changes made
+     * through another instance are picked up.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${coaches.skill-index.refresh-ms:60000}",
+            fixedDelayString = "${coaches.skill-index.refresh-ms:60000}")
+    public void loadSkillIndex() {
+        Map<Integer, Map<Integer, SkillLevel>> coachSkills = new HashMap<>();
+        for (Object[] row : coachSkillRepository.findAllSkillLevels()) {
+            coachSkills.computeIfAbsent((Integer) row[0], id -> new HashMap<>())
+                    .put((Integer) row[1], (SkillLevel) row[2]);
+        }
+        coachSkillIndex.rebuild(coachSkills);
+    }
+
+    /**
+     * Converts a list of skill DTOs into the skillId -> level map used by the
+     * skill index.
+     */
+    private Map<Integer, SkillLevel> toSkillLevelMap(List<CoachSkillDTO> skills) {
+        Map<Integer, SkillLevel> skillLevels = new HashMap<>();
+        for (CoachSkillDTO skillDTO : skills) {
+            skillLevels.put(skillDTO.getSkillId(), skillDTO.getSkillLevel());
+        }
+        return skillLevels;
+    }
 
     // -------------------------------- Create Coach ----------------------------//
     /**
@@ -77,15 +187,20 @@ public class CoachService {
             throw new IllegalArgumentException("Coach information cannot be null");
         }
 
+        // A Nominatim lookup can block for seconds, so resolve before the transaction opens
+        coach.setDisplayLocation(geocodingService.resolveDisplayLocation(coach.getLocation()));
+
+        return transactionTemplate.execute(status -> insertCoach(coach));
+    }
+
+    private CoachEntity insertCoach(CoachEntity coach) {
         // Save the coach first to get an ID
         CoachEntity savedCoach = coachRepository.save(coach);
 
         // Now handle skills if provided
         if (coach.getSkillsWithLevels() != null && !coach.getSkillsWithLevels().isEmpty()) {
             for (CoachSkillDTO skillDTO : coach.getSkillsWithLevels()) {
-                SkillEntity skill = skillRepository.findById(skillDTO.getSkillId())
-                        .orElseThrow(() -> new EntityNotFoundException(
-                                "Skill not found with id: " + skillDTO.getSkillId()));
+                SkillEntity skill = skillCatalog.require(skillDTO.getSkillId());
 
                 CoachSkillEntity coachSkill = new CoachSkillEntity();
                 coachSkill.setCoach(savedCoach);
@@ -93,8 +208,13 @@ public class CoachService {
                 coachSkill.setSkillLevel(skillDTO.getSkillLevel());
                 coachSkillRepository.save(coachSkill);
             }
+            Map<Integer, SkillLevel> skillLevels = toSkillLevelMap(coach.getSkillsWithLevels());
+            AfterCommit.run(() -> coachSkillIndex.setCoachSkills(savedCoach.getId(), skillLevels));
         }
 
+        GeoPoint location = GeoPoint.parse(savedCoach.getLocation());
+        AfterCommit.run(() -> coachSpatialIndex.put(savedCoach.getId(), location));
+
         return savedCoach;
     }
 
@@ -111,6 +231,25 @@ public class CoachService {
             throw new IllegalArgumentException("Coach information cannot be null");
         }
 
+        // A Nominatim lookup can block for seconds, so resolve before the
+        // transaction opens and only when the location actually changed
+        Object[] stored = coachRepository.findLocationByFirebaseID(coach.getFirebaseID()).stream()
+                .findFirst()
+                .orElseThrow(
+                        () -> new EntityNotFoundException("Coach not found with firebaseId: " + coach.getFirebaseID()));
+        String displayLocation = Objects.equals(stored[0], coach.getLocation()) && stored[1] != null
+                ? (String) stored[1]
+                : geocodingService.resolveDisplayLocation(coach.getLocation());
+
+        return transactionTemplate.execute(status -> writeCoach(coach, displayLocation));
+    }
+
+    /**
+     * Applies an update to the stored coach.
+     *
+     * @param displayLocation The display location for the coach's new location
+     */
+    private CoachEntity writeCoach(CoachEntity coach, String displayLocation) {
         CoachEntity existingCoach = coachRepository.findByFirebaseID(coach.getFirebaseID())
                 .orElseThrow(
                         () -> new EntityNotFoundException("Coach not found with firebaseId: " + coach.getFirebaseID()));
@@ -121,7 +260,12 @@ public class CoachService {
         existingCoach.setPhone(coach.getPhone());
         existingCoach.setBiography1(coach.getBiography1());
         existingCoach.setBiography2(coach.getBiography2());
+
+        boolean locationChanged = !Objects.equals(existingCoach.getLocation(), coach.getLocation());
         existingCoach.setLocation(coach.getLocation());
+        if (locationChanged || existingCoach.getDisplayLocation() == null) {
+            existingCoach.setDisplayLocation(displayLocation);
+        }
 
         if (coach.getProfilePic() != null) {
             existingCoach.setProfilePic(coach.getProfilePic());
@@ -135,58 +279,19 @@ public class CoachService {
 
         // --- Synchronize skillsWithLevels if provided ---
         if (coach.getSkillsWithLevels() != null) {
-            List<CoachSkillEntity> currentSkills = coachSkillRepository.findByCoachId(existingCoach.getId());
-            // Map current skills for quick lookup
-            java.util.Map<Integer, CoachSkillEntity> currentSkillMap = new java.util.HashMap<>();
-            for (CoachSkillEntity cse : currentSkills) {
-                currentSkillMap.put(cse.getSkill().getSkill_id(), cse);
-            }
-
-            // Track skill IDs from the update request
-            java.util.Set<Integer> updatedSkillIds = new java.util.HashSet<>();
-
-            // Add or update skills
-            for (CoachSkillDTO skillDTO : coach.getSkillsWithLevels()) {
-                updatedSkillIds.add(skillDTO.getSkillId());
-                CoachSkillEntity existing = currentSkillMap.get(skillDTO.getSkillId());
-                if (existing != null) {
-                    // Update skill level if changed
-                    if (!existing.getSkillLevel().equals(skillDTO.getSkillLevel())) {
-                        existing.setSkillLevel(skillDTO.getSkillLevel());
-                        coachSkillRepository.save(existing);
-                    }
-                } else {
-                    // Add new skill
-                    SkillEntity skill = skillRepository.findById(skillDTO.getSkillId())
-                            .orElseThrow(() -> new EntityNotFoundException(
-                                    "Skill not found with id: " + skillDTO.getSkillId()));
-
-                    if (existingCoach.getId() == null) {
-                        throw new IllegalStateException("Coach ID is null before saving CoachSkillEntity");
-                    }
-                    if (skill.getSkill_id() == 0) {
-                        throw new IllegalStateException("Skill ID is zero (invalid) before saving CoachSkillEntity");
-                    }
-                    CoachSkillEntity newCoachSkill = new CoachSkillEntity(existingCoach, skill,
-                            skillDTO.getSkillLevel());
-
-                    System.out.println("Saving CoachSkillEntity: coachId=" + existingCoach.getId() +
-                            ", skillId=" + skill.getSkill_id() +
-                            ", skillLevel=" + skillDTO.getSkillLevel());
-                            
-                    coachSkillRepository.save(newCoachSkill);
-                }
-            }
-
-            // Remove skills that are no longer present
-            for (CoachSkillEntity cse : currentSkills) {
-                if (!updatedSkillIds.contains(cse.getSkill().getSkill_id())) {
-                    coachSkillRepository.delete(cse);
-                }
-            }
+            Map<Integer, SkillLevel> skillLevels = toSkillLevelMap(coach.getSkillsWithLevels());
+            skillLevels.replaceAll((skillId, level) -> level != null ? level : SkillAssociationWriter.DEFAULT_LEVEL);
+            // Reject unknown skills before writing anything
+            skillLevels.keySet().forEach(skillCatalog::require);
+            skillAssociationWriter.syncCoachSkills(existingCoach.getId(), skillLevels);
+            AfterCommit.run(() -> coachSkillIndex.setCoachSkills(existingCoach.getId(), skillLevels));
         }
 
-        return coachRepository.save(existingCoach);
+        CoachEntity updatedCoach = coachRepository.save(existingCoach);
+        GeoPoint location = GeoPoint.parse(updatedCoach.getLocation());
+        AfterCommit.run(() -> coachSpatialIndex.put(updatedCoach.getId(), location));
+        populateSkillsWithLevels(updatedCoach);
+        return updatedCoach;
     }
 
     /**
@@ -207,13 +312,13 @@ public class CoachService {
 
         // Add new skills with levels
         for (CoachSkillDTO skillDTO : coachSkills) {
-            SkillEntity skill = skillRepository.findById(skillDTO.getSkillId())
-                    .orElseThrow(
-                            () -> new EntityNotFoundException("Skill not found with id: " + skillDTO.getSkillId()));
+            SkillEntity skill = skillCatalog.require(skillDTO.getSkillId());
 
             CoachSkillEntity coachSkill = new CoachSkillEntity(coach, skill, skillDTO.getSkillLevel());
             savedSkills.add(coachSkillRepository.save(coachSkill));
         }
+        Map<Integer, SkillLevel> skillLevels = toSkillLevelMap(coachSkills);
+        AfterCommit.run(() -> coachSkillIndex.setCoachSkills(coachId, skillLevels));
 
         return savedSkills;
     }
@@ -225,14 +330,7 @@ public class CoachService {
      * @return List of CoachSkillDTO objects
      */
     public List<CoachSkillDTO> getCoachSkills(Integer coachId) {
-        List<CoachSkillEntity> coachSkills = coachSkillRepository.findByCoachId(coachId);
-
-        return coachSkills.stream()
-                .map(cs -> new CoachSkillDTO(
-                        cs.getSkill().getSkill_id(),
-                        cs.getSkill().getTitle(),
-                        cs.getSkillLevel()))
-                .collect(Collectors.toList());
+        return loadSkillsWithLevels(List.of(coachId)).getOrDefault(coachId, new ArrayList<>());
     }
 
     /**
@@ -252,7 +350,9 @@ public class CoachService {
         }
 
         coachSkill.setSkillLevel(skillLevel);
-        return coachSkillRepository.save(coachSkill);
+        CoachSkillEntity savedSkill = coachSkillRepository.save(coachSkill);
+        AfterCommit.run(() -> coachSkillIndex.setSkillLevel(coachId, skillId, skillLevel));
+        return savedSkill;
     }
 
     /**
@@ -261,23 +361,54 @@ public class CoachService {
      * @param coach The coach entity to populate
      */
     private void populateSkillsWithLevels(CoachEntity coach) {
-        if (coach.getId() != null) {
-            List<CoachSkillDTO> skillsWithLevels = getCoachSkills(coach.getId());
-            coach.setSkillsWithLevels(skillsWithLevels);
-        }
+        populateSkillsWithLevelsForList(List.of(coach));
     }
 
     /**
      * Populates the skillsWithLevels transient field for a list of coaches
+     * using one query per chunk of coaches, instead of one per coach.
      * 
      * @param coaches The list of coach entities to populate
      */
     private void populateSkillsWithLevelsForList(List<CoachEntity> coaches) {
+        List<Integer> coachIds = new ArrayList<>();
         for (CoachEntity coach : coaches) {
-            populateSkillsWithLevels(coach);
+            if (coach.getId() != null) {
+                coachIds.add(coach.getId());
+            }
+        }
+
+        Map<Integer, List<CoachSkillDTO>> skillsByCoach = loadSkillsWithLevels(coachIds);
+        for (CoachEntity coach : coaches) {
+            if (coach.getId() != null) {
+                coach.setSkillsWithLevels(skillsByCoach.getOrDefault(coach.getId(), new ArrayList<>()));
+            }
         }
     }
 
+    /**
+     * Bulk loader for coach skills. Fetches Coach_Skill rows together with
+     * their skill titles for many coaches at once, chunking the IN list so
+     * large coach lists stay within database parameter limits.
+     * 
+     * @param coachIds The IDs of the coaches to load skills for
+     * @return Map of coach ID to that coach's skills with levels
+     */
+    private Map<Integer, List<CoachSkillDTO>> loadSkillsWithLevels(List<Integer> coachIds) {
+        Map<Integer, List<CoachSkillDTO>> skillsByCoach = new HashMap<>();
+        for (int start = 0; start < coachIds.size(); start += SKILL_LOAD_BATCH_SIZE) {
+            List<Integer> chunk = coachIds.subList(start, Math.min(start + SKILL_LOAD_BATCH_SIZE, coachIds.size()));
+            for (CoachSkillEntity cs : coachSkillRepository.findByCoachIdsWithSkill(chunk)) {
+                skillsByCoach.computeIfAbsent(cs.getId().getCoachId(), id -> new ArrayList<>())
+                        .add(new CoachSkillDTO(
+                                cs.getSkill().getSkill_id(),
+                                cs.getSkill().getTitle(),
+                                cs.getSkillLevel()));
+            }
+        }
+        return skillsByCoach;
+    }
+
     // -------------------------------- Get Coach By ID -------------------------//
     /**
      * Retrieves a coach by their ID.(GET)
@@ -304,21 +435,108 @@ public class CoachService {
         return coaches;
     }
 
+    // --------------------------- Nearby Coaches ----------------------------//
+    /**
+     * Retrieves the k coaches closest to a point, using the spatial index.
+     *
+     * @param origin The point to search from
+     * @param k      The maximum number of coaches to return
+     * @return List<CoachEntity> ordered by distance (closest first)
+     */
+    public List<CoachEntity> findNearestCoaches(GeoPoint origin, int k) {
+        return findCoachesInOrder(coachSpatialIndex.nearest(origin, k));
+    }
+
+    /**
+     * Retrieves every coach within a radius of a point, using the spatial index.
+     *
+     * @param origin   The point to search from
+     * @param radiusKm The search radius in kilometers
+     * @return List<CoachEntity> ordered by distance (closest first)
+     */
+    public List<CoachEntity> findCoachesWithinRadius(GeoPoint origin, double radiusKm) {
+        return findCoachesInOrder(coachSpatialIndex.withinRadius(origin, radiusKm));
+    }
+
+    /**
+     * Loads the coaches for a list of index hits in one query, preserving the
+     * hit order and skipping coaches deleted since they were indexed.
+     */
+    private List<CoachEntity> findCoachesInOrder(List<CoachSpatialIndex.Neighbor> neighbors) {
+        return findCoachesByIds(neighbors.stream().map(CoachSpatialIndex.Neighbor::coachId).collect(Collectors.toList()));
+    }
+
+    // --------------------------- Ranked Coaches ----------------------------//
+    /**
+     * Retrieves every coach's coordinates without loading the coaches, so a
+     * ranking can be scored before any entity is read.
+     *
+     * @return Map of coach ID to coordinates, null for coaches without a location
+     */
+    public Map<Integer, GeoPoint> findAllCoachLocations() {
+        Map<Integer, GeoPoint> coachLocations = new HashMap<>();
+        for (Object[] row : coachRepository.findAllIdsAndCoordinates()) {
+            GeoPoint coordinates = row[1] != null && row[2] != null
+                    ? new GeoPoint((Double) row[1], (Double) row[2])
+                    : null;
+            coachLocations.put((Integer) row[0], coordinates);
+        }
+        return coachLocations;
+    }
+
     /**
-     * Retrieves all members associated with a specific coach.
+     * Retrieves coaches by ID in one query, preserving the given order and
+     * skipping coaches that no longer exist.
+     *
+     * @param ids The IDs of the coaches to load
+     * @return List<CoachEntity> in the order of the IDs, with skills populated
+     */
+    public List<CoachEntity> findCoachesByIds(List<Integer> ids) {
+        Map<Integer, CoachEntity> coachesById = new HashMap<>();
+        for (CoachEntity coach : coachRepository.findAllById(ids)) {
+            coachesById.put(coach.getId(), coach);
+        }
+
+        List<CoachEntity> coaches = new ArrayList<>();
+        for (Integer id : ids) {
+            CoachEntity coach = coachesById.get(id);
+            if (coach != null) {
+                coaches.add(coach);
+            }
+        }
+        populateSkillsWithLevelsForList(coaches);
+        return coaches;
+    }
+
+    /**
+     * Retrieves one page of the members associated with a specific coach,
+     * as cards. Only the card columns are read, in a single query.
      * 
      * @param coachId The unique identifier of the coach
-     * @return List of MemberInfoEntity objects associated with the coach, or empty
-     *         list if none found
+     * @param page    The zero-based page number
+     * @param size    The page size (1 to ProfileCardDTO.MAX_PAGE_SIZE)
+     * @return List of member cards ordered by member ID
      * @throws EntityNotFoundException if the coach with the given ID doesn't exist
+     * @throws IllegalArgumentException if the page or size is out of range
      */
-    public List<MemberInfoEntity> getCoachMembers(Integer id) {
-        CoachEntity coach = coachRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Coach not found with id: " + id));
+    public List<ProfileCardDTO> getCoachMemberCards(Integer coachId, int page, int size) {
+        if (page < 0 || size < 1 || size > ProfileCardDTO.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + ProfileCardDTO.MAX_PAGE_SIZE);
+        }
+        if (!coachRepository.existsById(coachId)) {
+            throw new EntityNotFoundException("Coach not found with id: " + coachId);
+        }
+        return memberCoachRepository.findMemberCardsByCoachId(coachId, PageRequest.of(page, size));
+    }
 
-        // The members are already loaded via the @ManyToMany relationship
-        // Just return the list from the entity
-        return coach.getMembers();
+    /**
+     * Counts the members associated with a specific coach.
+     * 
+     * @param coachId The unique identifier of the coach
+     * @return The number of members
+     */
+    public long countCoachMembers(Integer coachId) {
+        return memberCoachRepository.countByCoachId(coachId);
     }
 
     // --------------------------------- Delete Coach ----------------------------//
@@ -334,53 +552,12 @@ public class CoachService {
             throw new EntityNotFoundException("Coach not found with id: " + id);
         }
 
-        // Run deletes in a safe order to avoid FK constraint violations.
-        // Use native queries to ensure we remove DB rows that reference the coach.
-        performSafeCoachDeletion(id);
+        // Same FK-safe native deletes as the bulk purge, in one transaction
+        coachPurgeService.purgeChunk(List.of(id));
 
         return "Coach with ID: " + id + " has been successfully deleted";
     }
 
-        @Transactional
-        protected void performSafeCoachDeletion(Integer id) {
-        // Delete member-coach relationships
-        entityManager.createNativeQuery("DELETE FROM Member_Coach WHERE Coach_ID = :id")
-            .setParameter("id", id)
-            .executeUpdate();
-
-        // Delete coach job titles (if present)
-        entityManager.createNativeQuery("DELETE FROM Coach_Job_Title WHERE Coach_ID = :id")
-            .setParameter("id", id)
-            .executeUpdate();
-
-        // Delete sessions referencing this coach
-        entityManager.createNativeQuery("DELETE FROM Session WHERE Coach_ID = :id")
-            .setParameter("id", id)
-            .executeUpdate();
-
-        // Delete session requests where coach is sender or receiver
-        entityManager.createNativeQuery(
-                "DELETE FROM Session_Request WHERE (Sender_Type='COACH' AND Sender_ID = :id) OR (Receiver_Type='COACH' AND Receiver_ID = :id)")
-            .setParameter("id", id)
-            .executeUpdate();
-
-        // Delete connection requests where coach is sender or receiver
-        entityManager.createNativeQuery(
-                "DELETE FROM Connection_Request WHERE (Sender_Type='COACH' AND Sender_ID = :id) OR (Receiver_Type='COACH' AND Receiver_ID = :id)")
-            .setParameter("id", id)
-            .executeUpdate();
-
-        // Delete coach-skill relationships
-        entityManager.createNativeQuery("DELETE FROM Coach_Skill WHERE Coach_ID = :id")
-            .setParameter("id", id)
-            .executeUpdate();
-
-        // Finally delete the coach
-        entityManager.createNativeQuery("DELETE FROM Coach WHERE Coach_ID = :id")
-            .setParameter("id", id)
-            .executeUpdate();
-        }
-
     // -----------------------Get Coach By Firebase ID---------------------//
     /**
      * Retrieves a coach by their Firebase ID with skill levels.(GET)
@@ -405,13 +582,7 @@ public class CoachService {
      * @return List of CoachEntity objects that meet the criteria
      */
     public List<CoachEntity> findCoachesBySkillAndLevel(Integer skillId, SkillLevel minSkillLevel) {
-        List<CoachSkillEntity> coachSkills = coachSkillRepository.findBySkillId(skillId);
-
-        return coachSkills.stream()
-                .filter(cs -> isSkillLevelAtLeast(cs.getSkillLevel(), minSkillLevel))
-                .map(CoachSkillEntity::getCoach)
-                .distinct()
-                .collect(Collectors.toList());
+        return findCoachesByIds(coachSkillIndex.coachesWithSkill(skillId, minSkillLevel));
     }
 
     /**
@@ -428,33 +599,24 @@ public class CoachService {
             throw new IllegalArgumentException("Skill IDs and skill levels lists must have the same size");
         }
 
-        List<CoachEntity> qualifiedCoaches = new ArrayList<>();
-
-        for (int i = 0; i < skillIds.size(); i++) {
-            List<CoachEntity> coachesForSkill = findCoachesBySkillAndLevel(skillIds.get(i), minSkillLevels.get(i));
-
-            if (i == 0) {
-                qualifiedCoaches.addAll(coachesForSkill);
-            } else {
-                // Keep only coaches that appear in both lists (intersection)
-                qualifiedCoaches.retainAll(coachesForSkill);
-            }
-        }
-
-        return qualifiedCoaches;
+        // Intersection of the per-skill bitmaps from the skill index
+        return findCoachesByIds(coachSkillIndex.coachesWithAllSkills(skillIds, minSkillLevels));
     }
 
     /**
-     * Helper method to check if a skill level meets the minimum requirement.
+     * Loads the coaches in a bitmap of coach IDs with a single query.
      * 
-     * @param actualLevel The actual skill level
-     * @param minLevel    The minimum required skill level
-     * @return true if actualLevel >= minLevel
-     */
-    private boolean isSkillLevelAtLeast(SkillLevel actualLevel, SkillLevel minLevel) {
-        int actualOrdinal = actualLevel.ordinal();
-        int minOrdinal = minLevel.ordinal();
-        return actualOrdinal >= minOrdinal;
+     * @param coachIds BitSet of coach IDs
+     * @return List of CoachEntity objects ordered by ID
+     */
+    private List<CoachEntity> findCoachesByIds(BitSet coachIds) {
+        if (coachIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        List<Integer> ids = coachIds.stream().boxed().collect(Collectors.toList());
+        List<CoachEntity> coaches = new ArrayList<>(coachRepository.findAllById(ids));
+        coaches.sort(Comparator.comparing(CoachEntity::getId));
+        return coaches;
     }
 
     /**
@@ -464,7 +626,14 @@ public class CoachService {
      * @return Map where key is SkillLevel and value is List of CoachEntity
      */
     public java.util.Map<SkillLevel, List<CoachEntity>> getCoachesGroupedBySkillLevel(Integer skillId) {
-        List<CoachSkillEntity> coachSkills = coachSkillRepository.findBySkillId(skillId);
+        List<CoachSkillEntity> coachSkills = coachSkillRepository.findBySkillIdWithCoach(skillId);
+
+        // Dedupe by ID; Lombok equals/hashCode would touch the lazy collections
+        Map<Integer, CoachEntity> coachesById = new LinkedHashMap<>();
+        for (CoachSkillEntity cs : coachSkills) {
+            coachesById.putIfAbsent(cs.getCoach().getId(), cs.getCoach());
+        }
+        populateSkillsWithLevelsForList(new ArrayList<>(coachesById.values()));
 
         return coachSkills.stream()
                 .collect(Collectors.groupingBy(
@@ -28,4 +28,15 @@ public interface CoachSkillRepository extends JpaRepository<CoachSkillEntity, Co
     
     @Query("SELECT cs FROM CoachSkillEntity cs WHERE cs.skill.skill_id IN :skillIds AND cs.skillLevel IN :skillLevels")
     List<CoachSkillEntity> findBySkillIdsAndSkillLevels(@Param("skillIds") List<Integer> skillIds, @Param("skillLevels") List<SkillLevel> skillLevels);
+
+    // Fetches the skill in the same query so titles do not trigger a lazy load per row
+    @Query("SELECT cs FROM CoachSkillEntity cs JOIN FETCH cs.skill WHERE cs.coach.id IN :coachIds")
+    List<CoachSkillEntity> findByCoachIdsWithSkill(@Param("coachIds") List<Integer> coachIds);
+
+    @Query("SELECT cs FROM CoachSkillEntity cs JOIN FETCH cs.coach WHERE cs.skill.skill_id = :skillId")
+    List<CoachSkillEntity> findBySkillIdWithCoach(@Param("skillId") Integer skillId);
+
+    // Each row is [coachId, skillId, skillLevel]; used to build the in-memory skill index
+    @Query("SELECT cs.coach.id, cs.skill.skill_id, cs.skillLevel FROM CoachSkillEntity cs")
+    List<Object[]> findAllSkillLevels();
 }
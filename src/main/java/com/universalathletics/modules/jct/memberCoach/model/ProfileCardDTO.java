@@ -0,0 +1,37 @@
+package com.universalathletics.modules.jct.memberCoach.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Used to model the card shown for each coach or member in a relationship
+ * list. Only the columns the card needs are selected, so listing a coach's
+ * members or a member's coaches never loads full profiles.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProfileCardDTO {
+
+    /**
+     * Largest page of cards a relationship list endpoint returns
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private Integer id;
+    private String firebaseID;
+    private String firstName;
+    private String lastName;
+
+    /**
+     * Storage key of the profile picture; controllers replace it with a
+     * signed URL
+     */
+    private String profilePic;
+
+    /**
+     * The "City, State" resolved when the profile was written
+     */
+    private String location;
+}
@@ -1,9 +1,15 @@
 package com.universalathletics.modules.jct.memberCoach.repository;
 
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import com.universalathletics.modules.jct.memberCoach.entity.MemberCoachEntity;
 import com.universalathletics.modules.jct.memberCoach.entity.MemberCoachId;
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
 
 @Repository
 public interface MemberCoachRepository extends JpaRepository<MemberCoachEntity, MemberCoachId> {
@@ -16,5 +22,36 @@ public interface MemberCoachRepository extends JpaRepository<MemberCoachEntity,
      * @return true if the relationship exists, false otherwise
      */
     boolean existsByMemberIdAndCoachId(Integer memberId, Integer coachId);
-}
 
+    /**
+     * Find one page of the cards of a coach's members, in member ID order.
+     * A card shows the raw location until its display location is filled in.
+     * 
+     * @param coachId The coach ID
+     * @param pageable The page to fetch
+     * @return The member cards on that page
+     */
+    @Query("SELECT new com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO("
+        + "m.id, m.firebaseID, m.firstName, m.lastName, m.profilePic, COALESCE(m.displayLocation, m.location)) "
+        + "FROM MemberCoachEntity mc JOIN MemberInfoEntity m ON m.id = mc.memberId "
+        + "WHERE mc.coachId = :coachId ORDER BY m.id")
+    List<ProfileCardDTO> findMemberCardsByCoachId(@Param("coachId") Integer coachId, Pageable pageable);
+
+    /**
+     * Find one page of the cards of a member's coaches, in coach ID order.
+     * A card shows the raw location until its display location is filled in.
+     * 
+     * @param memberId The member ID
+     * @param pageable The page to fetch
+     * @return The coach cards on that page
+     */
+    @Query("SELECT new com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO("
+        + "c.id, c.firebaseID, c.firstName, c.lastName, c.profilePic, COALESCE(c.displayLocation, c.location)) "
+        + "FROM MemberCoachEntity mc JOIN CoachEntity c ON c.id = mc.coachId "
+        + "WHERE mc.memberId = :memberId ORDER BY c.id")
+    List<ProfileCardDTO> findCoachCardsByMemberId(@Param("memberId") Integer memberId, Pageable pageable);
+
+    long countByCoachId(Integer coachId);
+
+    long countByMemberId(Integer memberId);
+}
@@ -0,0 +1,182 @@
+package com.universalathletics.modules.jct.repository;
+
+//------------------------------- imports ------------------------------------//
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.universalathletics.modules.jct.coachSkill.SkillLevel;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+//--------------------- Skill Association Writer Class -----------------------//
+/**
+ * Writes the Coach_Skill and Member_Skill junction tables as a set difference.
+ *
+ * The current rows are read with one query, compared with the desired skills,
+ * and only the difference is written: one multi-row INSERT for added skills,
+ * one DELETE ... IN for removed skills and, for coaches, one UPDATE ... CASE
+ * for changed levels. A profile save therefore costs at most four statements
+ * regardless of how many skills it carries, and untouched rows are left alone.
+ *
+ * These writes bypass the persistence context, so callers must not also
+ * modify the corresponding JPA collections in the same unit of work.
+ */
+@Repository
+public class SkillAssociationWriter {
+
+    /**
+     * Level stored when a coach skill is submitted without one; matches the
+     * CoachSkillEntity default.
+     */
+    public static final SkillLevel DEFAULT_LEVEL = SkillLevel.INTERMEDIATE;
+
+    /**
+     * The difference between stored and desired skills.
+     *
+     * @param added   Skill ID -> level for skills to insert
+     * @param removed Skill IDs to delete
+     * @param changed Skill ID -> new level for skills whose level changed
+     */
+    public record SkillDelta(Map<Integer, SkillLevel> added, Set<Integer> removed, Map<Integer, SkillLevel> changed) {
+
+        public boolean isEmpty() {
+            return added.isEmpty() && removed.isEmpty() && changed.isEmpty();
+        }
+
+        /**
+         * Computes the delta between two skill maps.
+         *
+         * @param current Skill ID -> level currently stored
+         * @param desired Skill ID -> level that should be stored
+         * @return The delta to apply
+         */
+        public static SkillDelta between(Map<Integer, SkillLevel> current, Map<Integer, SkillLevel> desired) {
+            Map<Integer, SkillLevel> added = new HashMap<>();
+            Map<Integer, SkillLevel> changed = new HashMap<>();
+            for (Map.Entry<Integer, SkillLevel> entry : desired.entrySet()) {
+                SkillLevel stored = current.get(entry.getKey());
+                if (!current.containsKey(entry.getKey())) {
+                    added.put(entry.getKey(), entry.getValue());
+                } else if (stored != entry.getValue()) {
+                    changed.put(entry.getKey(), entry.getValue());
+                }
+            }
+            Set<Integer> removed = new HashSet<>(current.keySet());
+            removed.removeAll(desired.keySet());
+            return new SkillDelta(added, removed, changed);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // ------------------------------ Coach Skills ----------------------------//
+    /**
+     * Makes a coach's Coach_Skill rows match the desired skills.
+     *
+     * @param coachId The ID of the coach
+     * @param desired Skill ID -> level; a null level is stored as the default
+     * @return The delta that was applied
+     */
+    public SkillDelta syncCoachSkills(int coachId, Map<Integer, SkillLevel> desired) {
+        Map<Integer, SkillLevel> normalized = new HashMap<>();
+        desired.forEach((skillId, level) -> normalized.put(skillId, level != null ? level : DEFAULT_LEVEL));
+
+        Map<Integer, SkillLevel> current = new HashMap<>();
+        jdbcTemplate.query("SELECT Skill_ID, Skill_Level FROM Coach_Skill WHERE Coach_ID = ?",
+            rs -> {
+                current.put(rs.getInt(1), SkillLevel.valueOf(rs.getString(2)));
+            },
+            coachId);
+
+        SkillDelta delta = SkillDelta.between(current, normalized);
+        if (!delta.added().isEmpty()) {
+            List<Object> args = new ArrayList<>();
+            delta.added().forEach((skillId, level) -> {
+                args.add(coachId);
+                args.add(skillId);
+                args.add(level.name());
+            });
+            jdbcTemplate.update("INSERT INTO Coach_Skill (Coach_ID, Skill_ID, Skill_Level) VALUES "
+                + repeat("(?, ?, ?)", delta.added().size()), args.toArray());
+        }
+        if (!delta.removed().isEmpty()) {
+            deleteSkills("Coach_Skill", "Coach_ID", coachId, delta.removed());
+        }
+        if (!delta.changed().isEmpty()) {
+            List<Object> args = new ArrayList<>();
+            StringBuilder cases = new StringBuilder();
+            delta.changed().forEach((skillId, level) -> {
+                cases.append(" WHEN ? THEN ?");
+                args.add(skillId);
+                args.add(level.name());
+            });
+            args.add(coachId);
+            args.addAll(delta.changed().keySet());
+            jdbcTemplate.update("UPDATE Coach_Skill SET Skill_Level = CASE Skill_ID" + cases
+                + " END WHERE Coach_ID = ? AND Skill_ID IN (" + placeholders(delta.changed().size()) + ")",
+                args.toArray());
+        }
+        return delta;
+    }
+
+    // ------------------------------ Member Skills ---------------------------//
+    /**
+     * Makes a member's Member_Skill rows match the desired skills.
+     *
+     * @param memberId The ID of the member
+     * @param desired  Skill IDs the member should have
+     * @return The delta that was applied (levels are always null for members)
+     */
+    public SkillDelta syncMemberSkills(int memberId, Collection<Integer> desired) {
+        Map<Integer, SkillLevel> current = new HashMap<>();
+        jdbcTemplate.query("SELECT Skill_ID FROM Member_Skill WHERE Member_ID = ?",
+            rs -> {
+                current.put(rs.getInt(1), null);
+            },
+            memberId);
+
+        Map<Integer, SkillLevel> wanted = new HashMap<>();
+        desired.forEach(skillId -> wanted.put(skillId, null));
+
+        SkillDelta delta = SkillDelta.between(current, wanted);
+        if (!delta.added().isEmpty()) {
+            List<Object> args = new ArrayList<>();
+            for (Integer skillId : delta.added().keySet()) {
+                args.add(memberId);
+                args.add(skillId);
+            }
+            jdbcTemplate.update("INSERT INTO Member_Skill (Member_ID, Skill_ID) VALUES "
+                + repeat("(?, ?)", delta.added().size()), args.toArray());
+        }
+        if (!delta.removed().isEmpty()) {
+            deleteSkills("Member_Skill", "Member_ID", memberId, delta.removed());
+        }
+        return delta;
+    }
+
+    // ------------------------------- Helpers -------------------------------//
+    private void deleteSkills(String table, String ownerColumn, int ownerId, Set<Integer> skillIds) {
+        List<Object> args = new ArrayList<>();
+        args.add(ownerId);
+        args.addAll(skillIds);
+        jdbcTemplate.update("DELETE FROM " + table + " WHERE " + ownerColumn + " = ? AND Skill_ID IN ("
+            + placeholders(skillIds.size()) + ")", args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    private static String repeat(String tuple, int count) {
+        return String.join(", ", Collections.nCopies(count, tuple));
+    }
+}
@@ -14,7 +14,7 @@ import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
-import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
 import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
 import com.universalathletics.modules.memberInfo.service.MemberInfoService;
 import com.universalathletics.modules.skill.entity.SkillEntity;
@@ -52,6 +52,16 @@ public class MemberInfoController {
     @Autowired
     private GoogleCloudStorageService storageService;
 
+    /**
+     * Default page size for the member's coaches list.
+     */
+    private static final int DEFAULT_RELATIONSHIP_PAGE_SIZE = 50;
+
+    /**
+     * Response header carrying the total size of a paged list, when requested.
+     */
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
+
 
     /**
      * Creates a new member in the system.
@@ -148,12 +158,7 @@ public class MemberInfoController {
     public ResponseEntity<List<MemberInfoEntity>> getAllMembers() throws IOException {
         try {
             List<MemberInfoEntity> members = memberInfoService.findAllMembers();
-            for (MemberInfoEntity member : members) {
-                if (member.getProfilePic() != null) {
-                    String signedUrl = storageService.getSignedFileUrl(member.getProfilePic());
-                    member.setProfilePic(signedUrl);
-                }
-            }
+            storageService.signInPlace(members, MemberInfoEntity::getProfilePic, MemberInfoEntity::setProfilePic);
             return new ResponseEntity<>(members, HttpStatus.OK);
         } catch (Exception e) {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -179,22 +184,32 @@ public class MemberInfoController {
     }
 
     /**
-     * Endpoint to retrieve all coaches associated with a specific member.
+     * Endpoint to retrieve one page of the coaches associated with a specific
+     * member, as cards (IDs, names, signed profile picture and location).
      * 
-    * @param memberId The unique identifier of the member
-    * @return ResponseEntity containing a list of coaches or appropriate error response
-    */
+     * @param memberId      The unique identifier of the member
+     * @param page         The zero-based page number
+     * @param size         The page size (1 to ProfileCardDTO.MAX_PAGE_SIZE)
+     * @param includeTotal Whether to also count all coaches into the X-Total-Count header
+     * @return ResponseEntity containing a list of coache cards, 400 for an
+     *         invalid page, or 404 if the member doesn't exist
+     */
     @GetMapping("/{memberId}/coaches")
-    public ResponseEntity<List<CoachEntity>> getMemberCoaches(@PathVariable Integer memberId) {
+    public ResponseEntity<List<ProfileCardDTO>> getMemberCoaches(
+            @PathVariable Integer memberId,
+            @RequestParam(value = "page", defaultValue = "0") int page,
+            @RequestParam(value = "size", defaultValue = "" + DEFAULT_RELATIONSHIP_PAGE_SIZE) int size,
+            @RequestParam(value = "includeTotal", defaultValue = "false") boolean includeTotal) {
         try {
-            List<CoachEntity> coaches = memberInfoService.getMemberCoaches(memberId);
-            for (CoachEntity coach : coaches) {
-                if (coach.getProfilePic() != null) {
-                    String signedUrl = storageService.getSignedFileUrl(coach.getProfilePic());
-                    coach.setProfilePic(signedUrl);
-                }
+            List<ProfileCardDTO> cards = memberInfoService.getMemberCoachCards(memberId, page, size);
+            storageService.signInPlace(cards, ProfileCardDTO::getProfilePic, ProfileCardDTO::setProfilePic);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (includeTotal) {
+                response.header(TOTAL_COUNT_HEADER, String.valueOf(memberInfoService.countMemberCoaches(memberId)));
             }
-            return ResponseEntity.ok(coaches);
+            return response.body(cards);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
         } catch (EntityNotFoundException e) {
             return ResponseEntity.notFound().build();
         } catch (Exception e) {
@@ -8,9 +8,11 @@ import lombok.AllArgsConstructor;
 import java.util.List;
 // This import is crucial for handling the JSON serialization of bidirectional relationships
 // It prevents infinite recursion when converting to JSON
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import com.universalathletics.modules.coach.entity.CoachEntity;
 import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.service.geocoding.model.GeoPoint;
 
 //--------------------- MemberInfo Entity Class ------------------------------//
 /**
@@ -85,6 +87,19 @@ public class MemberInfoEntity {
   @Column(name = "Location")
   private String location;
 
+  /**
+   * Member's coordinates, parsed from location whenever the member is written.
+   */
+  @Embedded
+  private GeoPoint coordinates;
+
+  /**
+   * Human-readable "City, State" for the location, resolved once when the
+   * member is written (or later by the backfill job).
+   */
+  @Column(name = "Display_Location")
+  private String displayLocation;
+
   /**
    * Member's unique authentication token.
    */
@@ -108,9 +123,20 @@ public class MemberInfoEntity {
   @JoinTable(name = "Member_Coach",
   joinColumns = @JoinColumn(name = "Member_ID", referencedColumnName = "Member_ID"),
   inverseJoinColumns = @JoinColumn(name = "Coach_ID", referencedColumnName = "Coach_ID"))
-  @JsonIgnoreProperties("members")
+  // Not serialized; clients page through GET /api/members/{memberId}/coaches
+  @JsonIgnore
   private List<CoachEntity> coaches; // Renamed from skill to skills to match getter/setter
   
+  /**
+   * Keeps the numeric coordinates in sync with the location string so
+   * readers never have to parse it.
+   */
+  @PrePersist
+  @PreUpdate
+  protected void syncCoordinates() {
+    this.coordinates = GeoPoint.parse(this.location);
+  }
+
   /**
    * Getter used by MemberInfoService to get the attached skills of a certain
    * member
@@ -1,9 +1,17 @@
 package com.universalathletics.modules.memberInfo.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
 
@@ -24,4 +32,57 @@ public interface MemberInfoRepository extends JpaRepository<MemberInfoEntity, In
      * Find a member by their firebaseID
      */
     Optional<MemberInfoEntity> findByFirebaseID(String firebaseID);
+
+    /**
+     * Read a member's location and display location without loading the
+     * entity. The row is [location, displayLocation]; the list is empty if
+     * there is no such member.
+     */
+    @Query("SELECT m.location, m.displayLocation FROM MemberInfoEntity m WHERE m.firebaseID = :firebaseID")
+    List<Object[]> findLocationByFirebaseID(@Param("firebaseID") String firebaseID);
+
+    /**
+     * Find a member by their firebaseID with their skills fetched in the same
+     * query, for responses rendered after the transaction has ended
+     */
+    @EntityGraph(attributePaths = "skills")
+    Optional<MemberInfoEntity> findWithSkillsByFirebaseID(String firebaseID);
+
+    /**
+     * Find all members with their skills fetched in the same query
+     */
+    @EntityGraph(attributePaths = "skills")
+    @Query("SELECT m FROM MemberInfoEntity m")
+    List<MemberInfoEntity> findAllWithSkills();
+
+    /**
+     * Find members with coordinates but no display location, in ID order after
+     * a cursor. Each row is [memberId, latitude, longitude].
+     */
+    @Query("SELECT m.id, m.coordinates.latitude, m.coordinates.longitude FROM MemberInfoEntity m "
+        + "WHERE m.displayLocation IS NULL AND m.coordinates.latitude IS NOT NULL "
+        + "AND m.coordinates.longitude IS NOT NULL AND m.id > :afterId ORDER BY m.id")
+    List<Object[]> findMissingDisplayLocation(@Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Fill in the display location of a member without loading the entity.
+     * A display location written in the meantime, e.g. by an update, is kept.
+     *
+     * @return Number of rows affected
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE MemberInfoEntity m SET m.displayLocation = :displayLocation "
+        + "WHERE m.id = :memberId AND m.displayLocation IS NULL")
+    int updateDisplayLocation(@Param("memberId") Integer memberId, @Param("displayLocation") String displayLocation);
+
+    /**
+     * Lock the rows of the given members, in ID order, until the transaction
+     * ends. Serializes booking checks for the same member.
+     *
+     * @return IDs of the locked members
+     */
+    @Query(value = "SELECT Member_ID FROM Member_Info WHERE Member_ID IN (:memberIds) ORDER BY Member_ID FOR UPDATE",
+        nativeQuery = true)
+    List<Integer> lockByIds(@Param("memberIds") Collection<Integer> memberIds);
 }
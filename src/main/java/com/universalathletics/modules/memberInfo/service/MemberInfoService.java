@@ -1,18 +1,26 @@
 package com.universalathletics.modules.memberInfo.service;
 
 //------------------------------- imports ------------------------------------//
+import org.hibernate.Hibernate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
+import com.universalathletics.modules.jct.memberCoach.repository.MemberCoachRepository;
+import com.universalathletics.modules.jct.repository.SkillAssociationWriter;
 import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
 import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
 import com.universalathletics.modules.skill.entity.SkillEntity;
-import com.universalathletics.modules.skill.repository.SkillRepository;
+import com.universalathletics.modules.skill.service.SkillCatalog;
+import com.universalathletics.service.geocoding.GeocodingService;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Optional;
+import java.util.Objects;
+import java.util.Set;
 
 import jakarta.persistence.EntityNotFoundException;
 
@@ -40,10 +48,38 @@ public class MemberInfoService {
     private MemberInfoRepository memberInfoRepository;
 
     /**
-     * Autowired instance of SkillRepository for database operations.
+     * Shared in-memory skill catalog, used to validate submitted skills
+     * without a query per skill.
      */
     @Autowired
-    private SkillRepository skillRepository;
+    private SkillCatalog skillCatalog;
+
+    /**
+     * Reads the Member_Coach relationship lists as paged card projections.
+     */
+    @Autowired
+    private MemberCoachRepository memberCoachRepository;
+
+    /**
+     * Writes Member_Skill changes as a set difference instead of replacing
+     * the whole collection.
+     */
+    @Autowired
+    private SkillAssociationWriter skillAssociationWriter;
+
+    /**
+     * Autowired instance of GeocodingService, used to resolve the display
+     * location once when a member is written.
+     */
+    @Autowired
+    private GeocodingService geocodingService;
+
+    /**
+     * Runs the writes of updateMember, so the reverse geocoding that precedes
+     * them happens outside the transaction.
+     */
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
     // -------------------------------- Create Member ----------------------------//
     /**
@@ -64,21 +100,15 @@ public class MemberInfoService {
         // Ensure skills are managed before saving member
         if (memberInfo.getSkills() != null) {
             for (SkillEntity skill : memberInfo.getSkills()) {
-                // Check if the skill exists in the repository
-                Optional<SkillEntity> existingSkill = skillRepository.findById(skill.getSkill_id());
-
-                if (existingSkill.isPresent()) {
-                    // If the skill exists, add it to the validSkills list
-                    validSkills.add(existingSkill.get());
-                } else {
-                    // If the skill does not exist, throw an exception
-                    throw new EntityNotFoundException("Skill not found with id: " + skill.getSkill_id());
-                }
+                // Throws EntityNotFoundException if the skill does not exist
+                validSkills.add(skillCatalog.require(skill.getSkill_id()));
             }
             // Set the valid skills to the member
             memberInfo.setSkills(validSkills);
         }
 
+        memberInfo.setDisplayLocation(geocodingService.resolveDisplayLocation(memberInfo.getLocation()));
+
         return memberInfoRepository.save(memberInfo);
     }
 
@@ -95,6 +125,24 @@ public class MemberInfoService {
             throw new IllegalArgumentException("Member information cannot be null");
         }
 
+        // A Nominatim lookup can block for seconds, so resolve before the
+        // transaction opens and only when the location actually changed
+        Object[] stored = memberInfoRepository.findLocationByFirebaseID(memberInfo.getFirebaseID()).stream()
+            .findFirst()
+            .orElseThrow(() -> new EntityNotFoundException("Member not found with firebaseId: " + memberInfo.getFirebaseID()));
+        String displayLocation = Objects.equals(stored[0], memberInfo.getLocation()) && stored[1] != null
+            ? (String) stored[1]
+            : geocodingService.resolveDisplayLocation(memberInfo.getLocation());
+
+        return transactionTemplate.execute(status -> writeMember(memberInfo, displayLocation));
+    }
+
+    /**
+     * Applies an update to the stored member.
+     *
+     * @param displayLocation The display location for the member's new location
+     */
+    private MemberInfoEntity writeMember(MemberInfoEntity memberInfo, String displayLocation) {
         MemberInfoEntity existingMember = memberInfoRepository.findByFirebaseID(memberInfo.getFirebaseID())
             .orElseThrow(() -> new EntityNotFoundException("Member not found with firebaseId: " + memberInfo.getFirebaseID()));
 
@@ -103,23 +151,33 @@ public class MemberInfoService {
         existingMember.setEmail(memberInfo.getEmail());
         existingMember.setPhone(memberInfo.getPhone());
         existingMember.setBiography(memberInfo.getBiography());
+
+        boolean locationChanged = !Objects.equals(existingMember.getLocation(), memberInfo.getLocation());
         existingMember.setLocation(memberInfo.getLocation());
+        if (locationChanged || existingMember.getDisplayLocation() == null) {
+            existingMember.setDisplayLocation(displayLocation);
+        }
 
         if (memberInfo.getProfilePic() != null) {
             existingMember.setProfilePic(memberInfo.getProfilePic());
         }
 
         // --- Update skills if provided ---
+        // Only the difference is written, and the skills collection is left
+        // untouched so Hibernate does not also rewrite the whole Member_Skill bag
         if (memberInfo.getSkills() != null) {
-            List<SkillEntity> validSkills = new ArrayList<>();
+            Set<Integer> validSkillIds = new LinkedHashSet<>();
             for (SkillEntity skill : memberInfo.getSkills()) {
-                skillRepository.findById(skill.getSkill_id())
-                    .ifPresent(validSkills::add);
+                skillCatalog.find(skill.getSkill_id())
+                    .ifPresent(validSkill -> validSkillIds.add(validSkill.getSkill_id()));
             }
-            existingMember.setSkills(validSkills);
+            skillAssociationWriter.syncMemberSkills(existingMember.getId(), validSkillIds);
         }
 
-        return memberInfoRepository.save(existingMember);
+        MemberInfoEntity updatedMember = memberInfoRepository.save(existingMember);
+        // Load the skills now, after the sync, so the response shows what was stored
+        Hibernate.initialize(updatedMember.getSkills());
+        return updatedMember;
     }
 
     // -------------------------------- Get Member By ID -------------------------//
@@ -138,43 +196,58 @@ public class MemberInfoService {
     // --------------------------------- Get All Members
     // --------------------------//
     /**
-     * Retrieves all members from the database.(GET)
+     * Retrieves all members from the database with their skills.(GET)
      *
      * @return List<MemberInfoEntity> containing all members
      */
     public List<MemberInfoEntity> findAllMembers() {
-        return memberInfoRepository.findAll();
+        return memberInfoRepository.findAllWithSkills();
     }
 
     // --------------------------------- Get Member By Firebase Id
     // ----------------------------//
     /**
-     * Retrieves a member by their Firebase ID.(GET)
+     * Retrieves a member by their Firebase ID with their skills.(GET)
      *  
      * @param firebaseId The Firebase ID of the member to find
      * @return MemberInfoEntity if found
      * @throws EntityNotFoundException if member not found
      */
     public MemberInfoEntity findMemberByFirebaseId(String firebaseId) {
-        return memberInfoRepository.findByFirebaseID(firebaseId)
+        return memberInfoRepository.findWithSkillsByFirebaseID(firebaseId)
                 .orElseThrow(() -> new EntityNotFoundException("Member not found with firebaseId: " + firebaseId));
     }
 
 
     /**
-     * Retrieves all coaches associated with a specific member.
+     * Retrieves one page of the coaches associated with a specific member,
+     * as cards. Only the card columns are read, in a single query.
      * 
      * @param memberId The unique identifier of the member
-     * @return List of CoachEntity objects associated with the member, or empty list if none found
+     * @param page     The zero-based page number
+     * @param size     The page size (1 to ProfileCardDTO.MAX_PAGE_SIZE)
+     * @return List of coach cards ordered by coach ID
      * @throws EntityNotFoundException if the member with the given ID doesn't exist
+     * @throws IllegalArgumentException if the page or size is out of range
+     */
+    public List<ProfileCardDTO> getMemberCoachCards(Integer memberId, int page, int size) {
+        if (page < 0 || size < 1 || size > ProfileCardDTO.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("page must be >= 0 and size between 1 and " + ProfileCardDTO.MAX_PAGE_SIZE);
+        }
+        if (!memberInfoRepository.existsById(memberId)) {
+            throw new EntityNotFoundException("Member not found with id: " + memberId);
+        }
+        return memberCoachRepository.findCoachCardsByMemberId(memberId, PageRequest.of(page, size));
+    }
+
+    /**
+     * Counts the coaches associated with a specific member.
+     * 
+     * @param memberId The unique identifier of the member
+     * @return The number of coaches
      */
-    public List<CoachEntity> getMemberCoaches(Integer id) {
-        MemberInfoEntity member = memberInfoRepository.findById(id)
-            .orElseThrow(() -> new EntityNotFoundException("Member not found with id: " + id));
-        
-        // The coaches are already loaded via the @ManyToMany relationship
-        // Just return the list from the entity
-        return member.getCoaches();
+    public long countMemberCoaches(Integer memberId) {
+        return memberCoachRepository.countByMemberId(memberId);
     }
 
     
@@ -0,0 +1,86 @@
+package com.universalathletics.modules.requests.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+/**
+ * Columns shared by the request archive tables.
+ * Archived rows keep their original Request_ID and are only ever written by
+ * RequestArchiveService, so there is no ID generation here.
+ */
+@MappedSuperclass
+@Data
+@NoArgsConstructor
+public abstract class ArchivedRequestEntity {
+
+    /**
+     * The request's original ID.
+     */
+    @Id
+    @Column(name = "Request_ID")
+    private Integer id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Sender_Type", nullable = false)
+    private UserType senderType;
+
+    @Column(name = "Sender_ID", nullable = false)
+    private Integer senderId;
+
+    @Column(name = "Sender_Firebase_ID", length = 100)
+    private String senderFirebaseId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Receiver_Type", nullable = false)
+    private UserType receiverType;
+
+    @Column(name = "Receiver_ID", nullable = false)
+    private Integer receiverId;
+
+    @Column(name = "Receiver_Firebase_ID", length = 100)
+    private String receiverFirebaseId;
+
+    @Column(name = "Sender_First_Name", length = 30)
+    private String senderFirstName;
+
+    @Column(name = "Sender_Last_Name", length = 30)
+    private String senderLastName;
+
+    @Column(name = "Sender_Profile_Pic", length = 500)
+    private String senderProfilePic;
+
+    @Column(name = "Receiver_First_Name", length = 30)
+    private String receiverFirstName;
+
+    @Column(name = "Receiver_Last_Name", length = 30)
+    private String receiverLastName;
+
+    @Column(name = "Receiver_Profile_Pic", length = 500)
+    private String receiverProfilePic;
+
+    /**
+     * Final status of the request (never PENDING).
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "Status", nullable = false)
+    private RequestStatus status;
+
+    @Column(name = "Message", length = 500)
+    private String message;
+
+    @Column(name = "Created_At", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "Updated_At", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * When the row was moved out of the hot table.
+     */
+    @Column(name = "Archived_At", nullable = false)
+    private LocalDateTime archivedAt;
+}
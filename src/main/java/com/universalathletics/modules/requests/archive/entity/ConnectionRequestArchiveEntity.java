@@ -0,0 +1,27 @@
+package com.universalathletics.modules.requests.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+/**
+ * Entity class representing a resolved connection request that has been moved
+ * out of the 'Connection_Request' table by the archiver.
+ */
+@Entity
+@Immutable
+@Table(name = "Connection_Request_Archive",
+       indexes = {
+           @Index(name = "idx_cr_archive_sender", columnList = "Sender_Type, Sender_ID, Updated_At"),
+           @Index(name = "idx_cr_archive_receiver", columnList = "Receiver_Type, Receiver_ID, Updated_At")
+       })
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class ConnectionRequestArchiveEntity extends ArchivedRequestEntity {
+
+    @Column(name = "Pair_Key", length = 32)
+    private String pairKey;
+}
@@ -0,0 +1,50 @@
+package com.universalathletics.modules.requests.archive.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * Entity class representing a resolved session request that has been moved
+ * out of the 'Session_Request' table by the archiver.
+ */
+@Entity
+@Immutable
+@Table(name = "Session_Request_Archive",
+       indexes = {
+           @Index(name = "idx_sr_archive_sender", columnList = "Sender_Type, Sender_ID, Updated_At"),
+           @Index(name = "idx_sr_archive_receiver", columnList = "Receiver_Type, Receiver_ID, Updated_At")
+       })
+@Data
+@EqualsAndHashCode(callSuper = true)
+@NoArgsConstructor
+public class SessionRequestArchiveEntity extends ArchivedRequestEntity {
+
+    @Column(name = "Session_Date_1", nullable = false)
+    private LocalDate sessionDate1;
+
+    @Column(name = "Session_Date_2", nullable = false)
+    private LocalDate sessionDate2;
+
+    @Column(name = "Session_Date_3", nullable = false)
+    private LocalDate sessionDate3;
+
+    @Column(name = "Session_Time_1", nullable = false)
+    private LocalTime sessionTime1;
+
+    @Column(name = "Session_Time_2", nullable = false)
+    private LocalTime sessionTime2;
+
+    @Column(name = "Session_Time_3", nullable = false)
+    private LocalTime sessionTime3;
+
+    @Column(name = "Session_Location", nullable = false, length = 500)
+    private String sessionLocation;
+
+    @Column(name = "Session_Description", nullable = false, length = 500)
+    private String sessionDescription;
+}
@@ -0,0 +1,64 @@
+package com.universalathletics.modules.requests.archive.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.universalathletics.modules.requests.archive.entity.SessionRequestArchiveEntity;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+@Repository
+public interface SessionRequestArchiveRepository extends JpaRepository<SessionRequestArchiveEntity, Integer> {
+
+    /**
+     * Find one page of a user's archived session requests, most recently
+     * updated first, starting after the given (updatedAt, id) position.
+     * 
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param beforeUpdatedAt Only rows updated before this (or at it with a lower ID)
+     * @param beforeId Tie-breaker for rows updated at beforeUpdatedAt
+     * @param pageable Page size
+     * @return List of archived requests sent or received by the user
+     */
+    @Query("SELECT a FROM SessionRequestArchiveEntity a WHERE " +
+           "((a.receiverType = :userType AND a.receiverId = :userId) OR " +
+           "(a.senderType = :userType AND a.senderId = :userId)) AND " +
+           "(a.updatedAt < :beforeUpdatedAt OR (a.updatedAt = :beforeUpdatedAt AND a.id < :beforeId)) " +
+           "ORDER BY a.updatedAt DESC, a.id DESC")
+    List<SessionRequestArchiveEntity> findHistory(@Param("userType") UserType userType,
+                                              @Param("userId") Integer userId,
+                                              @Param("beforeUpdatedAt") LocalDateTime beforeUpdatedAt,
+                                              @Param("beforeId") Integer beforeId,
+                                              Pageable pageable);
+
+    /**
+     * Copy session requests from Session_Request into the archive, keeping their IDs.
+     * The caller deletes the originals in the same transaction.
+     * 
+     * @param requestIds The IDs of the requests to copy
+     * @return Number of rows copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO Session_Request_Archive (Request_ID, Sender_Type, Sender_ID, Sender_Firebase_ID, " +
+                   "Receiver_Type, Receiver_ID, Receiver_Firebase_ID, Sender_First_Name, Sender_Last_Name, " +
+                   "Sender_Profile_Pic, Receiver_First_Name, Receiver_Last_Name, Receiver_Profile_Pic, " +
+                   "Status, Message, Created_At, Updated_At, Session_Date_1, Session_Date_2, Session_Date_3, " +
+                   "Session_Time_1, Session_Time_2, Session_Time_3, Session_Location, Session_Description, Archived_At) " +
+                   "SELECT c.Request_ID, c.Sender_Type, c.Sender_ID, c.Sender_Firebase_ID, " +
+                   "c.Receiver_Type, c.Receiver_ID, c.Receiver_Firebase_ID, c.Sender_First_Name, c.Sender_Last_Name, " +
+                   "c.Sender_Profile_Pic, c.Receiver_First_Name, c.Receiver_Last_Name, c.Receiver_Profile_Pic, " +
+                   "c.Status, c.Message, c.Created_At, c.Updated_At, c.Session_Date_1, c.Session_Date_2, c.Session_Date_3, " +
+                   "c.Session_Time_1, c.Session_Time_2, c.Session_Time_3, c.Session_Location, c.Session_Description, " +
+                   "CURRENT_TIMESTAMP " +
+                   "FROM Session_Request c WHERE c.Request_ID IN (:requestIds)",
+           nativeQuery = true)
+    int copyFromHotTable(@Param("requestIds") Collection<Integer> requestIds);
+}
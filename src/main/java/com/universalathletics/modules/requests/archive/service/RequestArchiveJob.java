@@ -0,0 +1,81 @@
+package com.universalathletics.modules.requests.archive.service;
+
+import java.time.LocalDateTime;
+import java.util.function.BiFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Background job that moves accepted, rejected and cancelled requests older
+ * than {@code min-age-days} into the archive tables.
+ *
+ * Rows are moved in batches of {@code batch-size}, each in its own short
+ * transaction, and a run stops after {@code max-batches-per-run} batches per
+ * table. Locks stay brief, and a large backlog drains over several runs.
+ */
+@Component
+public class RequestArchiveJob {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestArchiveJob.class);
+
+    @Autowired
+    private RequestArchiveService requestArchiveService;
+
+    @Value("${requests.archive.enabled:true}")
+    private boolean enabled;
+
+    /**
+     * Resolved requests last updated more than this many days ago are archived.
+     */
+    @Value("${requests.archive.min-age-days:30}")
+    private int minAgeDays;
+
+    /**
+     * Maximum rows moved per transaction.
+     */
+    @Value("${requests.archive.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * Maximum batches per table on each run.
+     */
+    @Value("${requests.archive.max-batches-per-run:20}")
+    private int maxBatchesPerRun;
+
+    /**
+     * Archives the next batches of connection and session requests.
+     */
+    @Scheduled(initialDelayString = "${requests.archive.initial-delay-ms:300000}",
+        fixedDelayString = "${requests.archive.interval-ms:3600000}")
+    public void run() {
+        if (!enabled) {
+            return;
+        }
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(minAgeDays);
+        try {
+            archive("connection", cutoff, requestArchiveService::archiveConnectionRequests);
+            archive("session", cutoff, requestArchiveService::archiveSessionRequests);
+        } catch (Exception e) {
+            logger.error("Request archiving failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void archive(String kind, LocalDateTime cutoff, BiFunction<LocalDateTime, Integer, Integer> batch) {
+        int total = 0;
+        for (int run = 0; run < maxBatchesPerRun; run++) {
+            int moved = batch.apply(cutoff, batchSize);
+            total += moved;
+            if (moved < batchSize) {
+                break;
+            }
+        }
+        if (total > 0) {
+            logger.info("Archived {} {} requests last updated before {}", total, kind, cutoff);
+        }
+    }
+}
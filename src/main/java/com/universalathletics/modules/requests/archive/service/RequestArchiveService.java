@@ -0,0 +1,83 @@
+package com.universalathletics.modules.requests.archive.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.universalathletics.modules.requests.archive.repository.ConnectionRequestArchiveRepository;
+import com.universalathletics.modules.requests.archive.repository.SessionRequestArchiveRepository;
+import com.universalathletics.modules.requests.connection.repository.ConnectionRequestRepository;
+import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+
+/**
+ * Service class for moving resolved requests out of the hot request tables.
+ * Each batch is copied to the archive table and deleted from the hot table
+ * in one transaction, so a request is always in exactly one of the two.
+ */
+@Service
+public class RequestArchiveService {
+
+    @Autowired
+    private ConnectionRequestRepository connectionRequestRepository;
+
+    @Autowired
+    private ConnectionRequestArchiveRepository connectionRequestArchiveRepository;
+
+    @Autowired
+    private SessionRequestRepository sessionRequestRepository;
+
+    @Autowired
+    private SessionRequestArchiveRepository sessionRequestArchiveRepository;
+
+    /**
+     * Archive up to one batch of resolved connection requests.
+     * 
+     * @param cutoff Only requests last updated before this are archived
+     * @param batchSize Maximum number of requests to move
+     * @return Number of requests archived
+     */
+    @Transactional
+    public int archiveConnectionRequests(LocalDateTime cutoff, int batchSize) {
+        List<Integer> ids = connectionRequestRepository.findArchivableIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int copied = connectionRequestArchiveRepository.copyFromHotTable(ids);
+        int deleted = connectionRequestRepository.deleteAllByIds(ids);
+        return verifyMoved("connection", copied, deleted);
+    }
+
+    /**
+     * Archive up to one batch of resolved session requests. Accepted requests
+     * stay until all of their proposed dates have passed.
+     * 
+     * @param cutoff Only requests last updated before this are archived
+     * @param batchSize Maximum number of requests to move
+     * @return Number of requests archived
+     */
+    @Transactional
+    public int archiveSessionRequests(LocalDateTime cutoff, int batchSize) {
+        List<Integer> ids = sessionRequestRepository.findArchivableIds(cutoff, LocalDate.now(), batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int copied = sessionRequestArchiveRepository.copyFromHotTable(ids);
+        int deleted = sessionRequestRepository.deleteAllByIds(ids);
+        return verifyMoved("session", copied, deleted);
+    }
+
+    /**
+     * Rolls the batch back if the copy and delete disagree, e.g. because a
+     * row was removed concurrently.
+     */
+    private static int verifyMoved(String kind, int copied, int deleted) {
+        if (copied != deleted) {
+            throw new IllegalStateException("Archived " + copied + " " + kind + " requests but deleted " + deleted);
+        }
+        return deleted;
+    }
+}
@@ -9,9 +9,13 @@ import org.slf4j.LoggerFactory;
 
 import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
 import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+import com.universalathletics.modules.requests.model.RequestHistoryPageDTO;
+import com.universalathletics.modules.requests.util.enums.UserType;
 import com.universalathletics.modules.requests.connection.service.ConnectionRequestService;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * REST Controller for handling connection request operations.
@@ -45,6 +49,11 @@ public class ConnectionRequestController {
     @Autowired
     private GoogleCloudStorageService storageService;
 
+    /**
+     * Page size for history queries that do not pass a limit.
+     */
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+
     /**
      * Get all pending connection requests where the recipient is a member with the specified ID.
      * 
@@ -202,7 +211,8 @@ public class ConnectionRequestController {
      * 
      * @param requestId The ID of the connection request to accept
      * @param receiverId The ID of the member accepting the request
-     * @return ResponseEntity indicating success or failure
+     * @return ResponseEntity indicating success or failure, or 400 (BAD REQUEST)
+     *         if the request is not between a member and a coach
      */
     @PutMapping("/{requestId}/accept/{receiverId}")
     public ResponseEntity<String> acceptConnectionRequest(
@@ -219,6 +229,10 @@ public class ConnectionRequestController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Unable to accept connection request. Request may not exist, may not belong to you, or may not be pending.");
             }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid connection request {}: {}", requestId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("Invalid request data: " + e.getMessage());
         } catch (Exception e) {
             logger.error("Error accepting connection request " + requestId + " for user " + receiverId + ": " + e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -285,32 +299,126 @@ public class ConnectionRequestController {
         }
     }
 
+    /**
+     * Get a user's resolved connection requests (accepted, rejected or cancelled),
+     * most recently updated first, including requests that have been archived.
+     * 
+     * @param userType The type of the user ("member" or "coach")
+     * @param id The ID of the user
+     * @param limit Page size (default 50)
+     * @param cursor The nextCursor of the previous page, or omitted for the first page
+     * @return ResponseEntity containing one page of history
+     */
+    @GetMapping("/history/{userType}/{id}")
+    public ResponseEntity<?> getConnectionRequestHistory(
+            @PathVariable String userType,
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "" + DEFAULT_HISTORY_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor) {
+        try {
+            UserType type = UserType.valueOf(userType.toUpperCase(Locale.ROOT));
+            RequestHistoryPageDTO<ConnectionRequestDTO> history =
+                connectionRequestService.getRequestHistory(type, id, limit, cursor);
+
+            // Sign URLs for profile pictures
+            signProfilePictureUrls(history.getRequests());
+
+            return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid connection request history query: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid history query: " + e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error retrieving connection request history for " + userType + " " + id + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Accept several connection requests in one call.
+     * Each ID gets its own result; requests that do not exist, belong to someone
+     * else or are no longer pending are reported and skipped.
+     * 
+     * @param receiverId The ID of the user accepting the requests
+     * @param requestIds The IDs of the connection requests to accept
+     * @return ResponseEntity containing one result per request ID
+     */
+    @PutMapping("/bulk/accept/{receiverId}")
+    public ResponseEntity<?> acceptConnectionRequests(
+            @PathVariable Integer receiverId,
+            @RequestBody List<Integer> requestIds) {
+        try {
+            List<BulkActionResultDTO> results = connectionRequestService.acceptConnectionRequests(requestIds, receiverId);
+            logger.info("Bulk accept of {} connection requests by user {}", results.size(), receiverId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk accept of connection requests: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error bulk accepting connection requests for user " + receiverId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while accepting the connection requests");
+        }
+    }
+
+    /**
+     * Decline several connection requests in one call.
+     * 
+     * @param receiverId The ID of the user declining the requests
+     * @param requestIds The IDs of the connection requests to decline
+     * @return ResponseEntity containing one result per request ID
+     */
+    @PutMapping("/bulk/decline/{receiverId}")
+    public ResponseEntity<?> declineConnectionRequests(
+            @PathVariable Integer receiverId,
+            @RequestBody List<Integer> requestIds) {
+        try {
+            List<BulkActionResultDTO> results = connectionRequestService.declineConnectionRequests(requestIds, receiverId);
+            logger.info("Bulk decline of {} connection requests by user {}", results.size(), receiverId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk decline of connection requests: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error bulk declining connection requests for user " + receiverId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while declining the connection requests");
+        }
+    }
+
+    /**
+     * Cancel several connection requests in one call.
+     * 
+     * @param senderId The ID of the user who sent the requests
+     * @param requestIds The IDs of the connection requests to cancel
+     * @return ResponseEntity containing one result per request ID
+     */
+    @PutMapping("/bulk/cancel/{senderId}")
+    public ResponseEntity<?> cancelConnectionRequests(
+            @PathVariable Integer senderId,
+            @RequestBody List<Integer> requestIds) {
+        try {
+            List<BulkActionResultDTO> results = connectionRequestService.cancelConnectionRequests(requestIds, senderId);
+            logger.info("Bulk cancel of {} connection requests by sender {}", results.size(), senderId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk cancel of connection requests: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error bulk cancelling connection requests for sender " + senderId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while cancelling the connection requests");
+        }
+    }
+
     /**
      * Helper method to sign profile picture URLs for a list of connection requests.
      * 
      * @param requests List of connection request DTOs to process
      */
     private void signProfilePictureUrls(List<ConnectionRequestDTO> requests) {
-        for (ConnectionRequestDTO request : requests) {
-            // Sign sender profile picture
-            if (request.getSenderProfilePic() != null && !request.getSenderProfilePic().isEmpty()) {
-                try {
-                    String signedSenderUrl = storageService.getSignedFileUrl(request.getSenderProfilePic());
-                    request.setSenderProfilePic(signedSenderUrl);
-                } catch (Exception e) {
-                    logger.error("Error signing sender profile picture URL for request " + request.getId() + ": " + e.getMessage(), e);
-                }
-            }
-            
-            // Sign receiver profile picture
-            if (request.getReceiverProfilePic() != null && !request.getReceiverProfilePic().isEmpty()) {
-                try {
-                    String signedReceiverUrl = storageService.getSignedFileUrl(request.getReceiverProfilePic());
-                    request.setReceiverProfilePic(signedReceiverUrl);
-                } catch (Exception e) {
-                    logger.error("Error signing receiver profile picture URL for request " + request.getId() + ": " + e.getMessage(), e);
-                }
-            }
-        }
+        storageService.newPictureBatch()
+            .add(requests, ConnectionRequestDTO::getSenderProfilePic, ConnectionRequestDTO::setSenderProfilePic)
+            .add(requests, ConnectionRequestDTO::getReceiverProfilePic, ConnectionRequestDTO::setReceiverProfilePic)
+            .sign();
     }
 }
@@ -17,18 +17,35 @@ import com.universalathletics.modules.requests.util.enums.UserType;
 @Entity
 @Table(name = "Connection_Request", 
        uniqueConstraints = @UniqueConstraint(
-           name = "unique_request", 
-           columnNames = {"Sender_Type", "Sender_ID", "Receiver_Type", "Receiver_ID", "Status"}
+           name = "uq_connection_pending_pair", 
+           columnNames = {"Pending_Pair_Key"}
        ),
        indexes = {
            @Index(name = "idx_sender", columnList = "Sender_Type, Sender_ID"),
            @Index(name = "idx_receiver", columnList = "Receiver_Type, Receiver_ID"),
-           @Index(name = "idx_status", columnList = "Status")
+           @Index(name = "idx_status", columnList = "Status"),
+           @Index(name = "idx_connection_pair", columnList = "Pair_Key")
        })
 @Data
 @EqualsAndHashCode(callSuper = true)
 @NoArgsConstructor
 public class ConnectionRequestEntity extends RequestEntity {
+
+    /**
+     * Canonical key for the two users, independent of who sent the request,
+     * e.g. "C3:M8" for coach 3 and member 8.
+     */
+    @Column(name = "Pair_Key", nullable = false, length = 32)
+    private String pairKey;
+
+    /**
+     * Copy of pairKey while the request is PENDING and null otherwise. The
+     * unique index on it allows at most one pending request per pair, while
+     * any number of finished requests can share the pair (MySQL has no
+     * partial indexes, but unique indexes ignore nulls).
+     */
+    @Column(name = "Pending_Pair_Key", length = 32)
+    private String pendingPairKey;
     
     /**
      * Constructor for creating a connection request with basic information.
@@ -44,4 +61,45 @@ public class ConnectionRequestEntity extends RequestEntity {
         this.setMessage(message);
         this.setStatus(RequestStatus.PENDING);
     }
+
+    /**
+     * Builds the canonical key for two users: each side is written as its
+     * type initial and ID, and the two are joined in sorted order.
+     *
+     * @param firstType  The type of the first user
+     * @param firstId    The ID of the first user
+     * @param secondType The type of the second user
+     * @param secondId   The ID of the second user
+     * @return String pair key, the same whichever user comes first
+     */
+    public static String pairKey(UserType firstType, Integer firstId, UserType secondType, Integer secondId) {
+        String first = firstType.name().charAt(0) + String.valueOf(firstId);
+        String second = secondType.name().charAt(0) + String.valueOf(secondId);
+        return first.compareTo(second) <= 0 ? first + ":" + second : second + ":" + first;
+    }
+
+    /**
+     * Sets the timestamps and pair keys before persisting.
+     */
+    @Override
+    @PrePersist
+    protected void onCreate() {
+        super.onCreate();
+        refreshPairKeys();
+    }
+
+    /**
+     * Keeps the pair keys in step with the status before updating.
+     */
+    @Override
+    @PreUpdate
+    protected void onUpdate() {
+        super.onUpdate();
+        refreshPairKeys();
+    }
+
+    private void refreshPairKeys() {
+        pairKey = pairKey(getSenderType(), getSenderId(), getReceiverType(), getReceiverId());
+        pendingPairKey = getStatus() == RequestStatus.PENDING ? pairKey : null;
+    }
 }
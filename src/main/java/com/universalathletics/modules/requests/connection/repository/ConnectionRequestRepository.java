@@ -1,18 +1,25 @@
 package com.universalathletics.modules.requests.connection.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.LockModeType;
+
 import com.universalathletics.modules.requests.connection.entity.ConnectionRequestEntity;
 import com.universalathletics.modules.requests.util.enums.RequestStatus;
 import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.requests.events.RequestParties;
 
 @Repository
 public interface ConnectionRequestRepository extends JpaRepository<ConnectionRequestEntity, Integer> {
@@ -48,6 +55,23 @@ public interface ConnectionRequestRepository extends JpaRepository<ConnectionReq
         Integer senderId
     );
 
+    /**
+     * Find requests with a given status that a user either sent or received,
+     * newest first. Used to build the inbox in a single query per table.
+     * 
+     * @param status The status of the request (e.g., PENDING)
+     * @param userType The type of the user (e.g., MEMBER, COACH)
+     * @param userId The ID of the user
+     * @return List of connection requests sent or received by the user
+     */
+    @Query("SELECT c FROM ConnectionRequestEntity c WHERE c.status = :status AND " +
+           "((c.receiverType = :userType AND c.receiverId = :userId) OR " +
+           "(c.senderType = :userType AND c.senderId = :userId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<ConnectionRequestEntity> findByStatusInvolvingUser(@Param("status") RequestStatus status,
+                                          @Param("userType") UserType userType,
+                                          @Param("userId") Integer userId);
+
     /**
      * Find a connection request by ID and receiver ID to ensure the user can only 
      * modify requests they are the receiver of.
@@ -59,43 +83,215 @@ public interface ConnectionRequestRepository extends JpaRepository<ConnectionReq
     Optional<ConnectionRequestEntity> findByIdAndReceiverId(Integer requestId, Integer receiverId);
 
     /**
-     * Check if a connection request already exists between two users.
-     * This prevents duplicate requests in either direction.
+     * Check if a pending connection request already exists between two users,
+     * in either direction. This is a single probe of the unique
+     * Pending_Pair_Key index.
+     * 
+     * @param pendingPairKey The canonical pair key, see ConnectionRequestEntity.pairKey
+     * @return true if a pending request exists, false otherwise
+     */
+    boolean existsByPendingPairKey(String pendingPairKey);
+
+    /**
+     * Find a connection request by ID and sender ID.
+     * This is used to verify that a request belongs to a specific sender before allowing cancellation.
      * 
+     * @param requestId The ID of the connection request
      * @param senderId The ID of the sender
-     * @param receiverId The ID of the receiver
-     * @param status The status to check for
-     * @return true if a request exists, false otherwise
+     * @return Optional containing the connection request if found, empty otherwise
      */
-    @Query("SELECT COUNT(c) > 0 FROM ConnectionRequestEntity c WHERE " +
-           "((c.senderId = :senderId AND c.receiverId = :receiverId) OR " +
-           "(c.senderId = :receiverId AND c.receiverId = :senderId)) AND " +
-           "c.status = :status")
-    boolean existsPendingRequestBetweenUsers(@Param("senderId") Integer senderId, 
-                                           @Param("receiverId") Integer receiverId,
-                                           @Param("status") RequestStatus status);
+    Optional<ConnectionRequestEntity> findByIdAndSenderId(Integer requestId, Integer senderId);
 
     /**
-     * Update the status of a connection request by ID.
+     * Find the sender and receiver of a request without loading the rest of
+     * the row, such as the participants' pictures.
+     * 
+     * @param requestId The ID of the request
+     * @return Optional containing the request's parties if found
+     */
+    @Query("SELECT new com.universalathletics.modules.requests.events.RequestParties(" +
+           "c.id, c.senderType, c.senderId, c.receiverType, c.receiverId) FROM ConnectionRequestEntity c WHERE c.id = :requestId")
+    Optional<RequestParties> findPartiesById(@Param("requestId") Integer requestId);
+
+    /**
+     * Moves a request from one status to another, but only if it is addressed
+     * to the given receiver and still has the expected status. The check and
+     * the update happen in one statement, so two concurrent transitions can
+     * never both succeed. Leaving PENDING releases the pending pair key, so
+     * the users can send each other a new request.
      * 
      * @param requestId The ID of the connection request
-     * @param status The new status to set
-     * @return Number of rows affected
+     * @param receiverId The ID of the receiver
+     * @param from The status the request must currently have (PENDING)
+     * @param to The new, non-pending status to set
+     * @return 1 if the transition happened, 0 otherwise
      */
     @Modifying
     @Transactional
-    @Query("UPDATE ConnectionRequestEntity c SET c.status = :status, c.updatedAt = CURRENT_TIMESTAMP WHERE c.id = :requestId")
-    int updateStatusById(@Param("requestId") Integer requestId, @Param("status") RequestStatus status);
+    @Query("UPDATE ConnectionRequestEntity c SET c.status = :to, c.pendingPairKey = NULL, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :requestId AND c.receiverId = :receiverId AND c.status = :from")
+    int transitionForReceiver(@Param("requestId") Integer requestId,
+                              @Param("receiverId") Integer receiverId,
+                              @Param("from") RequestStatus from,
+                              @Param("to") RequestStatus to);
 
+    /**
+     * Moves a request from one status to another, but only if it was sent by
+     * the given sender and still has the expected status.
+     * 
+     * @param requestId The ID of the connection request
+     * @param senderId The ID of the sender
+     * @param from The status the request must currently have (PENDING)
+     * @param to The new, non-pending status to set
+     * @return 1 if the transition happened, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ConnectionRequestEntity c SET c.status = :to, c.pendingPairKey = NULL, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :requestId AND c.senderId = :senderId AND c.status = :from")
+    int transitionForSender(@Param("requestId") Integer requestId,
+                            @Param("senderId") Integer senderId,
+                            @Param("from") RequestStatus from,
+                            @Param("to") RequestStatus to);
 
     /**
-     * Find a connection request by ID and sender ID.
-     * This is used to verify that a request belongs to a specific sender before allowing cancellation.
+     * Creates the Member_Coach row for an accepted connection request, working
+     * out which side is the member and which is the coach from the request
+     * itself. Does nothing if the two users are already connected, so it is
+     * safe to run more than once.
      * 
      * @param requestId The ID of the connection request
+     * @return 1 if a relationship was created, 0 if it already existed
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO Member_Coach (Member_ID, Coach_ID) " +
+                   "SELECT r.Member_ID, r.Coach_ID FROM (" +
+                   "  SELECT CASE WHEN c.Sender_Type = 'MEMBER' THEN c.Sender_ID ELSE c.Receiver_ID END AS Member_ID, " +
+                   "         CASE WHEN c.Sender_Type = 'COACH' THEN c.Sender_ID ELSE c.Receiver_ID END AS Coach_ID " +
+                   "  FROM Connection_Request c " +
+                   "  WHERE c.Request_ID = :requestId AND c.Sender_Type <> c.Receiver_Type" +
+                   ") r " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM Member_Coach mc " +
+                   "                  WHERE mc.Member_ID = r.Member_ID AND mc.Coach_ID = r.Coach_ID)",
+           nativeQuery = true)
+    int insertMemberCoachForRequest(@Param("requestId") Integer requestId);
+
+    /**
+     * Locks the requests among the given IDs that are addressed to the
+     * receiver and still have the expected status. Used by bulk transitions
+     * so every returned request is guaranteed to be updated.
+     * 
+     * @param requestIds The IDs of the connection requests
+     * @param receiverId The ID of the receiver
+     * @param status The status the requests must currently have
+     * @return List of matching requests, locked until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConnectionRequestEntity c WHERE c.id IN :requestIds AND c.receiverId = :receiverId AND c.status = :status")
+    List<ConnectionRequestEntity> lockForReceiver(@Param("requestIds") Collection<Integer> requestIds,
+                                @Param("receiverId") Integer receiverId,
+                                @Param("status") RequestStatus status);
+
+    /**
+     * Locks the requests among the given IDs that were sent by the sender and
+     * still have the expected status.
+     * 
+     * @param requestIds The IDs of the connection requests
      * @param senderId The ID of the sender
-     * @return Optional containing the connection request if found, empty otherwise
+     * @param status The status the requests must currently have
+     * @return List of matching requests, locked until the transaction ends
      */
-    Optional<ConnectionRequestEntity> findByIdAndSenderId(Integer requestId, Integer senderId);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM ConnectionRequestEntity c WHERE c.id IN :requestIds AND c.senderId = :senderId AND c.status = :status")
+    List<ConnectionRequestEntity> lockForSender(@Param("requestIds") Collection<Integer> requestIds,
+                              @Param("senderId") Integer senderId,
+                              @Param("status") RequestStatus status);
+
+    /**
+     * Moves a batch of requests from one status to another in one statement.
+     * 
+     * @param requestIds The IDs of the connection requests
+     * @param from The status the requests must currently have (PENDING)
+     * @param to The new, non-pending status to set
+     * @return Number of rows affected
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ConnectionRequestEntity c SET c.status = :to, c.pendingPairKey = NULL, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id IN :requestIds AND c.status = :from")
+    int transitionAll(@Param("requestIds") Collection<Integer> requestIds,
+                      @Param("from") RequestStatus from,
+                      @Param("to") RequestStatus to);
+
+    /**
+     * Creates the Member_Coach rows for a batch of accepted connection
+     * requests in one statement, skipping pairs that are already connected.
+     * 
+     * @param requestIds The IDs of the connection requests
+     * @return Number of relationships created
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO Member_Coach (Member_ID, Coach_ID) " +
+                   "SELECT DISTINCT r.Member_ID, r.Coach_ID FROM (" +
+                   "  SELECT CASE WHEN c.Sender_Type = 'MEMBER' THEN c.Sender_ID ELSE c.Receiver_ID END AS Member_ID, " +
+                   "         CASE WHEN c.Sender_Type = 'COACH' THEN c.Sender_ID ELSE c.Receiver_ID END AS Coach_ID " +
+                   "  FROM Connection_Request c " +
+                   "  WHERE c.Request_ID IN (:requestIds) AND c.Sender_Type <> c.Receiver_Type" +
+                   ") r " +
+                   "WHERE NOT EXISTS (SELECT 1 FROM Member_Coach mc " +
+                   "                  WHERE mc.Member_ID = r.Member_ID AND mc.Coach_ID = r.Coach_ID)",
+           nativeQuery = true)
+    int insertMemberCoachForRequests(@Param("requestIds") Collection<Integer> requestIds);
+
+    /**
+     * Find IDs of resolved connection requests last updated before a cutoff,
+     * oldest ID first. Used by the archiver to move rows in bounded batches.
+     * 
+     * @param cutoff Only requests last updated before this are returned
+     * @param limit Maximum number of IDs to return
+     * @return List of request IDs ready to archive
+     */
+    @Query(value = "SELECT Request_ID FROM Connection_Request " +
+                   "WHERE Status <> 'PENDING' AND Updated_At < :cutoff " +
+                   "ORDER BY Request_ID LIMIT :limit",
+           nativeQuery = true)
+    List<Integer> findArchivableIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Delete a batch of connection requests after they have been copied to the archive.
+     * 
+     * @param requestIds The IDs of the requests to delete
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM ConnectionRequestEntity c WHERE c.id IN :requestIds")
+    int deleteAllByIds(@Param("requestIds") Collection<Integer> requestIds);
+
+    /**
+     * Find one page of a user's resolved connection requests that are still in
+     * the hot table, most recently updated first, starting after the given
+     * (updatedAt, id) position. Merged with the archive for history.
+     * 
+     * @param excludedStatus The status to leave out (PENDING)
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param beforeUpdatedAt Only rows updated before this (or at it with a lower ID)
+     * @param beforeId Tie-breaker for rows updated at beforeUpdatedAt
+     * @param pageable Page size
+     * @return List of resolved requests sent or received by the user
+     */
+    @Query("SELECT c FROM ConnectionRequestEntity c WHERE c.status <> :excludedStatus AND " +
+           "((c.receiverType = :userType AND c.receiverId = :userId) OR " +
+           "(c.senderType = :userType AND c.senderId = :userId)) AND " +
+           "(c.updatedAt < :beforeUpdatedAt OR (c.updatedAt = :beforeUpdatedAt AND c.id < :beforeId)) " +
+           "ORDER BY c.updatedAt DESC, c.id DESC")
+    List<ConnectionRequestEntity> findHistory(@Param("excludedStatus") RequestStatus excludedStatus,
+                            @Param("userType") UserType userType,
+                            @Param("userId") Integer userId,
+                            @Param("beforeUpdatedAt") LocalDateTime beforeUpdatedAt,
+                            @Param("beforeId") Integer beforeId,
+                            Pageable pageable);
 
 }
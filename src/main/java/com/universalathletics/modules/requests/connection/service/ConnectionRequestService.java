@@ -1,20 +1,35 @@
 package com.universalathletics.modules.requests.connection.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.universalathletics.modules.requests.archive.entity.ConnectionRequestArchiveEntity;
+import com.universalathletics.modules.requests.archive.repository.ConnectionRequestArchiveRepository;
 import com.universalathletics.modules.requests.connection.entity.ConnectionRequestEntity;
 import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
 import com.universalathletics.modules.requests.connection.repository.ConnectionRequestRepository;
+import com.universalathletics.modules.requests.events.RequestChangedEvent;
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+import com.universalathletics.modules.requests.model.RequestHistoryCursor;
+import com.universalathletics.modules.requests.model.RequestHistoryPageDTO;
+import com.universalathletics.modules.requests.util.BulkActions;
 import com.universalathletics.modules.requests.util.enums.RequestStatus;
 import com.universalathletics.modules.requests.util.enums.UserType;
-import com.universalathletics.modules.jct.memberCoach.entity.MemberCoachEntity;
 import com.universalathletics.modules.jct.memberCoach.repository.MemberCoachRepository;
 
 /**
@@ -22,12 +37,27 @@ import com.universalathletics.modules.jct.memberCoach.repository.MemberCoachRepo
  */
 @Service
 public class ConnectionRequestService {
+
+    private static final String DUPLICATE_PENDING_MESSAGE =
+        "A pending connection request already exists between these users";
+
+    private static final String INVALID_PAIR_MESSAGE =
+        "Invalid connection request: both parties must be different types (MEMBER and COACH)";
     
     @Autowired
     private ConnectionRequestRepository connectionRequestRepository;
     
     @Autowired
     private MemberCoachRepository memberCoachRepository;
+
+    @Autowired
+    private ConnectionRequestArchiveRepository connectionRequestArchiveRepository;
+
+    /**
+     * Notifies open request event streams once changes commit.
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Get all pending connection requests where the recipient is a member with the specified ID.
@@ -101,6 +131,55 @@ public class ConnectionRequestService {
             .collect(Collectors.toList());
     }
     
+    /**
+     * Get all pending connection requests a user has sent or received, newest first.
+     * 
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return List of pending connection request DTOs involving the user
+     */
+    public List<ConnectionRequestDTO> getPendingRequestsInvolving(UserType userType, Integer userId) {
+        return connectionRequestRepository.findByStatusInvolvingUser(RequestStatus.PENDING, userType, userId)
+            .stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Get one page of a user's resolved connection requests, most recently
+     * updated first. Rows still in the hot table and rows already moved to the
+     * archive are merged, so the history is complete either way.
+     * 
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param limit The page size (1 to RequestHistoryPageDTO.MAX_PAGE_SIZE)
+     * @param cursor The nextCursor of the previous page, or null for the first page
+     * @return One page of connection request history
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     */
+    public RequestHistoryPageDTO<ConnectionRequestDTO> getRequestHistory(UserType userType, Integer userId,
+                                                                        int limit, String cursor) {
+        if (limit < 1 || limit > RequestHistoryPageDTO.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + RequestHistoryPageDTO.MAX_PAGE_SIZE);
+        }
+        RequestHistoryCursor position = cursor != null ? RequestHistoryCursor.decode(cursor) : RequestHistoryCursor.first();
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<ConnectionRequestDTO> recent = connectionRequestRepository
+            .findHistory(RequestStatus.PENDING, userType, userId, position.updatedAt(), position.requestId(), page)
+            .stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+        List<ConnectionRequestDTO> archived = connectionRequestArchiveRepository
+            .findHistory(userType, userId, position.updatedAt(), position.requestId(), page)
+            .stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+
+        return RequestHistoryPageDTO.merge(recent, archived, limit,
+            dto -> new RequestHistoryCursor(dto.getUpdatedAt(), dto.getId()));
+    }
+    
     /**
      * Create a new connection request from a member to a coach.
      * 
@@ -143,11 +222,11 @@ public class ConnectionRequestService {
      */
     private ConnectionRequestDTO createConnectionRequest(ConnectionRequestDTO connectionRequestDTO) {
         // Check if a pending request already exists between these users
-        if (connectionRequestRepository.existsPendingRequestBetweenUsers(
-                connectionRequestDTO.getSenderId(), 
-                connectionRequestDTO.getReceiverId(), 
-                RequestStatus.PENDING)) {
-            throw new IllegalStateException("A pending connection request already exists between these users");
+        String pairKey = ConnectionRequestEntity.pairKey(
+            connectionRequestDTO.getSenderType(), connectionRequestDTO.getSenderId(),
+            connectionRequestDTO.getReceiverType(), connectionRequestDTO.getReceiverId());
+        if (connectionRequestRepository.existsByPendingPairKey(pairKey)) {
+            throw new IllegalStateException(DUPLICATE_PENDING_MESSAGE);
         }
         
         // Check if they are already connected
@@ -166,46 +245,50 @@ public class ConnectionRequestService {
         entity.setCreatedAt(LocalDateTime.now());
         entity.setUpdatedAt(LocalDateTime.now());
         
-        // Save the entity
-        ConnectionRequestEntity savedEntity = connectionRequestRepository.save(entity);
+        // Save the entity; the unique pending pair index rejects a concurrent duplicate
+        ConnectionRequestEntity savedEntity;
+        try {
+            savedEntity = connectionRequestRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw new IllegalStateException(DUPLICATE_PENDING_MESSAGE, e);
+        }
+        publishChange(savedEntity, RequestStatus.PENDING);
         
         return convertToDto(savedEntity);
     }
     
     /**
      * Accept a connection request by updating its status to ACCEPTED and creating the member-coach relationship.
+     * The status change only succeeds while the request is still pending, and the
+     * relationship insert is a no-op if the users are already connected, so
+     * concurrent or repeated accepts cannot double-apply.
      * 
      * @param requestId The ID of the connection request to accept
      * @param receiverId The ID of the receiver (to verify ownership)
      * @return true if the request was successfully accepted, false otherwise
+     * @throws IllegalArgumentException if the request is not between a member and a coach
      */
     @Transactional
     public boolean acceptConnectionRequest(Integer requestId, Integer receiverId) {
-        // Verify the request exists and belongs to the receiver
         Optional<ConnectionRequestEntity> requestOpt = connectionRequestRepository.findByIdAndReceiverId(requestId, receiverId);
-        
-        if (requestOpt.isPresent()) {
-            ConnectionRequestEntity request = requestOpt.get();
-            
-            // Only allow accepting if the current status is PENDING
-            if (request.getStatus() == RequestStatus.PENDING) {
-                try {
-                    // Update the request status
-                    int rowsUpdated = connectionRequestRepository.updateStatusById(requestId, RequestStatus.ACCEPTED);
-                    
-                    if (rowsUpdated > 0) {
-                        // Create the member-coach relationship
-                        createMemberCoachRelationship(request);
-                        return true;
-                    }
-                } catch (Exception e) {
-                    // Log the error and let the transaction roll back
-                    throw new RuntimeException("Failed to accept connection request and create member-coach relationship", e);
-                }
-            }
+        if (requestOpt.isEmpty()) {
+            return false;
         }
-        
-        return false;
+        ConnectionRequestEntity request = requestOpt.get();
+        if (!isMemberCoachPair(request)) {
+            throw new IllegalArgumentException(INVALID_PAIR_MESSAGE);
+        }
+
+        int rowsUpdated = connectionRequestRepository.transitionForReceiver(
+            requestId, receiverId, RequestStatus.PENDING, RequestStatus.ACCEPTED);
+        if (rowsUpdated == 0) {
+            return false;
+        }
+
+        // Create the member-coach relationship in the same transaction
+        connectionRequestRepository.insertMemberCoachForRequest(requestId);
+        publishChange(request, RequestStatus.ACCEPTED);
+        return true;
     }
     
     /**
@@ -216,20 +299,13 @@ public class ConnectionRequestService {
      * @return true if the request was successfully declined, false otherwise
      */
     public boolean declineConnectionRequest(Integer requestId, Integer receiverId) {
-        // Verify the request exists and belongs to the receiver
-        Optional<ConnectionRequestEntity> requestOpt = connectionRequestRepository.findByIdAndReceiverId(requestId, receiverId);
-        
-        if (requestOpt.isPresent()) {
-            ConnectionRequestEntity request = requestOpt.get();
-            
-            // Only allow declining if the current status is PENDING
-            if (request.getStatus() == RequestStatus.PENDING) {
-                int rowsUpdated = connectionRequestRepository.updateStatusById(requestId, RequestStatus.REJECTED);
-                return rowsUpdated > 0;
-            }
+        // Only succeeds if the request belongs to the receiver and is still PENDING
+        if (connectionRequestRepository.transitionForReceiver(
+                requestId, receiverId, RequestStatus.PENDING, RequestStatus.REJECTED) == 0) {
+            return false;
         }
-        
-        return false;
+        publishChange(requestId, RequestStatus.REJECTED);
+        return true;
     }
 
     
@@ -242,51 +318,127 @@ public class ConnectionRequestService {
      * @return true if the request was successfully cancelled, false otherwise
      */
     public boolean cancelConnectionRequest(Integer requestId, Integer senderId) {
-        // Verify the request exists and belongs to the sender
-        Optional<ConnectionRequestEntity> requestOpt = connectionRequestRepository.findByIdAndSenderId(requestId, senderId);
-        
-        if (requestOpt.isPresent()) {
-            ConnectionRequestEntity request = requestOpt.get();
-            
-            // Only allow cancelling if the current status is PENDING
-            if (request.getStatus() == RequestStatus.PENDING) {
-                int rowsUpdated = connectionRequestRepository.updateStatusById(requestId, RequestStatus.CANCELLED);
-                return rowsUpdated > 0;
-            }
+        // Only succeeds if the request belongs to the sender and is still PENDING
+        if (connectionRequestRepository.transitionForSender(
+                requestId, senderId, RequestStatus.PENDING, RequestStatus.CANCELLED) == 0) {
+            return false;
         }
-        
-        return false;
+        publishChange(requestId, RequestStatus.CANCELLED);
+        return true;
     }
 
-    
     /**
-     * Create a member-coach relationship based on the connection request.
+     * Accept several connection requests at once. Matching requests are locked,
+     * updated with one statement and connected with one batched relationship
+     * insert, all in a single transaction. A request that is not between a
+     * member and a coach is left pending.
      * 
-     * @param request The accepted connection request
+     * @param requestIds The IDs of the connection requests to accept
+     * @param receiverId The ID of the receiver (to verify ownership)
+     * @return One result per distinct request ID, in the order given
+     * @throws IllegalArgumentException if no IDs or more than BulkActions.MAX_BATCH_SIZE are given
      */
-    private void createMemberCoachRelationship(ConnectionRequestEntity request) {
-        Integer memberId = null;
-        Integer coachId = null;
-        
-        // Determine which is the member and which is the coach
-        if (request.getSenderType() == UserType.COACH && request.getReceiverType() == UserType.MEMBER) {
-            // Coach sent request to Member
-            coachId = request.getSenderId();
-            memberId = request.getReceiverId();
-        } else if (request.getSenderType() == UserType.MEMBER && request.getReceiverType() == UserType.COACH) {
-            // Member sent request to Coach
-            memberId = request.getSenderId();
-            coachId = request.getReceiverId();
-        } else {
-            // This shouldn't happen based on your current setup, but handle it gracefully
-            throw new IllegalArgumentException("Invalid connection request: both parties must be different types (MEMBER and COACH)");
+    @Transactional
+    public List<BulkActionResultDTO> acceptConnectionRequests(List<Integer> requestIds, Integer receiverId) {
+        List<Integer> ids = BulkActions.distinctIds(requestIds);
+        Map<Integer, String> errors = new HashMap<>();
+        List<ConnectionRequestEntity> acceptable = new ArrayList<>();
+        for (ConnectionRequestEntity request : connectionRequestRepository.lockForReceiver(ids, receiverId, RequestStatus.PENDING)) {
+            if (isMemberCoachPair(request)) {
+                acceptable.add(request);
+            } else {
+                errors.put(request.getId(), INVALID_PAIR_MESSAGE);
+            }
         }
-        
-        // Check if the relationship already exists to avoid duplicates
-        if (!memberCoachRepository.existsByMemberIdAndCoachId(memberId, coachId)) {
-            MemberCoachEntity memberCoach = new MemberCoachEntity(memberId, coachId);
-            memberCoachRepository.save(memberCoach);
+        Set<Integer> accepted = transitionAll(acceptable, RequestStatus.ACCEPTED);
+        if (!accepted.isEmpty()) {
+            connectionRequestRepository.insertMemberCoachForRequests(accepted);
         }
+        return BulkActions.results(ids, accepted, errors);
+    }
+
+    /**
+     * Decline several connection requests at once.
+     * 
+     * @param requestIds The IDs of the connection requests to decline
+     * @param receiverId The ID of the receiver (to verify ownership)
+     * @return One result per distinct request ID, in the order given
+     * @throws IllegalArgumentException if no IDs or more than BulkActions.MAX_BATCH_SIZE are given
+     */
+    @Transactional
+    public List<BulkActionResultDTO> declineConnectionRequests(List<Integer> requestIds, Integer receiverId) {
+        List<Integer> ids = BulkActions.distinctIds(requestIds);
+        Set<Integer> declined = transitionAll(
+            connectionRequestRepository.lockForReceiver(ids, receiverId, RequestStatus.PENDING), RequestStatus.REJECTED);
+        return BulkActions.results(ids, declined, Map.of());
+    }
+
+    /**
+     * Cancel several connection requests at once.
+     * 
+     * @param requestIds The IDs of the connection requests to cancel
+     * @param senderId The ID of the sender (to verify ownership)
+     * @return One result per distinct request ID, in the order given
+     * @throws IllegalArgumentException if no IDs or more than BulkActions.MAX_BATCH_SIZE are given
+     */
+    @Transactional
+    public List<BulkActionResultDTO> cancelConnectionRequests(List<Integer> requestIds, Integer senderId) {
+        List<Integer> ids = BulkActions.distinctIds(requestIds);
+        Set<Integer> cancelled = transitionAll(
+            connectionRequestRepository.lockForSender(ids, senderId, RequestStatus.PENDING), RequestStatus.CANCELLED);
+        return BulkActions.results(ids, cancelled, Map.of());
+    }
+
+    /**
+     * Move locked pending requests to a new status with one update and publish the changes.
+     * 
+     * @param requests The locked pending requests
+     * @param status The new status
+     * @return IDs of the requests that were changed
+     */
+    private Set<Integer> transitionAll(List<ConnectionRequestEntity> requests, RequestStatus status) {
+        Set<Integer> ids = requests.stream()
+            .map(ConnectionRequestEntity::getId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!ids.isEmpty()) {
+            connectionRequestRepository.transitionAll(ids, RequestStatus.PENDING, status);
+            requests.forEach(request -> publishChange(request, status));
+        }
+        return ids;
+    }
+
+    /**
+     * Whether a request is between one member and one coach, the only pair
+     * that can be turned into a Member_Coach relationship.
+     * 
+     * @param request The connection request
+     * @return true if one side is a member and the other a coach
+     */
+    private static boolean isMemberCoachPair(ConnectionRequestEntity request) {
+        return (request.getSenderType() == UserType.MEMBER && request.getReceiverType() == UserType.COACH)
+            || (request.getSenderType() == UserType.COACH && request.getReceiverType() == UserType.MEMBER);
+    }
+
+    /**
+     * Publish a change so both users' event streams are notified after commit.
+     * 
+     * @param request The connection request that changed
+     * @param status The request's new status
+     */
+    private void publishChange(ConnectionRequestEntity request, RequestStatus status) {
+        eventPublisher.publishEvent(RequestChangedEvent.of(RequestChangedEvent.Kind.CONNECTION, request, status));
+    }
+
+    /**
+     * Publish a change event for a request that was transitioned without
+     * being loaded, reading only its sender and receiver.
+     * 
+     * @param requestId The ID of the connection request
+     * @param status The request's new status
+     */
+    private void publishChange(Integer requestId, RequestStatus status) {
+        connectionRequestRepository.findPartiesById(requestId).ifPresent(parties -> eventPublisher.publishEvent(
+            RequestChangedEvent.of(RequestChangedEvent.Kind.CONNECTION, parties, status)));
     }
     
     /**
@@ -317,6 +469,34 @@ public class ConnectionRequestService {
         return dto;
     }
     
+    /**
+     * Convert an archived connection request to ConnectionRequestDTO
+     * 
+     * @param entity The archived entity to convert
+     * @return The converted DTO
+     */
+    private ConnectionRequestDTO convertToDto(ConnectionRequestArchiveEntity entity) {
+        ConnectionRequestDTO dto = new ConnectionRequestDTO();
+        dto.setId(entity.getId());
+        dto.setSenderType(entity.getSenderType());
+        dto.setSenderId(entity.getSenderId());
+        dto.setSenderFirebaseId(entity.getSenderFirebaseId());
+        dto.setReceiverType(entity.getReceiverType());
+        dto.setReceiverId(entity.getReceiverId());
+        dto.setReceiverFirebaseId(entity.getReceiverFirebaseId());
+        dto.setSenderFirstName(entity.getSenderFirstName());
+        dto.setSenderLastName(entity.getSenderLastName());
+        dto.setSenderProfilePic(entity.getSenderProfilePic());
+        dto.setReceiverFirstName(entity.getReceiverFirstName());
+        dto.setReceiverLastName(entity.getReceiverLastName());
+        dto.setReceiverProfilePic(entity.getReceiverProfilePic());
+        dto.setMessage(entity.getMessage());
+        dto.setStatus(entity.getStatus());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setUpdatedAt(entity.getUpdatedAt());
+        return dto;
+    }
+    
     /**
      * Convert ConnectionRequestDTO to ConnectionRequestEntity (for create/update operations)
      * 
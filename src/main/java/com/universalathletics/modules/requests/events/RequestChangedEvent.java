@@ -0,0 +1,57 @@
+package com.universalathletics.modules.requests.events;
+
+import com.universalathletics.modules.requests.entity.RequestEntity;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+/**
+ * Published by the request services whenever a connection or session request
+ * is created or changes status. Delivered to both users' event streams once
+ * the change has committed.
+ */
+public record RequestChangedEvent(
+        Kind kind,
+        Integer requestId,
+        RequestStatus status,
+        UserType senderType,
+        Integer senderId,
+        UserType receiverType,
+        Integer receiverId) {
+
+    /**
+     * Which request table the change happened in.
+     */
+    public enum Kind {
+        CONNECTION,
+        SESSION
+    }
+
+    /**
+     * Builds an event from a request row. The status is passed separately
+     * because conditional updates do not refresh the loaded entity.
+     *
+     * @param kind    Which kind of request changed
+     * @param request The request that changed
+     * @param status  The request's new status
+     * @return RequestChangedEvent for the request
+     */
+    public static RequestChangedEvent of(Kind kind, RequestEntity request, RequestStatus status) {
+        return new RequestChangedEvent(kind, request.getId(), status,
+            request.getSenderType(), request.getSenderId(),
+            request.getReceiverType(), request.getReceiverId());
+    }
+
+    /**
+     * Builds an event from the parties of a request that was just transitioned.
+     *
+     * @param kind    Which kind of request changed
+     * @param parties The sender and receiver of the request
+     * @param status  The request's new status
+     * @return RequestChangedEvent for the request
+     */
+    public static RequestChangedEvent of(Kind kind, RequestParties parties, RequestStatus status) {
+        return new RequestChangedEvent(kind, parties.requestId(), status,
+            parties.senderType(), parties.senderId(),
+            parties.receiverType(), parties.receiverId());
+    }
+}
@@ -0,0 +1,58 @@
+package com.universalathletics.modules.requests.events;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+import java.util.Locale;
+
+/**
+ * REST Controller for request change streams.
+ * Clients open one Server-Sent Events stream per user and reload their inbox
+ * when a "request" event arrives, instead of polling the pending endpoints.
+ */
+@RestController
+@RequestMapping("/api/requests/events")
+@CrossOrigin(origins = "*")
+public class RequestEventController {
+
+    /**
+     * Logger instance for logging information and errors.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(RequestEventController.class);
+
+    /**
+     * Autowired instance of RequestEventStream that holds the open streams.
+     */
+    @Autowired
+    private RequestEventStream requestEventStream;
+
+    /**
+     * Open a stream of connection and session request changes for a user.
+     * Each event carries the request kind, ID, new status and both parties.
+     * 
+     * @param userType The type of the user ("member" or "coach")
+     * @param id The ID of the user
+     * @return ResponseEntity containing the event stream, or 400 for an unknown user type
+     */
+    @GetMapping(value = "/{userType}/{id}", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribe(
+            @PathVariable String userType,
+            @PathVariable Integer id) {
+        UserType type;
+        try {
+            type = UserType.valueOf(userType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown user type for request events: " + userType);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+        return ResponseEntity.ok(requestEventStream.subscribe(type, id));
+    }
+}
@@ -0,0 +1,176 @@
+package com.universalathletics.modules.requests.events;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+/**
+ * Registry of open Server-Sent Event streams, keyed by user, that pushes
+ * request changes to the sender and receiver of each request.
+ *
+ * Events are delivered only after the publishing transaction commits, so a
+ * client that reloads on an event always sees the change. Writes to client
+ * sockets run on virtual threads, so a slow or dead client never holds up the
+ * request that triggered the event, and thousands of idle streams cost no
+ * platform threads. A periodic comment line keeps idle streams from being
+ * closed by proxies and detects clients that went away.
+ *
+ * The registry is per instance: a client only receives events published by
+ * the instance its stream is connected to. With more than one dyno, changes
+ * made through another dyno are not pushed, so clients should still reload
+ * when their stream reconnects.
+ */
+@Component
+public class RequestEventStream {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestEventStream.class);
+
+    /**
+     * Expected number of users with an open stream at peak.
+     */
+    private static final int EXPECTED_SUBSCRIBERS = 4096;
+
+    /**
+     * How long a stream stays open before the client has to reconnect.
+     * Browsers' EventSource reconnects automatically.
+     */
+    @Value("${requests.events.timeout-ms:1800000}")
+    private long timeoutMillis;
+
+    /**
+     * Maximum open streams per user, e.g. one per device or tab. Opening
+     * another closes the oldest.
+     */
+    @Value("${requests.events.max-streams-per-user:5}")
+    private int maxStreamsPerUser;
+
+    private final Map<String, List<SseEmitter>> emittersByUser = new ConcurrentHashMap<>(EXPECTED_SUBSCRIBERS);
+
+    private final ExecutorService sendExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @PreDestroy
+    public void shutdown() {
+        sendExecutor.shutdownNow();
+        emittersByUser.values().forEach(emitters -> emitters.forEach(SseEmitter::complete));
+        emittersByUser.clear();
+    }
+
+    // ---------------------------- Subscriptions ----------------------------//
+    /**
+     * Opens a new event stream for a user.
+     *
+     * @param userType The type of the user
+     * @param userId   The ID of the user
+     * @return SseEmitter to return from the controller
+     */
+    public SseEmitter subscribe(UserType userType, Integer userId) {
+        String key = key(userType, userId);
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        emitter.onCompletion(() -> remove(key, emitter));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(error -> remove(key, emitter));
+
+        List<SseEmitter> evicted = new ArrayList<>();
+        emittersByUser.compute(key, (k, emitters) -> {
+            List<SseEmitter> streams = emitters != null ? emitters : new CopyOnWriteArrayList<>();
+            streams.add(emitter);
+            while (streams.size() > maxStreamsPerUser) {
+                evicted.add(streams.remove(0));
+            }
+            return streams;
+        });
+        evicted.forEach(SseEmitter::complete);
+        return emitter;
+    }
+
+    /**
+     * Number of open streams across all users.
+     */
+    public int size() {
+        return emittersByUser.values().stream().mapToInt(List::size).sum();
+    }
+
+    // ------------------------------- Events --------------------------------//
+    /**
+     * Pushes a request change to the sender's and receiver's streams after
+     * the publishing transaction commits. Changes made outside a transaction
+     * are pushed immediately.
+     *
+     * @param event The request change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRequestChanged(RequestChangedEvent event) {
+        List<SseEmitter> senderEmitters = emittersByUser.get(key(event.senderType(), event.senderId()));
+        List<SseEmitter> receiverEmitters = emittersByUser.get(key(event.receiverType(), event.receiverId()));
+        if (senderEmitters == null && receiverEmitters == null) {
+            return;
+        }
+        sendExecutor.execute(() -> {
+            send(event.senderType(), event.senderId(), event);
+            send(event.receiverType(), event.receiverId(), event);
+        });
+    }
+
+    /**
+     * Writes a comment line to every open stream. Streams whose client has
+     * gone away fail the write and are dropped.
+     */
+    @Scheduled(fixedDelayString = "${requests.events.heartbeat-ms:25000}")
+    public void heartbeat() {
+        emittersByUser.forEach((key, emitters) -> {
+            for (SseEmitter emitter : emitters) {
+                sendExecutor.execute(() -> write(key, emitter, SseEmitter.event().comment("heartbeat")));
+            }
+        });
+    }
+
+    // ------------------------------- Helpers -------------------------------//
+    private void send(UserType userType, Integer userId, RequestChangedEvent event) {
+        String key = key(userType, userId);
+        List<SseEmitter> emitters = emittersByUser.get(key);
+        if (emitters == null) {
+            return;
+        }
+        for (SseEmitter emitter : emitters) {
+            write(key, emitter, SseEmitter.event().name("request").data(event));
+        }
+    }
+
+    private void write(String key, SseEmitter emitter, SseEmitter.SseEventBuilder message) {
+        try {
+            emitter.send(message);
+        } catch (IOException | IllegalStateException e) {
+            // The client disconnected or the stream already completed
+            logger.debug("Dropping event stream for {}: {}", key, e.getMessage());
+            remove(key, emitter);
+        }
+    }
+
+    private void remove(String key, SseEmitter emitter) {
+        emittersByUser.computeIfPresent(key, (k, emitters) -> {
+            emitters.remove(emitter);
+            return emitters.isEmpty() ? null : emitters;
+        });
+    }
+
+    private static String key(UserType userType, Integer userId) {
+        return userType + ":" + userId;
+    }
+}
@@ -0,0 +1,15 @@
+package com.universalathletics.modules.requests.events;
+
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+/**
+ * The sender and receiver of a request, read without the rest of the row
+ * to address a change event after a conditional transition.
+ */
+public record RequestParties(
+        Integer requestId,
+        UserType senderType,
+        Integer senderId,
+        UserType receiverType,
+        Integer receiverId) {
+}
@@ -0,0 +1,99 @@
+package com.universalathletics.modules.requests.inbox.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
+import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.inbox.model.InboxDTO;
+import com.universalathletics.modules.requests.inbox.service.InboxService;
+import com.universalathletics.modules.requests.session.model.SessionRequestDTO;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * REST Controller for the request inbox.
+ * Returns every pending connection and session request a user has sent or
+ * received in one response, replacing the eight per-kind pending endpoints
+ * the inbox screen used to poll.
+ */
+@RestController
+@RequestMapping("/api/requests/inbox")
+@CrossOrigin(origins = "*")
+public class InboxController {
+
+    /**
+     * Logger instance for logging information and errors.
+     */
+    private static final Logger logger = LoggerFactory.getLogger(InboxController.class);
+
+    /**
+     * Autowired instance of InboxService used for facilitating dataflow to service layer.
+     */
+    @Autowired
+    private InboxService inboxService;
+
+    /**
+     * Autowired instance of GoogleCloudStorageService for handling profile picture signing.
+     */
+    @Autowired
+    private GoogleCloudStorageService storageService;
+
+    /**
+     * Get all pending requests a user has sent or received.
+     * 
+     * @param userType The type of the user ("member" or "coach")
+     * @param id The ID of the user
+     * @return ResponseEntity containing the user's inbox, or 400 for an unknown user type
+     */
+    @GetMapping("/{userType}/{id}")
+    public ResponseEntity<InboxDTO> getInbox(
+            @PathVariable String userType,
+            @PathVariable Integer id) {
+        UserType type;
+        try {
+            type = UserType.valueOf(userType.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            logger.warn("Unknown user type for inbox: " + userType);
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).build();
+        }
+
+        try {
+            InboxDTO inbox = inboxService.getInbox(type, id);
+
+            // Sign every profile picture in the inbox with one batch call
+            signProfilePictureUrls(inbox);
+
+            return ResponseEntity.ok(inbox);
+        } catch (Exception e) {
+            logger.error("Error retrieving inbox for " + type + " " + id + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Helper method to sign the profile picture URLs of every request in an inbox.
+     * 
+     * @param inbox The inbox to process
+     */
+    private void signProfilePictureUrls(InboxDTO inbox) {
+        List<ConnectionRequestDTO> connections = new ArrayList<>(inbox.getReceivedConnections());
+        connections.addAll(inbox.getSentConnections());
+        List<SessionRequestDTO> sessions = new ArrayList<>(inbox.getReceivedSessions());
+        sessions.addAll(inbox.getSentSessions());
+
+        storageService.newPictureBatch()
+            .add(connections, ConnectionRequestDTO::getSenderProfilePic, ConnectionRequestDTO::setSenderProfilePic)
+            .add(connections, ConnectionRequestDTO::getReceiverProfilePic, ConnectionRequestDTO::setReceiverProfilePic)
+            .add(sessions, SessionRequestDTO::getSenderProfilePic, SessionRequestDTO::setSenderProfilePic)
+            .add(sessions, SessionRequestDTO::getReceiverProfilePic, SessionRequestDTO::setReceiverProfilePic)
+            .sign();
+    }
+}
@@ -0,0 +1,25 @@
+package com.universalathletics.modules.requests.inbox.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.session.model.SessionRequestDTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Used to model every pending request a user has sent or received, grouped
+ * the way the inbox screen draws them
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InboxDTO {
+    private List<ConnectionRequestDTO> receivedConnections = new ArrayList<>();
+    private List<ConnectionRequestDTO> sentConnections = new ArrayList<>();
+    private List<SessionRequestDTO> receivedSessions = new ArrayList<>();
+    private List<SessionRequestDTO> sentSessions = new ArrayList<>();
+}
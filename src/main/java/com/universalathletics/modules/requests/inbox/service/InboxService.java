@@ -0,0 +1,60 @@
+package com.universalathletics.modules.requests.inbox.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.connection.service.ConnectionRequestService;
+import com.universalathletics.modules.requests.inbox.model.InboxDTO;
+import com.universalathletics.modules.requests.session.model.SessionRequestDTO;
+import com.universalathletics.modules.requests.session.service.SessionRequestService;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+/**
+ * Service class for building a user's request inbox.
+ * Reads each request table once and splits the rows into received and sent.
+ */
+@Service
+public class InboxService {
+
+    @Autowired
+    private ConnectionRequestService connectionRequestService;
+
+    @Autowired
+    private SessionRequestService sessionRequestService;
+
+    /**
+     * Get every pending connection and session request a user has sent or received.
+     * 
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @return InboxDTO with the requests grouped by kind and direction, newest first
+     */
+    @Transactional(readOnly = true)
+    public InboxDTO getInbox(UserType userType, Integer userId) {
+        InboxDTO inbox = new InboxDTO();
+
+        for (ConnectionRequestDTO request : connectionRequestService.getPendingRequestsInvolving(userType, userId)) {
+            if (isReceiver(request.getReceiverType(), request.getReceiverId(), userType, userId)) {
+                inbox.getReceivedConnections().add(request);
+            } else {
+                inbox.getSentConnections().add(request);
+            }
+        }
+
+        for (SessionRequestDTO request : sessionRequestService.getPendingRequestsInvolving(userType, userId)) {
+            if (isReceiver(request.getReceiverType(), request.getReceiverId(), userType, userId)) {
+                inbox.getReceivedSessions().add(request);
+            } else {
+                inbox.getSentSessions().add(request);
+            }
+        }
+
+        return inbox;
+    }
+
+    private static boolean isReceiver(UserType receiverType, Integer receiverId, UserType userType, Integer userId) {
+        return receiverType == userType && userId.equals(receiverId);
+    }
+}
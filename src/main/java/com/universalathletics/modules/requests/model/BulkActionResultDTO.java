@@ -0,0 +1,22 @@
+package com.universalathletics.modules.requests.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Used to model the outcome for one request in a bulk accept, decline or
+ * cancel call
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkActionResultDTO {
+    private Integer requestId;
+    private boolean success;
+
+    /**
+     * Why the request was not changed, or null on success
+     */
+    private String error;
+}
@@ -0,0 +1,73 @@
+package com.universalathletics.modules.requests.model;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.Comparator;
+
+/**
+ * Opaque keyset cursor for paging through a user's request history, most
+ * recently updated first.
+ *
+ * Holds the (Updated_At, Request_ID) of the last request on a page; the next
+ * page starts with the first request strictly before it. Request IDs are
+ * shared by the hot and archive tables, so the same cursor works for both.
+ *
+ * @param updatedAt When the last request on the previous page was updated
+ * @param requestId ID of the last request on the previous page
+ */
+public record RequestHistoryCursor(LocalDateTime updatedAt, int requestId) {
+
+    /**
+     * History order: most recently updated first, then highest ID first.
+     */
+    public static final Comparator<RequestHistoryCursor> NEWEST_FIRST =
+        Comparator.comparing(RequestHistoryCursor::updatedAt)
+            .thenComparingInt(RequestHistoryCursor::requestId)
+            .reversed();
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES + Integer.BYTES;
+
+    private static final LocalDateTime LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    /**
+     * Builds the cursor that precedes every request, for the first page.
+     */
+    public static RequestHistoryCursor first() {
+        return new RequestHistoryCursor(LATEST, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe string for the client to send back.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.putLong(updatedAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(updatedAt.getNano());
+        buffer.putInt(requestId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor
+     * @return RequestHistoryCursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static RequestHistoryCursor decode(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            return new RequestHistoryCursor(
+                LocalDateTime.ofEpochSecond(buffer.getLong(), buffer.getInt(), ZoneOffset.UTC), buffer.getInt());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.universalathletics.modules.requests.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Used to model one page of a user's resolved requests, most recently
+ * updated first, drawn from both the hot and archive tables
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RequestHistoryPageDTO<T> {
+
+    /**
+     * Largest page a client may request
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    private List<T> requests;
+
+    /**
+     * Cursor for the next page, or null when this is the last page
+     */
+    private String nextCursor;
+
+    /**
+     * Merges pages read from the hot and archive tables into one page.
+     * Each source must already be in history order and hold up to limit + 1
+     * rows, so the merged page is exact and knows whether more rows follow.
+     *
+     * @param recent     Resolved requests still in the hot table
+     * @param archived   Requests from the archive table
+     * @param limit      The page size
+     * @param positionOf Reads a request's (updatedAt, id) position
+     * @return RequestHistoryPageDTO with at most limit requests
+     */
+    public static <T> RequestHistoryPageDTO<T> merge(List<T> recent, List<T> archived, int limit,
+                                                     Function<T, RequestHistoryCursor> positionOf) {
+        List<T> merged = new ArrayList<>(Math.min(limit + 1, recent.size() + archived.size()));
+        int r = 0;
+        int a = 0;
+        while (merged.size() <= limit && (r < recent.size() || a < archived.size())) {
+            boolean takeRecent = a >= archived.size() || (r < recent.size()
+                && RequestHistoryCursor.NEWEST_FIRST.compare(
+                    positionOf.apply(recent.get(r)), positionOf.apply(archived.get(a))) <= 0);
+            merged.add(takeRecent ? recent.get(r++) : archived.get(a++));
+        }
+        if (merged.size() <= limit) {
+            return new RequestHistoryPageDTO<>(merged, null);
+        }
+        List<T> page = new ArrayList<>(merged.subList(0, limit));
+        return new RequestHistoryPageDTO<>(page, positionOf.apply(page.get(limit - 1)).encode());
+    }
+}
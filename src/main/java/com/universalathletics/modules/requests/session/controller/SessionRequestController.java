@@ -10,8 +10,14 @@ import org.slf4j.LoggerFactory;
 import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
 import com.universalathletics.modules.requests.session.service.SessionRequestService;
 import com.universalathletics.modules.requests.session.model.SessionRequestDTO;
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+import com.universalathletics.modules.requests.model.RequestHistoryPageDTO;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.service.SessionConflictException;
 
 import java.util.List;
+import java.util.Locale;
 
 /**
  * REST Controller for handling session request operations.
@@ -45,6 +51,11 @@ public class SessionRequestController {
     @Autowired
     private GoogleCloudStorageService storageService;
 
+    /**
+     * Page size for history queries that do not pass a limit.
+     */
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 50;
+
     /**
      * Get all pending session requests where the recipient is a member with the specified ID.
      * 
@@ -202,7 +213,8 @@ public class SessionRequestController {
      * 
      * @param requestId The ID of the session request to accept
      * @param receiverId The ID of the member accepting the request
-     * @return ResponseEntity indicating success or failure
+     * @return ResponseEntity indicating success or failure, or 409 (CONFLICT)
+     *         if every proposed slot overlaps an existing booking
      */
     @PutMapping("/{requestId}/accept/{receiverId}")
     public ResponseEntity<String> acceptSessionRequest(
@@ -219,6 +231,10 @@ public class SessionRequestController {
                 return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body("Unable to accept session request. Request may not exist, may not belong to you, or may not be pending.");
             }
+        } catch (SessionConflictException e) {
+            logger.warn("Session request {} conflicts with existing bookings: {}", requestId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(e.getMessage());
         } catch (Exception e) {
             logger.error("Error accepting session request " + requestId + " for user " + receiverId + ": " + e.getMessage(), e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
@@ -226,6 +242,50 @@ public class SessionRequestController {
         }
     }
 
+    /**
+     * Accept a session request and schedule one of its proposed slots in one
+     * step. The session is created server-side from the request's details.
+     * 
+     * @param requestId The ID of the session request to accept
+     * @param receiverId The ID of the user accepting the request
+     * @param slot The proposed slot to schedule (1, 2 or 3)
+     * @return ResponseEntity with status 201 (CREATED) and the new session,
+     *         400 (BAD REQUEST) if the request cannot be accepted or the slot is
+     *         invalid, or 409 (CONFLICT) if the slot overlaps an existing booking
+     */
+    @PostMapping("/{requestId}/accept/{receiverId}/schedule/{slot}")
+    public ResponseEntity<?> acceptAndScheduleSessionRequest(
+            @PathVariable Integer requestId,
+            @PathVariable Integer receiverId,
+            @PathVariable Integer slot) {
+        try {
+            SessionEntity session = sessionRequestService.acceptAndScheduleSessionRequest(requestId, receiverId, slot);
+
+            if (session != null) {
+                logger.info("Session request {} accepted by user {} and scheduled as session {}",
+                    requestId, receiverId, session.getId());
+                signProfilePictureUrls(session);
+                return ResponseEntity.status(HttpStatus.CREATED).body(session);
+            } else {
+                logger.warn("Failed to accept session request {} for user {}", requestId, receiverId);
+                return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body("Unable to accept session request. Request may not exist, may not belong to you, or may not be pending.");
+            }
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid slot for session request " + requestId + ": " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                .body("Invalid request data: " + e.getMessage());
+        } catch (SessionConflictException e) {
+            logger.warn("Session request {} conflicts with existing bookings: {}", requestId, e.getMessage());
+            return ResponseEntity.status(HttpStatus.CONFLICT)
+                .body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error accepting and scheduling session request " + requestId + " for user " + receiverId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while scheduling the session request");
+        }
+    }
+
     /**
      * Decline a session request by updating its status to REJECTED.
      * 
@@ -285,32 +345,140 @@ public class SessionRequestController {
         }
     }
 
+    /**
+     * Get a user's resolved session requests (accepted, rejected or cancelled),
+     * most recently updated first, including requests that have been archived.
+     * 
+     * @param userType The type of the user ("member" or "coach")
+     * @param id The ID of the user
+     * @param limit Page size (default 50)
+     * @param cursor The nextCursor of the previous page, or omitted for the first page
+     * @return ResponseEntity containing one page of history
+     */
+    @GetMapping("/history/{userType}/{id}")
+    public ResponseEntity<?> getSessionRequestHistory(
+            @PathVariable String userType,
+            @PathVariable Integer id,
+            @RequestParam(defaultValue = "" + DEFAULT_HISTORY_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String cursor) {
+        try {
+            UserType type = UserType.valueOf(userType.toUpperCase(Locale.ROOT));
+            RequestHistoryPageDTO<SessionRequestDTO> history =
+                sessionRequestService.getRequestHistory(type, id, limit, cursor);
+
+            // Sign URLs for profile pictures
+            signProfilePictureUrls(history.getRequests());
+
+            return ResponseEntity.ok(history);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid session request history query: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body("Invalid history query: " + e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error retrieving session request history for " + userType + " " + id + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Accept several session requests in one call.
+     * Each ID gets its own result; requests that do not exist, belong to someone
+     * else or are no longer pending are reported and skipped.
+     * 
+     * @param receiverId The ID of the user accepting the requests
+     * @param requestIds The IDs of the session requests to accept
+     * @return ResponseEntity containing one result per request ID
+     */
+    @PutMapping("/bulk/accept/{receiverId}")
+    public ResponseEntity<?> acceptSessionRequests(
+            @PathVariable Integer receiverId,
+            @RequestBody List<Integer> requestIds) {
+        try {
+            List<BulkActionResultDTO> results = sessionRequestService.acceptSessionRequests(requestIds, receiverId);
+            logger.info("Bulk accept of {} session requests by user {}", results.size(), receiverId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk accept of session requests: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error bulk accepting session requests for user " + receiverId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while accepting the session requests");
+        }
+    }
+
+    /**
+     * Decline several session requests in one call.
+     * 
+     * @param receiverId The ID of the user declining the requests
+     * @param requestIds The IDs of the session requests to decline
+     * @return ResponseEntity containing one result per request ID
+     */
+    @PutMapping("/bulk/decline/{receiverId}")
+    public ResponseEntity<?> declineSessionRequests(
+            @PathVariable Integer receiverId,
+            @RequestBody List<Integer> requestIds) {
+        try {
+            List<BulkActionResultDTO> results = sessionRequestService.declineSessionRequests(requestIds, receiverId);
+            logger.info("Bulk decline of {} session requests by user {}", results.size(), receiverId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk decline of session requests: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error bulk declining session requests for user " + receiverId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while declining the session requests");
+        }
+    }
+
+    /**
+     * Cancel several session requests in one call.
+     * 
+     * @param senderId The ID of the user who sent the requests
+     * @param requestIds The IDs of the session requests to cancel
+     * @return ResponseEntity containing one result per request ID
+     */
+    @PutMapping("/bulk/cancel/{senderId}")
+    public ResponseEntity<?> cancelSessionRequests(
+            @PathVariable Integer senderId,
+            @RequestBody List<Integer> requestIds) {
+        try {
+            List<BulkActionResultDTO> results = sessionRequestService.cancelSessionRequests(requestIds, senderId);
+            logger.info("Bulk cancel of {} session requests by sender {}", results.size(), senderId);
+            return ResponseEntity.ok(results);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid bulk cancel of session requests: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+        } catch (Exception e) {
+            logger.error("Error bulk cancelling session requests for sender " + senderId + ": " + e.getMessage(), e);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("An error occurred while cancelling the session requests");
+        }
+    }
+
+    /**
+     * Helper method to sign the coach and member profile picture URLs of a
+     * newly scheduled session.
+     * 
+     * @param session The session to process
+     */
+    private void signProfilePictureUrls(SessionEntity session) {
+        List<SessionEntity> sessions = List.of(session);
+        storageService.newPictureBatch()
+            .add(sessions, SessionEntity::getCoachProfilePic, SessionEntity::setCoachProfilePic)
+            .add(sessions, SessionEntity::getMemberProfilePic, SessionEntity::setMemberProfilePic)
+            .sign();
+    }
+
     /**
      * Helper method to sign profile picture URLs for a list of session requests.
      * 
      * @param requests List of session request DTOs to process
      */
     private void signProfilePictureUrls(List<SessionRequestDTO> requests) {
-        for (SessionRequestDTO request : requests) {
-            // Sign sender profile picture
-            if (request.getSenderProfilePic() != null && !request.getSenderProfilePic().isEmpty()) {
-                try {
-                    String signedSenderUrl = storageService.getSignedFileUrl(request.getSenderProfilePic());
-                    request.setSenderProfilePic(signedSenderUrl);
-                } catch (Exception e) {
-                    logger.error("Error signing sender profile picture URL for session request " + request.getId() + ": " + e.getMessage(), e);
-                }
-            }
-            
-            // Sign receiver profile picture
-            if (request.getReceiverProfilePic() != null && !request.getReceiverProfilePic().isEmpty()) {
-                try {
-                    String signedReceiverUrl = storageService.getSignedFileUrl(request.getReceiverProfilePic());
-                    request.setReceiverProfilePic(signedReceiverUrl);
-                } catch (Exception e) {
-                    logger.error("Error signing receiver profile picture URL for session request " + request.getId() + ": " + e.getMessage(), e);
-                }
-            }
-        }
+        storageService.newPictureBatch()
+            .add(requests, SessionRequestDTO::getSenderProfilePic, SessionRequestDTO::setSenderProfilePic)
+            .add(requests, SessionRequestDTO::getReceiverProfilePic, SessionRequestDTO::setReceiverProfilePic)
+            .sign();
     }
 }
@@ -8,6 +8,7 @@ import lombok.AllArgsConstructor;
 import java.time.LocalDate;
 import java.time.LocalTime;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Data
 @NoArgsConstructor
@@ -38,4 +39,10 @@ public class SessionRequestDTO {
     private LocalTime sessionTime3;
     private String sessionLocation;
     private String sessionDescription;
+
+    /**
+     * Proposed slots (1 to 3) that overlap an existing booking of the sender
+     * or receiver. Only filled in on responses.
+     */
+    private List<Integer> conflictingSlots;
 }
@@ -1,18 +1,26 @@
 package com.universalathletics.modules.requests.session.repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.LockModeType;
+
 import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
 import com.universalathletics.modules.requests.util.enums.RequestStatus;
 import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.requests.events.RequestParties;
 
 @Repository
 public interface SessionRequestRepository extends JpaRepository<SessionRequestEntity, Integer> {
@@ -48,6 +56,23 @@ public interface SessionRequestRepository extends JpaRepository<SessionRequestEn
         Integer senderId
     );
 
+    /**
+     * Find requests with a given status that a user either sent or received,
+     * newest first. Used to build the inbox in a single query per table.
+     * 
+     * @param status The status of the request (e.g., PENDING)
+     * @param userType The type of the user (e.g., MEMBER, COACH)
+     * @param userId The ID of the user
+     * @return List of session requests sent or received by the user
+     */
+    @Query("SELECT c FROM SessionRequestEntity c WHERE c.status = :status AND " +
+           "((c.receiverType = :userType AND c.receiverId = :userId) OR " +
+           "(c.senderType = :userType AND c.senderId = :userId)) " +
+           "ORDER BY c.createdAt DESC, c.id DESC")
+    List<SessionRequestEntity> findByStatusInvolvingUser(@Param("status") RequestStatus status,
+                                          @Param("userType") UserType userType,
+                                          @Param("userId") Integer userId);
+
     /**
      * Find a connection request by ID and receiver ID to ensure the user can only 
      * modify requests they are the receiver of.
@@ -98,4 +123,207 @@ public interface SessionRequestRepository extends JpaRepository<SessionRequestEn
      */
     Optional<SessionRequestEntity> findByIdAndSenderId(Integer requestId, Integer senderId);
 
+    /**
+     * Find the sender and receiver of a request without loading the rest of
+     * the row, such as the participants' pictures.
+     * 
+     * @param requestId The ID of the request
+     * @return Optional containing the request's parties if found
+     */
+    @Query("SELECT new com.universalathletics.modules.requests.events.RequestParties(" +
+           "c.id, c.senderType, c.senderId, c.receiverType, c.receiverId) FROM SessionRequestEntity c WHERE c.id = :requestId")
+    Optional<RequestParties> findPartiesById(@Param("requestId") Integer requestId);
+
+    /**
+     * Moves a request from one status to another, but only if it is addressed
+     * to the given receiver and still has the expected status. The check and
+     * the update happen in one statement, so two concurrent transitions can
+     * never both succeed.
+     * 
+     * @param requestId The ID of the session request
+     * @param receiverId The ID of the receiver
+     * @param from The status the request must currently have
+     * @param to The new status to set
+     * @return 1 if the transition happened, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SessionRequestEntity c SET c.status = :to, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :requestId AND c.receiverId = :receiverId AND c.status = :from")
+    int transitionForReceiver(@Param("requestId") Integer requestId,
+                              @Param("receiverId") Integer receiverId,
+                              @Param("from") RequestStatus from,
+                              @Param("to") RequestStatus to);
+
+    /**
+     * Moves a request from one status to another, but only if it was sent by
+     * the given sender and still has the expected status.
+     * 
+     * @param requestId The ID of the session request
+     * @param senderId The ID of the sender
+     * @param from The status the request must currently have
+     * @param to The new status to set
+     * @return 1 if the transition happened, 0 otherwise
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SessionRequestEntity c SET c.status = :to, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id = :requestId AND c.senderId = :senderId AND c.status = :from")
+    int transitionForSender(@Param("requestId") Integer requestId,
+                            @Param("senderId") Integer senderId,
+                            @Param("from") RequestStatus from,
+                            @Param("to") RequestStatus to);
+
+    /**
+     * Locks the requests among the given IDs that are addressed to the
+     * receiver and still have the expected status. Used by bulk transitions
+     * so every returned request is guaranteed to be updated.
+     * 
+     * @param requestIds The IDs of the session requests
+     * @param receiverId The ID of the receiver
+     * @param status The status the requests must currently have
+     * @return List of matching requests, locked until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SessionRequestEntity c WHERE c.id IN :requestIds AND c.receiverId = :receiverId AND c.status = :status")
+    List<SessionRequestEntity> lockForReceiver(@Param("requestIds") Collection<Integer> requestIds,
+                                @Param("receiverId") Integer receiverId,
+                                @Param("status") RequestStatus status);
+
+    /**
+     * Locks the requests among the given IDs that were sent by the sender and
+     * still have the expected status.
+     * 
+     * @param requestIds The IDs of the session requests
+     * @param senderId The ID of the sender
+     * @param status The status the requests must currently have
+     * @return List of matching requests, locked until the transaction ends
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM SessionRequestEntity c WHERE c.id IN :requestIds AND c.senderId = :senderId AND c.status = :status")
+    List<SessionRequestEntity> lockForSender(@Param("requestIds") Collection<Integer> requestIds,
+                              @Param("senderId") Integer senderId,
+                              @Param("status") RequestStatus status);
+
+    /**
+     * Moves a batch of requests from one status to another in one statement.
+     * 
+     * @param requestIds The IDs of the session requests
+     * @param from The status the requests must currently have (PENDING)
+     * @param to The new, non-pending status to set
+     * @return Number of rows affected
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE SessionRequestEntity c SET c.status = :to, c.updatedAt = CURRENT_TIMESTAMP " +
+           "WHERE c.id IN :requestIds AND c.status = :from")
+    int transitionAll(@Param("requestIds") Collection<Integer> requestIds,
+                      @Param("from") RequestStatus from,
+                      @Param("to") RequestStatus to);
+
+    /**
+     * Find accepted requests that still hold time slots for any of the given
+     * coaches or members: requests with no session yet and at least one
+     * proposed date between the two dates.
+     * 
+     * @param status The status of requests that hold slots (ACCEPTED)
+     * @param coachIds IDs of the coaches
+     * @param memberIds IDs of the members
+     * @param from First date to include
+     * @param to Last date to include
+     * @return List of requests holding slots for the users
+     */
+    @Query(HELD_SLOTS)
+    List<SessionRequestEntity> findHeldSlots(@Param("status") RequestStatus status,
+                                             @Param("coachIds") Collection<Integer> coachIds,
+                                             @Param("memberIds") Collection<Integer> memberIds,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    /**
+     * Same as findHeldSlots, as a locking read, so requests accepted by
+     * transactions that committed after this one started are seen.
+     * 
+     * @param status The status of requests that hold slots (ACCEPTED)
+     * @param coachIds IDs of the coaches
+     * @param memberIds IDs of the members
+     * @param from First date to include
+     * @param to Last date to include
+     * @return List of requests holding slots for the users
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query(HELD_SLOTS)
+    List<SessionRequestEntity> lockHeldSlots(@Param("status") RequestStatus status,
+                                             @Param("coachIds") Collection<Integer> coachIds,
+                                             @Param("memberIds") Collection<Integer> memberIds,
+                                             @Param("from") LocalDate from,
+                                             @Param("to") LocalDate to);
+
+    /**
+     * Shared query of findHeldSlots and lockHeldSlots.
+     */
+    String HELD_SLOTS = "SELECT c FROM SessionRequestEntity c WHERE c.status = :status AND " +
+           "((c.senderType = com.universalathletics.modules.requests.util.enums.UserType.COACH AND c.senderId IN :coachIds) OR " +
+           "(c.senderType = com.universalathletics.modules.requests.util.enums.UserType.MEMBER AND c.senderId IN :memberIds) OR " +
+           "(c.receiverType = com.universalathletics.modules.requests.util.enums.UserType.COACH AND c.receiverId IN :coachIds) OR " +
+           "(c.receiverType = com.universalathletics.modules.requests.util.enums.UserType.MEMBER AND c.receiverId IN :memberIds)) AND " +
+           "((c.sessionDate1 >= :from AND c.sessionDate1 <= :to) OR " +
+           "(c.sessionDate2 >= :from AND c.sessionDate2 <= :to) OR " +
+           "(c.sessionDate3 >= :from AND c.sessionDate3 <= :to)) AND " +
+           "NOT EXISTS (SELECT s.id FROM SessionEntity s WHERE s.requestId = c.id)";
+
+    /**
+     * Find IDs of resolved session requests last updated before a cutoff,
+     * oldest ID first. Accepted requests are kept until every proposed date
+     * has passed, because their future slots still count as bookings.
+     * 
+     * @param cutoff Only requests last updated before this are returned
+     * @param today Accepted requests need all proposed dates before this
+     * @param limit Maximum number of IDs to return
+     * @return List of request IDs ready to archive
+     */
+    @Query(value = "SELECT Request_ID FROM Session_Request " +
+                   "WHERE Status <> 'PENDING' AND Updated_At < :cutoff " +
+                   "AND (Status <> 'ACCEPTED' OR GREATEST(Session_Date_1, Session_Date_2, Session_Date_3) < :today) " +
+                   "ORDER BY Request_ID LIMIT :limit",
+           nativeQuery = true)
+    List<Integer> findArchivableIds(@Param("cutoff") LocalDateTime cutoff,
+                                    @Param("today") LocalDate today,
+                                    @Param("limit") int limit);
+
+    /**
+     * Delete a batch of session requests after they have been copied to the archive.
+     * 
+     * @param requestIds The IDs of the requests to delete
+     * @return Number of rows deleted
+     */
+    @Modifying
+    @Query("DELETE FROM SessionRequestEntity c WHERE c.id IN :requestIds")
+    int deleteAllByIds(@Param("requestIds") Collection<Integer> requestIds);
+
+    /**
+     * Find one page of a user's resolved session requests that are still in
+     * the hot table, most recently updated first, starting after the given
+     * (updatedAt, id) position. Merged with the archive for history.
+     * 
+     * @param excludedStatus The status to leave out (PENDING)
+     * @param userType The type of the user
+     * @param userId The ID of the user
+     * @param beforeUpdatedAt Only rows updated before this (or at it with a lower ID)
+     * @param beforeId Tie-breaker for rows updated at beforeUpdatedAt
+     * @param pageable Page size
+     * @return List of resolved requests sent or received by the user
+     */
+    @Query("SELECT c FROM SessionRequestEntity c WHERE c.status <> :excludedStatus AND " +
+           "((c.receiverType = :userType AND c.receiverId = :userId) OR " +
+           "(c.senderType = :userType AND c.senderId = :userId)) AND " +
+           "(c.updatedAt < :beforeUpdatedAt OR (c.updatedAt = :beforeUpdatedAt AND c.id < :beforeId)) " +
+           "ORDER BY c.updatedAt DESC, c.id DESC")
+    List<SessionRequestEntity> findHistory(@Param("excludedStatus") RequestStatus excludedStatus,
+                            @Param("userType") UserType userType,
+                            @Param("userId") Integer userId,
+                            @Param("beforeUpdatedAt") LocalDateTime beforeUpdatedAt,
+                            @Param("beforeId") Integer beforeId,
+                            Pageable pageable);
+
 }
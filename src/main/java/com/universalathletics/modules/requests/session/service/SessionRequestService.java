@@ -1,28 +1,71 @@
 package com.universalathletics.modules.requests.session.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.universalathletics.modules.requests.archive.entity.SessionRequestArchiveEntity;
+import com.universalathletics.modules.requests.archive.repository.SessionRequestArchiveRepository;
+import com.universalathletics.modules.requests.events.RequestChangedEvent;
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+import com.universalathletics.modules.requests.model.RequestHistoryCursor;
+import com.universalathletics.modules.requests.model.RequestHistoryPageDTO;
 import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
 import com.universalathletics.modules.requests.session.model.SessionRequestDTO;
 import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+import com.universalathletics.modules.requests.util.BulkActions;
 import com.universalathletics.modules.requests.util.enums.RequestStatus;
 import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.service.SessionConflictException;
+import com.universalathletics.modules.session.service.SessionConflictIndex;
+import com.universalathletics.modules.session.service.SessionService;
 
 /**
  * Service class for routing session request operations. 
  */
 @Service
 public class SessionRequestService {
+
+    private static final String ALL_SLOTS_CONFLICT_MESSAGE = "Every proposed slot overlaps an existing booking";
     
     @Autowired
     private SessionRequestRepository sessionRequestRepository;
+
+    @Autowired
+    private SessionRequestArchiveRepository sessionRequestArchiveRepository;
+
+    /**
+     * Reads the users' bookings to flag and reject conflicting slots.
+     */
+    @Autowired
+    private SessionConflictIndex sessionConflictIndex;
+
+    /**
+     * Used to create the session when a request is accepted and scheduled in
+     * one step.
+     */
+    @Autowired
+    private SessionService sessionService;
+
+    /**
+     * Notifies open request event streams once changes commit.
+     */
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
     
     /**
      * Get all pending session requests where the recipient is a member with the specified ID.
@@ -34,9 +77,7 @@ public class SessionRequestService {
             memberId
         );
         
-        return entities.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToFlaggedDtos(entities);
     }
     
     /**
@@ -49,9 +90,7 @@ public class SessionRequestService {
             coachId
         );
         
-        return entities.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToFlaggedDtos(entities);
     }
     
     /**
@@ -64,9 +103,7 @@ public class SessionRequestService {
             memberId
         );
         
-        return entities.stream()
-            .map(this::convertToDto)
-            .collect(Collectors.toList());
+        return convertToFlaggedDtos(entities);
     }
     
     /**
@@ -79,9 +116,48 @@ public class SessionRequestService {
             coachId
         );
         
-        return entities.stream()
+        return convertToFlaggedDtos(entities);
+    }
+    
+    /**
+     * Get all pending session requests a user has sent or received, newest first.
+     * Used by the inbox, which reads each table once, so conflicting slots are
+     * not flagged; the per-direction lists above flag them.
+     */
+    public List<SessionRequestDTO> getPendingRequestsInvolving(UserType userType, Integer userId) {
+        return sessionRequestRepository.findByStatusInvolvingUser(RequestStatus.PENDING, userType, userId)
+            .stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+    }
+    
+    /**
+     * Get one page of a user's resolved session requests, most recently
+     * updated first, merged from the hot table and the archive.
+     *
+     * @throws IllegalArgumentException if the limit is out of range or the cursor is malformed
+     */
+    public RequestHistoryPageDTO<SessionRequestDTO> getRequestHistory(UserType userType, Integer userId,
+                                                                     int limit, String cursor) {
+        if (limit < 1 || limit > RequestHistoryPageDTO.MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + RequestHistoryPageDTO.MAX_PAGE_SIZE);
+        }
+        RequestHistoryCursor position = cursor != null ? RequestHistoryCursor.decode(cursor) : RequestHistoryCursor.first();
+        Pageable page = PageRequest.of(0, limit + 1);
+
+        List<SessionRequestDTO> recent = sessionRequestRepository
+            .findHistory(RequestStatus.PENDING, userType, userId, position.updatedAt(), position.requestId(), page)
+            .stream()
+            .map(this::convertToDto)
+            .collect(Collectors.toList());
+        List<SessionRequestDTO> archived = sessionRequestArchiveRepository
+            .findHistory(userType, userId, position.updatedAt(), position.requestId(), page)
+            .stream()
             .map(this::convertToDto)
             .collect(Collectors.toList());
+
+        return RequestHistoryPageDTO.merge(recent, archived, limit,
+            dto -> new RequestHistoryCursor(dto.getUpdatedAt(), dto.getId()));
     }
     
     /**
@@ -138,12 +214,16 @@ public class SessionRequestService {
         
         // Save the entity
         SessionRequestEntity savedEntity = sessionRequestRepository.save(entity);
+        publishChange(savedEntity, RequestStatus.PENDING);
         
         return convertToDto(savedEntity);
     }
     
     /**
      * Accept a session request by updating its status to ACCEPTED.
+     * Until its session is scheduled, an accepted request holds its proposed slots.
+     *
+     * @throws SessionConflictException if every proposed slot overlaps an existing booking
      */
     @Transactional
     public boolean acceptSessionRequest(Integer requestId, Integer receiverId) {
@@ -153,50 +233,221 @@ public class SessionRequestService {
             SessionRequestEntity request = requestOpt.get();
             
             if (request.getStatus() == RequestStatus.PENDING) {
-                int rowsUpdated = sessionRequestRepository.updateStatusById(requestId, RequestStatus.ACCEPTED);
-                return rowsUpdated > 0;
+                        int rowsUpdated = sessionRequestRepository.transitionForReceiver(
+                    requestId, receiverId, RequestStatus.PENDING, RequestStatus.ACCEPTED);
+                if (rowsUpdated == 0) {
+                    return false;
+                }
+
+                // Locks both users until commit; the accepted request then holds its slots
+                // until the session is scheduled. A conflict rolls the transition back.
+                if (sessionConflictIndex.lockSchedules(List.of(request)).findFreeSlots(request).isEmpty()) {
+                    throw new SessionConflictException(ALL_SLOTS_CONFLICT_MESSAGE, List.of());
+                }
+                publishChange(request, RequestStatus.ACCEPTED);
+                return true;
             }
         }
         
         return false;
     }
     
+    /**
+     * Accept a session request and schedule one of its proposed slots in a
+     * single transaction. The session copies the coach and member details
+     * stored on the request, so the client does not need a second call.
+     *
+     * @param requestId  The ID of the session request
+     * @param receiverId The ID of the user accepting the request
+     * @param slot       The proposed slot to schedule (1, 2 or 3)
+     * @return SessionEntity The created session, or null if the request does not
+     *         exist, does not belong to the receiver, or is not pending
+     * @throws IllegalArgumentException if the slot is not 1-3 or has no date/time
+     * @throws SessionConflictException if the slot overlaps an existing booking; the
+     *         request is left pending
+     */
+    @Transactional
+    public SessionEntity acceptAndScheduleSessionRequest(Integer requestId, Integer receiverId, int slot) {
+        if (slot < 1 || slot > 3) {
+            throw new IllegalArgumentException("Slot must be 1, 2 or 3");
+        }
+        Optional<SessionRequestEntity> requestOpt = sessionRequestRepository.findByIdAndReceiverId(requestId, receiverId);
+        if (requestOpt.isEmpty() || requestOpt.get().getStatus() != RequestStatus.PENDING) {
+            return null;
+        }
+        SessionRequestEntity request = requestOpt.get();
+
+        LocalDateTime start = SessionConflictIndex.proposedSlots(request).get(slot - 1);
+        if (start == null) {
+            throw new IllegalArgumentException("Slot " + slot + " has no proposed date and time");
+        }
+
+        if (sessionRequestRepository.transitionForReceiver(
+                requestId, receiverId, RequestStatus.PENDING, RequestStatus.ACCEPTED) == 0) {
+            return null;
+        }
+        // saveSession locks both users and rejects overlaps; a conflict rolls the transition back
+        SessionEntity session = sessionService.saveSession(toSession(request, start));
+        publishChange(request, RequestStatus.ACCEPTED);
+        return session;
+    }
+
+    /**
+     * Builds the session for an accepted request, copying the denormalized
+     * coach and member details from whichever side of the request they are on.
+     */
+    private SessionEntity toSession(SessionRequestEntity request, LocalDateTime start) {
+        boolean coachSent = request.getSenderType() == UserType.COACH;
+        SessionEntity session = new SessionEntity();
+        session.setRequestId(request.getId());
+        session.setSessionDate(start.toLocalDate());
+        session.setSessionTime(start.toLocalTime());
+        session.setSessionLocation(request.getSessionLocation());
+        session.setSessionDescription(request.getSessionDescription());
+
+        session.setCoachId(coachSent ? request.getSenderId() : request.getReceiverId());
+        session.setCoachFirebaseId(coachSent ? request.getSenderFirebaseId() : request.getReceiverFirebaseId());
+        session.setCoachFirstName(coachSent ? request.getSenderFirstName() : request.getReceiverFirstName());
+        session.setCoachLastName(coachSent ? request.getSenderLastName() : request.getReceiverLastName());
+        session.setCoachProfilePic(coachSent ? request.getSenderProfilePic() : request.getReceiverProfilePic());
+
+        session.setMemberId(coachSent ? request.getReceiverId() : request.getSenderId());
+        session.setMemberFirebaseId(coachSent ? request.getReceiverFirebaseId() : request.getSenderFirebaseId());
+        session.setMemberFirstName(coachSent ? request.getReceiverFirstName() : request.getSenderFirstName());
+        session.setMemberLastName(coachSent ? request.getReceiverLastName() : request.getSenderLastName());
+        session.setMemberProfilePic(coachSent ? request.getReceiverProfilePic() : request.getSenderProfilePic());
+
+        LocalDateTime now = LocalDateTime.now();
+        session.setCreatedAt(now);
+        session.setUpdatedAt(now);
+        return session;
+    }
+
     /**
      * Decline a session request by updating its status to REJECTED.
+     * Only succeeds if the request belongs to the receiver and is still PENDING.
      */
     public boolean declineSessionRequest(Integer requestId, Integer receiverId) {
-        Optional<SessionRequestEntity> requestOpt = sessionRequestRepository.findByIdAndReceiverId(requestId, receiverId);
-        
-        if (requestOpt.isPresent()) {
-            SessionRequestEntity request = requestOpt.get();
-            
-            if (request.getStatus() == RequestStatus.PENDING) {
-                int rowsUpdated = sessionRequestRepository.updateStatusById(requestId, RequestStatus.REJECTED);
-                return rowsUpdated > 0;
-            }
+        if (sessionRequestRepository.transitionForReceiver(
+                requestId, receiverId, RequestStatus.PENDING, RequestStatus.REJECTED) == 0) {
+            return false;
         }
-        
-        return false;
+        publishChange(requestId, RequestStatus.REJECTED);
+        return true;
     }
     
     /**
      * Cancel a session request by updating its status to CANCELLED.
+     * Only succeeds if the request belongs to the sender and is still PENDING.
      */
     public boolean cancelSessionRequest(Integer requestId, Integer senderId) {
-        Optional<SessionRequestEntity> requestOpt = sessionRequestRepository.findByIdAndSenderId(requestId, senderId);
-        
-        if (requestOpt.isPresent()) {
-            SessionRequestEntity request = requestOpt.get();
-            
-            if (request.getStatus() == RequestStatus.PENDING) {
-                int rowsUpdated = sessionRequestRepository.updateStatusById(requestId, RequestStatus.CANCELLED);
-                return rowsUpdated > 0;
+        if (sessionRequestRepository.transitionForSender(
+                requestId, senderId, RequestStatus.PENDING, RequestStatus.CANCELLED) == 0) {
+            return false;
+        }
+        publishChange(requestId, RequestStatus.CANCELLED);
+        return true;
+    }
+
+    /**
+     * Accept several session requests at once. Matching requests are locked and
+     * updated with one statement in a single transaction. A request whose
+     * proposed slots all overlap an existing booking, including slots held by
+     * earlier requests in the same batch, is left pending.
+     *
+     * @throws IllegalArgumentException if no IDs or more than BulkActions.MAX_BATCH_SIZE are given
+     */
+    @Transactional
+    public List<BulkActionResultDTO> acceptSessionRequests(List<Integer> requestIds, Integer receiverId) {
+        List<Integer> ids = BulkActions.distinctIds(requestIds);
+        Map<Integer, String> errors = new HashMap<>();
+        List<SessionRequestEntity> acceptable = new ArrayList<>();
+        List<SessionRequestEntity> pending = sessionRequestRepository.lockForReceiver(ids, receiverId, RequestStatus.PENDING);
+        SessionConflictIndex.Schedules schedules = sessionConflictIndex.lockSchedules(pending);
+        for (SessionRequestEntity request : pending) {
+            if (schedules.findFreeSlots(request).isEmpty()) {
+                errors.put(request.getId(), ALL_SLOTS_CONFLICT_MESSAGE);
+                continue;
             }
+            // Hold in this batch's schedules so later requests in the batch see these slots as taken
+            schedules.holdRequestSlots(request, SessionConflictIndex.proposedSlots(request));
+            acceptable.add(request);
         }
-        
-        return false;
+        return BulkActions.results(ids, transitionAll(acceptable, RequestStatus.ACCEPTED), errors);
+    }
+
+    /**
+     * Decline several session requests at once.
+     *
+     * @throws IllegalArgumentException if no IDs or more than BulkActions.MAX_BATCH_SIZE are given
+     */
+    @Transactional
+    public List<BulkActionResultDTO> declineSessionRequests(List<Integer> requestIds, Integer receiverId) {
+        List<Integer> ids = BulkActions.distinctIds(requestIds);
+        Set<Integer> declined = transitionAll(
+            sessionRequestRepository.lockForReceiver(ids, receiverId, RequestStatus.PENDING), RequestStatus.REJECTED);
+        return BulkActions.results(ids, declined, Map.of());
+    }
+
+    /**
+     * Cancel several session requests at once.
+     *
+     * @throws IllegalArgumentException if no IDs or more than BulkActions.MAX_BATCH_SIZE are given
+     */
+    @Transactional
+    public List<BulkActionResultDTO> cancelSessionRequests(List<Integer> requestIds, Integer senderId) {
+        List<Integer> ids = BulkActions.distinctIds(requestIds);
+        Set<Integer> cancelled = transitionAll(
+            sessionRequestRepository.lockForSender(ids, senderId, RequestStatus.PENDING), RequestStatus.CANCELLED);
+        return BulkActions.results(ids, cancelled, Map.of());
+    }
+
+    /**
+     * Move locked pending requests to a new status with one update and publish the changes.
+     */
+    private Set<Integer> transitionAll(List<SessionRequestEntity> requests, RequestStatus status) {
+        Set<Integer> ids = requests.stream()
+            .map(SessionRequestEntity::getId)
+            .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (!ids.isEmpty()) {
+            sessionRequestRepository.transitionAll(ids, RequestStatus.PENDING, status);
+            requests.forEach(request -> publishChange(request, status));
+        }
+        return ids;
+    }
+
+    /**
+     * Publish a change so both users' event streams are notified after commit.
+     */
+    private void publishChange(SessionRequestEntity request, RequestStatus status) {
+        eventPublisher.publishEvent(RequestChangedEvent.of(RequestChangedEvent.Kind.SESSION, request, status));
+    }
+
+    /**
+     * Publish a change event for a request that was transitioned without
+     * being loaded, reading only its sender and receiver.
+     */
+    private void publishChange(Integer requestId, RequestStatus status) {
+        sessionRequestRepository.findPartiesById(requestId).ifPresent(parties -> eventPublisher.publishEvent(
+            RequestChangedEvent.of(RequestChangedEvent.Kind.SESSION, parties, status)));
     }
     
+    /**
+     * Convert SessionRequestEntities to SessionRequestDTOs, flagging proposed
+     * slots that overlap an existing booking. The bookings of every user on
+     * the list are read with one query per table.
+     */
+    private List<SessionRequestDTO> convertToFlaggedDtos(List<SessionRequestEntity> entities) {
+        SessionConflictIndex.Schedules schedules = sessionConflictIndex.loadSchedules(entities);
+        List<SessionRequestDTO> dtos = new ArrayList<>(entities.size());
+        for (SessionRequestEntity entity : entities) {
+            SessionRequestDTO dto = convertToDto(entity);
+            dto.setConflictingSlots(schedules.findConflictingSlots(entity));
+            dtos.add(dto);
+        }
+        return dtos;
+    }
+
     /**
      * Convert SessionRequestEntity to SessionRequestDTO
      */
@@ -234,6 +485,41 @@ public class SessionRequestService {
         return dto;
     }
     
+    /**
+     * Convert an archived session request to SessionRequestDTO
+     */
+    private SessionRequestDTO convertToDto(SessionRequestArchiveEntity entity) {
+        SessionRequestDTO dto = new SessionRequestDTO();
+        dto.setId(entity.getId());
+        dto.setSenderType(entity.getSenderType());
+        dto.setSenderId(entity.getSenderId());
+        dto.setSenderFirebaseId(entity.getSenderFirebaseId());
+        dto.setReceiverType(entity.getReceiverType());
+        dto.setReceiverId(entity.getReceiverId());
+        dto.setReceiverFirebaseId(entity.getReceiverFirebaseId());
+        dto.setSenderFirstName(entity.getSenderFirstName());
+        dto.setSenderLastName(entity.getSenderLastName());
+        dto.setSenderProfilePic(entity.getSenderProfilePic());
+        dto.setReceiverFirstName(entity.getReceiverFirstName());
+        dto.setReceiverLastName(entity.getReceiverLastName());
+        dto.setReceiverProfilePic(entity.getReceiverProfilePic());
+        dto.setMessage(entity.getMessage());
+        dto.setStatus(entity.getStatus());
+        dto.setCreatedAt(entity.getCreatedAt());
+        dto.setUpdatedAt(entity.getUpdatedAt());
+        
+        dto.setSessionDate1(entity.getSessionDate1());
+        dto.setSessionDate2(entity.getSessionDate2());
+        dto.setSessionDate3(entity.getSessionDate3());
+        dto.setSessionTime1(entity.getSessionTime1());
+        dto.setSessionTime2(entity.getSessionTime2());
+        dto.setSessionTime3(entity.getSessionTime3());
+        dto.setSessionLocation(entity.getSessionLocation());
+        dto.setSessionDescription(entity.getSessionDescription());
+        
+        return dto;
+    }
+    
     /**
      * Convert SessionRequestDTO to SessionRequestEntity
      */
@@ -0,0 +1,73 @@
+package com.universalathletics.modules.requests.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+
+/**
+ * Shared argument checks and result building for the bulk request endpoints.
+ */
+public final class BulkActions {
+
+    /**
+     * Maximum number of requests changed in one bulk call.
+     */
+    public static final int MAX_BATCH_SIZE = 100;
+
+    /**
+     * Reported for requests that do not exist, belong to someone else, or are
+     * no longer pending.
+     */
+    public static final String NOT_ACTIONABLE =
+        "Request may not exist, may not belong to you, or may not be pending";
+
+    private BulkActions() {
+    }
+
+    /**
+     * Removes duplicate and null IDs, keeping the caller's order.
+     *
+     * @param requestIds The request IDs from the client
+     * @return List of distinct request IDs
+     * @throws IllegalArgumentException if the list is empty or too long
+     */
+    public static List<Integer> distinctIds(List<Integer> requestIds) {
+        if (requestIds == null || requestIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one request ID is required");
+        }
+        Set<Integer> distinct = new LinkedHashSet<>(requestIds);
+        distinct.remove(null);
+        if (distinct.isEmpty()) {
+            throw new IllegalArgumentException("At least one request ID is required");
+        }
+        if (distinct.size() > MAX_BATCH_SIZE) {
+            throw new IllegalArgumentException("At most " + MAX_BATCH_SIZE + " requests can be changed at once");
+        }
+        return new ArrayList<>(distinct);
+    }
+
+    /**
+     * Builds one result per requested ID, in the caller's order.
+     *
+     * @param requestIds The distinct requested IDs
+     * @param changed    IDs whose status was changed
+     * @param errors     Specific failure reasons by ID; other unchanged IDs get NOT_ACTIONABLE
+     * @return List of per-request results
+     */
+    public static List<BulkActionResultDTO> results(List<Integer> requestIds, Set<Integer> changed,
+                                                    Map<Integer, String> errors) {
+        List<BulkActionResultDTO> results = new ArrayList<>(requestIds.size());
+        for (Integer requestId : requestIds) {
+            if (changed.contains(requestId)) {
+                results.add(new BulkActionResultDTO(requestId, true, null));
+            } else {
+                results.add(new BulkActionResultDTO(requestId, false, errors.getOrDefault(requestId, NOT_ACTIONABLE)));
+            }
+        }
+        return results;
+    }
+}
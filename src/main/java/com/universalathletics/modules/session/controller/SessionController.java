@@ -1,17 +1,22 @@
 package com.universalathletics.modules.session.controller;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import com.universalathletics.cloudStorage.service.GoogleCloudStorageService;
 import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.model.SessionCursor;
+import com.universalathletics.modules.session.model.SessionPageDTO;
+import com.universalathletics.modules.session.service.SessionConflictException;
 import com.universalathletics.modules.session.service.SessionService;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.time.LocalDate;
 import java.util.List;
 
 /**
@@ -49,19 +54,29 @@ public class SessionController {
     @Autowired
     private GoogleCloudStorageService storageService;
 
+    /**
+     * Default page size for calendar queries that pass a range or cursor but
+     * no limit.
+     */
+    private static final int DEFAULT_PAGE_SIZE = 50;
+
     /**
      * Creates a new session in the system.
      *
      * @param session The session information to be saved
-     * @return ResponseEntity<SessionEntity> with status 201 (CREATED) and the
-     *         created session
+     * @return ResponseEntity with status 201 (CREATED) and the created
+     *         session, or 409 (CONFLICT) if the coach or member is already
+     *         booked at that time
      */
     @PostMapping
-    public ResponseEntity<SessionEntity> createSession(@RequestBody SessionEntity session) {
+    public ResponseEntity<?> createSession(@RequestBody SessionEntity session) {
         try {
             logger.info("Received request to create session: " + session);
             SessionEntity createdSession = sessionService.saveSession(session);
             return new ResponseEntity<>(createdSession, HttpStatus.CREATED);
+        } catch (SessionConflictException e) {
+            logger.warn("Rejected conflicting session: " + e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         } catch (Exception e) {
             logger.error("Error creating session: " + e.getMessage(), e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -70,38 +85,41 @@ public class SessionController {
 
     /**
      * Retrieves all sessions from the system.
+     * When any of from, to, limit or cursor is given, returns one page of
+     * sessions in schedule order instead of the whole table.
      *
-     * @return ResponseEntity<List<SessionEntity>> with status 200 (OK) and list
-     *         of all sessions
+     * @param from   Optional first date to include (yyyy-MM-dd)
+     * @param to     Optional last date to include (yyyy-MM-dd)
+     * @param limit  Optional page size (default 50, max 200)
+     * @param cursor Optional cursor returned with the previous page
+     * @return ResponseEntity with status 200 (OK) and either the list of all
+     *         sessions or a SessionPageDTO, or 400 (BAD REQUEST) if the
+     *         range, limit or cursor is invalid
      */
     @GetMapping
-    public ResponseEntity<List<SessionEntity>> getAllSessions() {
+    public ResponseEntity<?> getAllSessions(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (isCalendarQuery(from, to, limit, cursor)) {
+                logger.info("Received request to get sessions from " + from + " to " + to);
+                SessionPageDTO page = sessionService.findSchedule(from, to, pageSize(limit), decodeCursor(cursor));
+                signProfilePictureUrls(page.getSessions());
+                return new ResponseEntity<>(page, HttpStatus.OK);
+            }
+
             logger.info("Received request to get all sessions");
             List<SessionEntity> sessions = sessionService.findAllSessions();
 
             // Sign profile picture URLs for both coach and member
-            for (SessionEntity session : sessions) {
-                if (session.getCoachProfilePic() != null) {
-                    try {
-                        String signedCoachUrl = storageService.getSignedFileUrl(session.getCoachProfilePic());
-                        session.setCoachProfilePic(signedCoachUrl);
-                    } catch (Exception e) {
-                        logger.error("Error signing coach profile URL for session " + session.getId() + ": " + e.getMessage(), e);
-                    }
-                }
-
-                if (session.getMemberProfilePic() != null) {
-                    try {
-                        String signedMemberUrl = storageService.getSignedFileUrl(session.getMemberProfilePic());
-                        session.setMemberProfilePic(signedMemberUrl);
-                    } catch (Exception e) {
-                        logger.error("Error signing member profile URL for session " + session.getId() + ": " + e.getMessage(), e);
-                    }
-                }
-            }
+            signProfilePictureUrls(sessions);
 
             return new ResponseEntity<>(sessions, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid session calendar request: " + e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error retrieving all sessions: " + e.getMessage(), e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -110,39 +128,43 @@ public class SessionController {
 
     /**
      * Retrieves sessions by coach ID.
+     * When any of from, to, limit or cursor is given, returns one page of the
+     * coach's sessions in schedule order instead of their full history.
      *
      * @param coachId The ID of the coach
-     * @return ResponseEntity<List<SessionEntity>> with status 200 (OK) and list
-     *         of sessions for the coach
+     * @param from    Optional first date to include (yyyy-MM-dd)
+     * @param to      Optional last date to include (yyyy-MM-dd)
+     * @param limit   Optional page size (default 50, max 200)
+     * @param cursor  Optional cursor returned with the previous page
+     * @return ResponseEntity with status 200 (OK) and either the list of
+     *         sessions for the coach or a SessionPageDTO, or 400 (BAD REQUEST)
+     *         if the range, limit or cursor is invalid
      */
     @GetMapping("/coach/{coachId}")
-    public ResponseEntity<List<SessionEntity>> getSessionsByCoachId(@PathVariable Integer coachId) {
+    public ResponseEntity<?> getSessionsByCoachId(@PathVariable Integer coachId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (isCalendarQuery(from, to, limit, cursor)) {
+                logger.info("Received request to get sessions for coach " + coachId + " from " + from + " to " + to);
+                SessionPageDTO page = sessionService.findCoachSchedule(coachId, from, to, pageSize(limit),
+                        decodeCursor(cursor));
+                signProfilePictureUrls(page.getSessions());
+                return new ResponseEntity<>(page, HttpStatus.OK);
+            }
+
             logger.info("Received request to get sessions by coach ID: " + coachId);
             List<SessionEntity> sessions = sessionService.findSessionsByCoachId(coachId);
 
             // Sign profile picture URLs for both coach and member
-            for (SessionEntity session : sessions) {
-                if (session.getCoachProfilePic() != null) {
-                    try {
-                        String signedCoachUrl = storageService.getSignedFileUrl(session.getCoachProfilePic());
-                        session.setCoachProfilePic(signedCoachUrl);
-                    } catch (Exception e) {
-                        logger.error("Error signing coach profile URL for session " + session.getId() + ": " + e.getMessage(), e);
-                    }
-                }
-
-                if (session.getMemberProfilePic() != null) {
-                    try {
-                        String signedMemberUrl = storageService.getSignedFileUrl(session.getMemberProfilePic());
-                        session.setMemberProfilePic(signedMemberUrl);
-                    } catch (Exception e) {
-                        logger.error("Error signing member profile URL for session " + session.getId() + ": " + e.getMessage(), e);
-                    }
-                }
-            }
+            signProfilePictureUrls(sessions);
 
             return new ResponseEntity<>(sessions, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid session calendar request for coach " + coachId + ": " + e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error retrieving sessions for coach " + coachId + ": " + e.getMessage(), e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -151,39 +173,43 @@ public class SessionController {
 
     /**
      * Retrieves sessions by member ID.
+     * When any of from, to, limit or cursor is given, returns one page of the
+     * member's sessions in schedule order instead of their full history.
      *
      * @param memberId The ID of the member
-     * @return ResponseEntity<List<SessionEntity>> with status 200 (OK) and list
-     *         of sessions for the member
+     * @param from     Optional first date to include (yyyy-MM-dd)
+     * @param to       Optional last date to include (yyyy-MM-dd)
+     * @param limit    Optional page size (default 50, max 200)
+     * @param cursor   Optional cursor returned with the previous page
+     * @return ResponseEntity with status 200 (OK) and either the list of
+     *         sessions for the member or a SessionPageDTO, or 400 (BAD REQUEST)
+     *         if the range, limit or cursor is invalid
      */
     @GetMapping("/member/{memberId}")
-    public ResponseEntity<List<SessionEntity>> getSessionsByMemberId(@PathVariable Integer memberId) {
+    public ResponseEntity<?> getSessionsByMemberId(@PathVariable Integer memberId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor) {
         try {
+            if (isCalendarQuery(from, to, limit, cursor)) {
+                logger.info("Received request to get sessions for member " + memberId + " from " + from + " to " + to);
+                SessionPageDTO page = sessionService.findMemberSchedule(memberId, from, to, pageSize(limit),
+                        decodeCursor(cursor));
+                signProfilePictureUrls(page.getSessions());
+                return new ResponseEntity<>(page, HttpStatus.OK);
+            }
+
             logger.info("Received request to get sessions by member ID: " + memberId);
             List<SessionEntity> sessions = sessionService.findSessionsByMemberId(memberId);
 
             // Sign profile picture URLs for both coach and member
-            for (SessionEntity session : sessions) {
-                if (session.getCoachProfilePic() != null) {
-                    try {
-                        String signedCoachUrl = storageService.getSignedFileUrl(session.getCoachProfilePic());
-                        session.setCoachProfilePic(signedCoachUrl);
-                    } catch (Exception e) {
-                        logger.error("Error signing coach profile URL for session " + session.getId() + ": " + e.getMessage(), e);
-                    }
-                }
-
-                if (session.getMemberProfilePic() != null) {
-                    try {
-                        String signedMemberUrl = storageService.getSignedFileUrl(session.getMemberProfilePic());
-                        session.setMemberProfilePic(signedMemberUrl);
-                    } catch (Exception e) {
-                        logger.error("Error signing member profile URL for session " + session.getId() + ": " + e.getMessage(), e);
-                    }
-                }
-            }
+            signProfilePictureUrls(sessions);
 
             return new ResponseEntity<>(sessions, HttpStatus.OK);
+        } catch (IllegalArgumentException e) {
+            logger.warn("Invalid session calendar request for member " + memberId + ": " + e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.BAD_REQUEST);
         } catch (Exception e) {
             logger.error("Error retrieving sessions for member " + memberId + ": " + e.getMessage(), e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -195,11 +221,12 @@ public class SessionController {
      *
      * @param sessionId The ID of the session to update
      * @param session The updated session information
-     * @return ResponseEntity<SessionEntity> with status 200 (OK) and the updated session,
-     *         or 404 (NOT FOUND) if session doesn't exist
+     * @return ResponseEntity with status 200 (OK) and the updated session,
+     *         404 (NOT FOUND) if session doesn't exist, or 409 (CONFLICT) if
+     *         the new time overlaps another booking
      */
     @PutMapping("/{sessionId}")
-    public ResponseEntity<SessionEntity> updateSession(@PathVariable Integer sessionId, @RequestBody SessionEntity session) {
+    public ResponseEntity<?> updateSession(@PathVariable Integer sessionId, @RequestBody SessionEntity session) {
         try {
             logger.info("Received request to update session with ID: " + sessionId);
             session.setId(sessionId);
@@ -210,6 +237,9 @@ public class SessionController {
             } else {
                 return new ResponseEntity<>(HttpStatus.NOT_FOUND);
             }
+        } catch (SessionConflictException e) {
+            logger.warn("Rejected conflicting update to session " + sessionId + ": " + e.getMessage());
+            return new ResponseEntity<>(e.getMessage(), HttpStatus.CONFLICT);
         } catch (Exception e) {
             logger.error("Error updating session with ID " + sessionId + ": " + e.getMessage(), e);
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
@@ -239,4 +269,32 @@ public class SessionController {
             return new ResponseEntity<>(HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
+
+    /**
+     * Whether a list request asked for a calendar page rather than the full list.
+     */
+    private static boolean isCalendarQuery(LocalDate from, LocalDate to, Integer limit, String cursor) {
+        return from != null || to != null || limit != null || cursor != null;
+    }
+
+    private static int pageSize(Integer limit) {
+        return limit != null ? limit : DEFAULT_PAGE_SIZE;
+    }
+
+    private static SessionCursor decodeCursor(String cursor) {
+        return cursor != null && !cursor.isEmpty() ? SessionCursor.decode(cursor) : null;
+    }
+
+    /**
+     * Helper method to sign coach and member profile picture URLs for a list
+     * of sessions in one batch.
+     *
+     * @param sessions List of sessions to process
+     */
+    private void signProfilePictureUrls(List<SessionEntity> sessions) {
+        storageService.newPictureBatch()
+            .add(sessions, SessionEntity::getCoachProfilePic, SessionEntity::setCoachProfilePic)
+            .add(sessions, SessionEntity::getMemberProfilePic, SessionEntity::setMemberProfilePic)
+            .sign();
+    }
 }
@@ -19,7 +19,13 @@ import java.time.LocalDateTime;
  */
 
 @Entity
-@Table(name = "Session")
+@Table(name = "Session", indexes = {
+    @Index(name = "idx_session_coach_schedule", columnList = "Coach_ID, Session_Date, Session_Time"),
+    @Index(name = "idx_session_member_schedule", columnList = "Member_ID, Session_Date, Session_Time"),
+    @Index(name = "idx_session_coach_member", columnList = "Coach_ID, Member_ID, Session_Date"),
+    @Index(name = "idx_session_request", columnList = "Request_ID"),
+    @Index(name = "idx_session_schedule", columnList = "Session_Date, Session_Time")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
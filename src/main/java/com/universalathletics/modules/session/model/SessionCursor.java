@@ -0,0 +1,70 @@
+package com.universalathletics.modules.session.model;
+
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Base64;
+
+import com.universalathletics.modules.session.entity.SessionEntity;
+
+/**
+ * Opaque keyset cursor for paging through sessions in schedule order.
+ *
+ * Holds the (Session_Date, Session_Time, Session_ID) of the last session on a
+ * page; the next page starts with the first session strictly after it.
+ *
+ * @param date      Date of the last session on the previous page
+ * @param time      Start time of the last session on the previous page
+ * @param sessionId ID of the last session on the previous page
+ */
+public record SessionCursor(LocalDate date, LocalTime time, int sessionId) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Long.BYTES + Integer.BYTES;
+
+    /**
+     * Builds the cursor that precedes every session on or after a date.
+     */
+    public static SessionCursor startOf(LocalDate date) {
+        return new SessionCursor(date, LocalTime.MIN, 0);
+    }
+
+    /**
+     * Builds the cursor that follows the given session.
+     */
+    public static SessionCursor after(SessionEntity session) {
+        return new SessionCursor(session.getSessionDate(), session.getSessionTime(), session.getId());
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe string for the client to send back.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.putLong(date.toEpochDay());
+        buffer.putLong(time.toNanoOfDay());
+        buffer.putInt(sessionId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor
+     * @return SessionCursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static SessionCursor decode(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        try {
+            return new SessionCursor(LocalDate.ofEpochDay(buffer.getLong()),
+                LocalTime.ofNanoOfDay(buffer.getLong()), buffer.getInt());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor, e);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.universalathletics.modules.session.model;
+import java.util.List;
+
+import com.universalathletics.modules.session.entity.SessionEntity;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+
+/**
+ * Used to model one page of sessions in schedule order returned by the
+ * calendar endpoints
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SessionPageDTO {
+    private List<SessionEntity> sessions;
+
+    /**
+     * Cursor for the next page, or null when this is the last page
+     */
+    private String nextCursor;
+}
@@ -1,13 +1,20 @@
 package com.universalathletics.modules.session.repository;
 
 //------------------------------- imports ------------------------------------//
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.universalathletics.modules.session.entity.SessionEntity;
 
+import jakarta.persistence.LockModeType;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -104,4 +111,138 @@ public interface SessionRepository extends JpaRepository<SessionEntity, Integer>
      */
     @Query("SELECT COUNT(s) FROM SessionEntity s WHERE s.memberId = :memberId")
     Long countByMemberId(@Param("memberId") Integer memberId);
+
+    /**
+     * Finds a coach's sessions on or after a date.
+     *
+     * @param coachId The ID of the coach
+     * @param from    First date to include
+     * @return List<SessionEntity> containing the coach's upcoming sessions
+     */
+    @Query("SELECT s FROM SessionEntity s WHERE s.coachId = :coachId AND s.sessionDate >= :from")
+    List<SessionEntity> findUpcomingByCoachId(@Param("coachId") Integer coachId, @Param("from") LocalDate from);
+
+    /**
+     * Finds a member's sessions on or after a date.
+     *
+     * @param memberId The ID of the member
+     * @param from     First date to include
+     * @return List<SessionEntity> containing the member's upcoming sessions
+     */
+    @Query("SELECT s FROM SessionEntity s WHERE s.memberId = :memberId AND s.sessionDate >= :from")
+    List<SessionEntity> findUpcomingByMemberId(@Param("memberId") Integer memberId, @Param("from") LocalDate from);
+
+    // ------------------------- Conflict check queries -------------------------//
+
+    /**
+     * Finds the sessions of any of the given coaches or members between two
+     * dates. Used to flag conflicting slots in request lists.
+     *
+     * @param coachIds  IDs of the coaches
+     * @param memberIds IDs of the members
+     * @param from      First date to include
+     * @param to        Last date to include
+     * @return List<SessionEntity> containing the matching sessions
+     */
+    @Query(BOOKINGS)
+    List<SessionEntity> findBookings(@Param("coachIds") Collection<Integer> coachIds,
+        @Param("memberIds") Collection<Integer> memberIds,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Same as findBookings, as a locking read. A locking read always sees the
+     * latest committed rows, so a session committed by a transaction that
+     * held the participant locks before this one is never missed.
+     *
+     * @param coachIds  IDs of the coaches
+     * @param memberIds IDs of the members
+     * @param from      First date to include
+     * @param to        Last date to include
+     * @return List<SessionEntity> containing the matching sessions
+     */
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query(BOOKINGS)
+    List<SessionEntity> lockBookings(@Param("coachIds") Collection<Integer> coachIds,
+        @Param("memberIds") Collection<Integer> memberIds,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Shared query of findBookings and lockBookings.
+     */
+    String BOOKINGS = "SELECT s FROM SessionEntity s WHERE (s.coachId IN :coachIds OR s.memberId IN :memberIds) "
+        + "AND s.sessionDate >= :from AND s.sessionDate <= :to";
+
+    // ------------------------- Schedule range queries -------------------------//
+    // Keyset pages over (Session_Date, Session_Time, Session_ID): each page
+    // seeks past the last row of the previous one, so its cost does not grow
+    // with the number of earlier sessions.
+
+    /**
+     * Finds a page of a coach's sessions between two dates, in schedule order,
+     * after a keyset position.
+     *
+     * @param coachId   The ID of the coach
+     * @param from      First date to include
+     * @param to        Last date to include
+     * @param afterDate Date of the last session already returned
+     * @param afterTime Time of the last session already returned
+     * @param afterId   ID of the last session already returned
+     * @param pageable  Page size (offset is ignored)
+     * @return List<SessionEntity> in (date, time, id) order
+     */
+    @Query("SELECT s FROM SessionEntity s WHERE s.coachId = :coachId "
+        + "AND s.sessionDate >= :from AND s.sessionDate <= :to "
+        + KEYSET)
+    List<SessionEntity> findCoachSchedule(@Param("coachId") Integer coachId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to,
+        @Param("afterDate") LocalDate afterDate, @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Finds a page of a member's sessions between two dates, in schedule order,
+     * after a keyset position.
+     *
+     * @param memberId  The ID of the member
+     * @param from      First date to include
+     * @param to        Last date to include
+     * @param afterDate Date of the last session already returned
+     * @param afterTime Time of the last session already returned
+     * @param afterId   ID of the last session already returned
+     * @param pageable  Page size (offset is ignored)
+     * @return List<SessionEntity> in (date, time, id) order
+     */
+    @Query("SELECT s FROM SessionEntity s WHERE s.memberId = :memberId "
+        + "AND s.sessionDate >= :from AND s.sessionDate <= :to "
+        + KEYSET)
+    List<SessionEntity> findMemberSchedule(@Param("memberId") Integer memberId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to,
+        @Param("afterDate") LocalDate afterDate, @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Finds a page of all sessions between two dates, in schedule order,
+     * after a keyset position.
+     *
+     * @param from      First date to include
+     * @param to        Last date to include
+     * @param afterDate Date of the last session already returned
+     * @param afterTime Time of the last session already returned
+     * @param afterId   ID of the last session already returned
+     * @param pageable  Page size (offset is ignored)
+     * @return List<SessionEntity> in (date, time, id) order
+     */
+    @Query("SELECT s FROM SessionEntity s WHERE s.sessionDate >= :from AND s.sessionDate <= :to "
+        + KEYSET)
+    List<SessionEntity> findSchedule(
+        @Param("from") LocalDate from, @Param("to") LocalDate to,
+        @Param("afterDate") LocalDate afterDate, @Param("afterTime") LocalTime afterTime,
+        @Param("afterId") Integer afterId, Pageable pageable);
+
+    /**
+     * Shared keyset predicate and ordering. The redundant
+     * {@code sessionDate >= :afterDate} gives the optimizer a sargable bound.
+     */
+    String KEYSET = "AND s.sessionDate >= :afterDate AND (s.sessionDate > :afterDate OR (s.sessionDate = :afterDate "
+        + "AND (s.sessionTime > :afterTime OR (s.sessionTime = :afterTime AND s.id > :afterId)))) "
+        + "ORDER BY s.sessionDate, s.sessionTime, s.id";
 }
@@ -0,0 +1,21 @@
+package com.universalathletics.modules.session.service;
+
+import java.util.List;
+
+/**
+ * Thrown when a session would overlap another booking of its coach or member.
+ * Controllers catch it by name and map it to 409 (CONFLICT).
+ */
+public class SessionConflictException extends RuntimeException {
+
+    private final transient List<SessionConflictIndex.Booking> conflicts;
+
+    public SessionConflictException(String message, List<SessionConflictIndex.Booking> conflicts) {
+        super(message);
+        this.conflicts = conflicts;
+    }
+
+    public List<SessionConflictIndex.Booking> getConflicts() {
+        return conflicts;
+    }
+}
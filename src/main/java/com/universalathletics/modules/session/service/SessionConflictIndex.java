@@ -0,0 +1,389 @@
+package com.universalathletics.modules.session.service;
+
+//------------------------------- imports ------------------------------------//
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
+import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.repository.SessionRepository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+
+//----------------------- Session Conflict Index Class ------------------------//
+/**
+ * Detects double-booking of coaches and members.
+ *
+ * A booking is either a scheduled session or a time slot held by an accepted
+ * session request that has not been turned into a session yet. Every booking
+ * lasts the configured session duration, so two bookings overlap exactly
+ * when their start times are less than one duration apart; each schedule is
+ * therefore a sorted set of start times and an overlap query is a single
+ * range lookup.
+ *
+ * Schedules are read from the database for every check, with one query for
+ * sessions and one for held request slots, covering only the dates around
+ * the start times being checked. Nothing is kept between calls, so every
+ * application instance sees the same bookings.
+ */
+@Component
+public class SessionConflictIndex {
+
+  /**
+   * What a booking came from.
+   */
+  public enum Source {
+    SESSION,
+    REQUEST
+  }
+
+  /**
+   * A coach or member whose schedule is checked.
+   */
+  public record Participant(UserType type, int id) {
+  }
+
+  /**
+   * A booked time slot.
+   *
+   * @param start    When the booking starts
+   * @param source   Whether the booking is a session or a held request slot
+   * @param sourceId Session ID or request ID
+   */
+  public record Booking(LocalDateTime start, Source source, int sourceId) {
+  }
+
+  private static final Comparator<Booking> BOOKING_ORDER = Comparator.comparing(Booking::start)
+      .thenComparing(Booking::source)
+      .thenComparingInt(Booking::sourceId);
+
+  @Autowired
+  private SessionRepository sessionRepository;
+
+  @Autowired
+  private SessionRequestRepository sessionRequestRepository;
+
+  @Autowired
+  private CoachRepository coachRepository;
+
+  @Autowired
+  private MemberInfoRepository memberInfoRepository;
+
+  /**
+   * Length of every session, used to decide whether two bookings overlap.
+   */
+  @Value("${sessions.default-duration-minutes:60}")
+  private long sessionDurationMinutes = 60;
+
+  // ------------------------------- Loading -------------------------------//
+  /**
+   * Locks the coach and member of a session and reads their bookings around
+   * its start time.
+   *
+   * @param session The session about to be written
+   * @return Schedules to check the session against
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Schedules lockSchedules(SessionEntity session) {
+    return load(participants(session), Collections.singletonList(startOf(session)), true);
+  }
+
+  /**
+   * Locks the senders and receivers of the given requests and reads their
+   * bookings around every proposed slot.
+   *
+   * The participant rows stay locked until the transaction ends, so two
+   * transactions booking the same coach or member run one after the other,
+   * and the bookings are read with a locking read, so the second one sees
+   * what the first one committed. Must be called inside the transaction
+   * that writes the booking.
+   *
+   * @param requests The requests about to be accepted
+   * @return Schedules to check the requests against
+   */
+  @Transactional(propagation = Propagation.MANDATORY)
+  public Schedules lockSchedules(Collection<SessionRequestEntity> requests) {
+    return load(participants(requests), proposedSlots(requests), true);
+  }
+
+  /**
+   * Reads the bookings of the senders and receivers of the given requests
+   * around every proposed slot, without locking. Used to flag conflicting
+   * slots in request lists.
+   *
+   * @param requests The requests to flag
+   * @return Schedules to check the requests against
+   */
+  public Schedules loadSchedules(Collection<SessionRequestEntity> requests) {
+    return load(participants(requests), proposedSlots(requests), false);
+  }
+
+  private Schedules load(Set<Participant> participants, List<LocalDateTime> starts, boolean lock) {
+    Duration duration = Duration.ofMinutes(sessionDurationMinutes);
+    Schedules schedules = new Schedules(participants, duration);
+    List<LocalDateTime> known = starts.stream().filter(Objects::nonNull).toList();
+    if (participants.isEmpty() || known.isEmpty()) {
+      return schedules;
+    }
+
+    Set<Integer> coachIds = ids(participants, UserType.COACH);
+    Set<Integer> memberIds = ids(participants, UserType.MEMBER);
+    if (lock) {
+      // Coaches before members, each in ID order, so concurrent callers cannot deadlock
+      if (!coachIds.isEmpty()) {
+        coachRepository.lockByIds(coachIds);
+      }
+      if (!memberIds.isEmpty()) {
+        memberInfoRepository.lockByIds(memberIds);
+      }
+    }
+
+    LocalDate from = Collections.min(known).minus(duration).toLocalDate();
+    LocalDate to = Collections.max(known).plus(duration).toLocalDate();
+
+    List<SessionEntity> sessions = lock
+        ? sessionRepository.lockBookings(coachIds, memberIds, from, to)
+        : sessionRepository.findBookings(coachIds, memberIds, from, to);
+    for (SessionEntity session : sessions) {
+      for (Participant participant : participants(session)) {
+        schedules.add(participant, new Booking(startOf(session), Source.SESSION, session.getId()));
+      }
+    }
+
+    List<SessionRequestEntity> accepted = lock
+        ? sessionRequestRepository.lockHeldSlots(RequestStatus.ACCEPTED, coachIds, memberIds, from, to)
+        : sessionRequestRepository.findHeldSlots(RequestStatus.ACCEPTED, coachIds, memberIds, from, to);
+    for (SessionRequestEntity request : accepted) {
+      for (LocalDateTime slot : proposedSlots(request)) {
+        for (Participant participant : participants(request)) {
+          schedules.add(participant, new Booking(slot, Source.REQUEST, request.getId()));
+        }
+      }
+    }
+    return schedules;
+  }
+
+  // ------------------------------ Schedules ------------------------------//
+  /**
+   * Bookings of a set of coaches and members, as read by one call to
+   * lockSchedules or loadSchedules. Only valid for the start times it was
+   * loaded for, and not shared between threads.
+   */
+  public static final class Schedules {
+
+    private final Map<Participant, NavigableSet<Booking>> schedules = new HashMap<>();
+
+    private final Duration duration;
+
+    private Schedules(Set<Participant> participants, Duration duration) {
+      this.duration = duration;
+      for (Participant participant : participants) {
+        schedules.put(participant, new TreeSet<>(BOOKING_ORDER));
+      }
+    }
+
+    private void add(Participant participant, Booking booking) {
+      NavigableSet<Booking> schedule = schedules.get(participant);
+      if (schedule != null && booking.start() != null) {
+        schedule.add(booking);
+      }
+    }
+
+    /**
+     * Finds bookings that overlap a session starting at the given time.
+     *
+     * @param participant     The coach or member to check
+     * @param start           Start of the proposed session
+     * @param ignoreSessionId Session to leave out (the one being updated), or null
+     * @param ignoreRequestId Request whose held slots to leave out (the one being scheduled), or null
+     * @return List of overlapping bookings, empty if the slot is free
+     */
+    public List<Booking> findConflicts(Participant participant, LocalDateTime start,
+        Integer ignoreSessionId, Integer ignoreRequestId) {
+      NavigableSet<Booking> schedule = schedules.get(participant);
+      if (schedule == null) {
+        throw new IllegalArgumentException("Schedule not loaded for " + participant);
+      }
+      Booking low = new Booking(start.minus(duration), Source.REQUEST, Integer.MAX_VALUE);
+      Booking high = new Booking(start.plus(duration), Source.SESSION, Integer.MIN_VALUE);
+
+      List<Booking> conflicts = new ArrayList<>();
+      for (Booking booking : schedule.subSet(low, false, high, false)) {
+        boolean ignored = (booking.source() == Source.SESSION && Integer.valueOf(booking.sourceId()).equals(ignoreSessionId))
+            || (booking.source() == Source.REQUEST && Integer.valueOf(booking.sourceId()).equals(ignoreRequestId));
+        if (!ignored) {
+          conflicts.add(booking);
+        }
+      }
+      return conflicts;
+    }
+
+    /**
+     * Checks both participants of a proposed session.
+     *
+     * @return List of overlapping bookings for either participant
+     */
+    public List<Booking> findConflicts(Integer coachId, Integer memberId, LocalDateTime start,
+        Integer ignoreSessionId, Integer ignoreRequestId) {
+      List<Booking> conflicts = new ArrayList<>();
+      if (coachId != null) {
+        conflicts.addAll(findConflicts(new Participant(UserType.COACH, coachId), start, ignoreSessionId, ignoreRequestId));
+      }
+      if (memberId != null) {
+        conflicts.addAll(findConflicts(new Participant(UserType.MEMBER, memberId), start, ignoreSessionId, ignoreRequestId));
+      }
+      return conflicts;
+    }
+
+    /**
+     * Lists the proposed slots (1 to 3) of a request that overlap an
+     * existing booking of its sender or receiver.
+     *
+     * @param request The session request
+     * @return List of conflicting slot numbers, in slot order
+     */
+    public List<Integer> findConflictingSlots(SessionRequestEntity request) {
+      List<LocalDateTime> slots = proposedSlots(request);
+      List<Integer> conflicting = new ArrayList<>();
+      for (int slot = 0; slot < slots.size(); slot++) {
+        LocalDateTime start = slots.get(slot);
+        if (start == null) {
+          continue;
+        }
+        for (Participant participant : participants(request)) {
+          if (!findConflicts(participant, start, null, request.getId()).isEmpty()) {
+            conflicting.add(slot + 1);
+            break;
+          }
+        }
+      }
+      return conflicting;
+    }
+
+    /**
+     * Lists the proposed slot start times of a request that do not overlap
+     * an existing booking of its sender or receiver.
+     *
+     * @param request The session request
+     * @return List of free slot start times, in slot order
+     */
+    public List<LocalDateTime> findFreeSlots(SessionRequestEntity request) {
+      List<LocalDateTime> slots = proposedSlots(request);
+      List<Integer> conflicting = findConflictingSlots(request);
+      List<LocalDateTime> freeSlots = new ArrayList<>();
+      for (int slot = 0; slot < slots.size(); slot++) {
+        if (slots.get(slot) != null && !conflicting.contains(slot + 1)) {
+          freeSlots.add(slots.get(slot));
+        }
+      }
+      return freeSlots;
+    }
+
+    /**
+     * Holds time slots for a request in these schedules only, so requests
+     * checked later against the same schedules see them as taken. Used when
+     * several requests are accepted in one transaction.
+     *
+     * @param request The accepted request
+     * @param slots   Start times to hold
+     */
+    public void holdRequestSlots(SessionRequestEntity request, List<LocalDateTime> slots) {
+      for (Participant participant : participants(request)) {
+        for (LocalDateTime slot : slots) {
+          add(participant, new Booking(slot, Source.REQUEST, request.getId()));
+        }
+      }
+    }
+  }
+
+  // ------------------------------- Helpers -------------------------------//
+  /**
+   * Start times of the three slots proposed in a session request.
+   *
+   * @param request The session request
+   * @return List of slot start times, in slot order (null for missing slots)
+   */
+  public static List<LocalDateTime> proposedSlots(SessionRequestEntity request) {
+    List<LocalDateTime> slots = new ArrayList<>(3);
+    slots.add(startOf(request.getSessionDate1(), request.getSessionTime1()));
+    slots.add(startOf(request.getSessionDate2(), request.getSessionTime2()));
+    slots.add(startOf(request.getSessionDate3(), request.getSessionTime3()));
+    return slots;
+  }
+
+  private static List<LocalDateTime> proposedSlots(Collection<SessionRequestEntity> requests) {
+    List<LocalDateTime> slots = new ArrayList<>();
+    for (SessionRequestEntity request : requests) {
+      slots.addAll(proposedSlots(request));
+    }
+    return slots;
+  }
+
+  private static Set<Participant> participants(SessionEntity session) {
+    Set<Participant> participants = new LinkedHashSet<>(2);
+    if (session.getCoachId() != null) {
+      participants.add(new Participant(UserType.COACH, session.getCoachId()));
+    }
+    if (session.getMemberId() != null) {
+      participants.add(new Participant(UserType.MEMBER, session.getMemberId()));
+    }
+    return participants;
+  }
+
+  private static List<Participant> participants(SessionRequestEntity request) {
+    return List.of(new Participant(request.getSenderType(), request.getSenderId()),
+        new Participant(request.getReceiverType(), request.getReceiverId()));
+  }
+
+  private static Set<Participant> participants(Collection<SessionRequestEntity> requests) {
+    Set<Participant> participants = new LinkedHashSet<>();
+    for (SessionRequestEntity request : requests) {
+      participants.addAll(participants(request));
+    }
+    return participants;
+  }
+
+  /**
+   * IDs of the participants of one type, in ascending order.
+   */
+  private static Set<Integer> ids(Set<Participant> participants, UserType type) {
+    Set<Integer> ids = new TreeSet<>();
+    for (Participant participant : participants) {
+      if (participant.type() == type) {
+        ids.add(participant.id());
+      }
+    }
+    return ids;
+  }
+
+  static LocalDateTime startOf(SessionEntity session) {
+    return startOf(session.getSessionDate(), session.getSessionTime());
+  }
+
+  private static LocalDateTime startOf(LocalDate date, LocalTime time) {
+    return date != null && time != null ? date.atTime(time) : null;
+  }
+}
@@ -2,11 +2,18 @@ package com.universalathletics.modules.session.service;
 
 //------------------------------- imports ------------------------------------//
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.model.SessionCursor;
+import com.universalathletics.modules.session.model.SessionPageDTO;
 import com.universalathletics.modules.session.repository.SessionRepository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,6 +42,32 @@ public class SessionService {
     @Autowired
     private SessionRepository sessionRepository;
 
+    /**
+     * Reads the coach's and member's bookings to reject double-booking.
+     */
+    @Autowired
+    private SessionConflictIndex sessionConflictIndex;
+
+    /**
+     * Earliest and latest dates a MySQL DATE column can hold, used when a
+     * calendar query leaves either end of the range open.
+     */
+    public static final LocalDate MIN_SESSION_DATE = LocalDate.of(1000, 1, 1);
+    public static final LocalDate MAX_SESSION_DATE = LocalDate.of(9999, 12, 31);
+
+    /**
+     * Upper bound on the page size of calendar queries.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * A range-and-keyset query against one of the schedule indexes.
+     */
+    @FunctionalInterface
+    private interface ScheduleQuery {
+        List<SessionEntity> find(LocalDate from, LocalDate to, SessionCursor after, PageRequest page);
+    }
+
     // -------------------------------- Create Session ----------------------------//
     /**
      * Creates or updates a session in the database.(POST)
@@ -42,12 +75,15 @@ public class SessionService {
      * @param session The SessionEntity object containing session information
      * @return SessionEntity The saved session object with generated ID
      * @throws IllegalArgumentException if session is null
+     * @throws SessionConflictException if the coach or member is already booked at that time
      */
+    @Transactional
     public SessionEntity saveSession(SessionEntity session) {
         if (session == null) {
             throw new IllegalArgumentException("Session information cannot be null");
         }
 
+        rejectConflicts(session, null);
         return sessionRepository.save(session);
     }
 
@@ -131,7 +167,9 @@ public class SessionService {
      * 
      * @param session The SessionEntity object containing updated session information
      * @return SessionEntity The updated session object, or null if not found
+     * @throws SessionConflictException if the coach or member is already booked at the new time
      */
+    @Transactional
     public SessionEntity updateSession(SessionEntity session) {
         if (session == null || session.getId() == null) {
             throw new IllegalArgumentException("Session and session ID cannot be null");
@@ -139,9 +177,110 @@ public class SessionService {
 
         Optional<SessionEntity> existingSession = sessionRepository.findById(session.getId());
         if (existingSession.isPresent()) {
+            rejectConflicts(session, session.getId());
             return sessionRepository.save(session);
         } else {
             throw new EntityNotFoundException("Session not found with id: " + session.getId());
         }
     }
+
+    /**
+     * Throws if the session would overlap another booking of its coach or
+     * member. Slots held by the session's own request do not count. The
+     * coach and member stay locked until the transaction commits, so no
+     * other booking for them can be written between this check and the save.
+     *
+     * @param session         The session about to be written
+     * @param ignoreSessionId The session's own ID when updating, otherwise null
+     */
+    private void rejectConflicts(SessionEntity session, Integer ignoreSessionId) {
+        LocalDateTime start = SessionConflictIndex.startOf(session);
+        if (start == null) {
+            return;
+        }
+        List<SessionConflictIndex.Booking> conflicts = sessionConflictIndex.lockSchedules(session).findConflicts(
+                session.getCoachId(), session.getMemberId(), start, ignoreSessionId, session.getRequestId());
+        if (!conflicts.isEmpty()) {
+            throw new SessionConflictException("Session at " + start + " overlaps " + conflicts.size()
+                    + " existing booking(s) for this coach or member", conflicts);
+        }
+    }
+
+    // ---------------------------- Session Calendar ----------------------------//
+    /**
+     * Retrieves one page of a coach's sessions between two dates, in
+     * (date, time, id) order.(GET)
+     *
+     * @param coachId The ID of the coach
+     * @param from    First date to include, or null for no lower bound
+     * @param to      Last date to include, or null for no upper bound
+     * @param limit   Maximum number of sessions to return (1 to MAX_PAGE_SIZE)
+     * @param cursor  Cursor from the previous page, or null for the first page
+     * @return SessionPageDTO with the sessions and the cursor for the next page
+     * @throws IllegalArgumentException if the range or limit is invalid
+     */
+    public SessionPageDTO findCoachSchedule(Integer coachId, LocalDate from, LocalDate to, int limit,
+            SessionCursor cursor) {
+        return findSchedulePage(from, to, limit, cursor, (start, end, after, page) ->
+            sessionRepository.findCoachSchedule(coachId, start, end, after.date(), after.time(), after.sessionId(), page));
+    }
+
+    /**
+     * Retrieves one page of a member's sessions between two dates, in
+     * (date, time, id) order.(GET)
+     *
+     * @param memberId The ID of the member
+     * @param from     First date to include, or null for no lower bound
+     * @param to       Last date to include, or null for no upper bound
+     * @param limit    Maximum number of sessions to return (1 to MAX_PAGE_SIZE)
+     * @param cursor   Cursor from the previous page, or null for the first page
+     * @return SessionPageDTO with the sessions and the cursor for the next page
+     * @throws IllegalArgumentException if the range or limit is invalid
+     */
+    public SessionPageDTO findMemberSchedule(Integer memberId, LocalDate from, LocalDate to, int limit,
+            SessionCursor cursor) {
+        return findSchedulePage(from, to, limit, cursor, (start, end, after, page) ->
+            sessionRepository.findMemberSchedule(memberId, start, end, after.date(), after.time(), after.sessionId(), page));
+    }
+
+    /**
+     * Retrieves one page of all sessions between two dates, in
+     * (date, time, id) order.(GET)
+     *
+     * @param from   First date to include, or null for no lower bound
+     * @param to     Last date to include, or null for no upper bound
+     * @param limit  Maximum number of sessions to return (1 to MAX_PAGE_SIZE)
+     * @param cursor Cursor from the previous page, or null for the first page
+     * @return SessionPageDTO with the sessions and the cursor for the next page
+     * @throws IllegalArgumentException if the range or limit is invalid
+     */
+    public SessionPageDTO findSchedule(LocalDate from, LocalDate to, int limit, SessionCursor cursor) {
+        return findSchedulePage(from, to, limit, cursor, (start, end, after, page) ->
+            sessionRepository.findSchedule(start, end, after.date(), after.time(), after.sessionId(), page));
+    }
+
+    /**
+     * Runs a schedule query for one page. Fetches one extra row to tell
+     * whether another page follows.
+     */
+    private SessionPageDTO findSchedulePage(LocalDate from, LocalDate to, int limit, SessionCursor cursor,
+            ScheduleQuery query) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        LocalDate start = from != null ? from : MIN_SESSION_DATE;
+        LocalDate end = to != null ? to : MAX_SESSION_DATE;
+        if (start.isAfter(end)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        SessionCursor after = cursor != null ? cursor : SessionCursor.startOf(start);
+
+        List<SessionEntity> sessions = query.find(start, end, after, PageRequest.of(0, limit + 1));
+        if (sessions.size() <= limit) {
+            return new SessionPageDTO(sessions, null);
+        }
+        List<SessionEntity> page = sessions.subList(0, limit);
+        return new SessionPageDTO(new ArrayList<>(page),
+            SessionCursor.after(page.get(page.size() - 1)).encode());
+    }
 }
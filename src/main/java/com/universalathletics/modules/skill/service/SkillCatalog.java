@@ -0,0 +1,139 @@
+package com.universalathletics.modules.skill.service;
+
+//------------------------------- imports ------------------------------------//
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.repository.SkillRepository;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import jakarta.persistence.EntityNotFoundException;
+
+//--------------------------- Skill Catalog Class -----------------------------//
+/**
+ * Immutable in-memory copy of the skill table, shared by every service that
+ * validates or attaches skills.
+ *
+ * The catalog is small and rarely changes, so readers get a lock-free
+ * snapshot and writers build a new snapshot and swap it in (copy-on-write).
+ * The snapshot is loaded from the database on first use, and SkillService
+ * swaps in a new one whenever a skill is saved. Skills saved on another
+ * instance are not in the snapshot, so a lookup that misses falls back to
+ * the database and adds what it finds.
+ *
+ * The SkillEntity instances are shared and detached; callers must treat them
+ * as read-only.
+ */
+@Component
+public class SkillCatalog {
+
+  /**
+   * One immutable version of the catalog.
+   *
+   * @param byId   Skill ID -> skill
+   * @param ordered Every skill ordered by ID
+   */
+  private record Snapshot(Map<Integer, SkillEntity> byId, List<SkillEntity> ordered) {
+
+    static Snapshot of(Collection<SkillEntity> skills) {
+      Map<Integer, SkillEntity> byId = new HashMap<>();
+      for (SkillEntity skill : skills) {
+        byId.put(skill.getSkill_id(), skill);
+      }
+      List<SkillEntity> ordered = byId.values().stream()
+          .sorted(Comparator.comparingInt(SkillEntity::getSkill_id))
+          .toList();
+      return new Snapshot(Map.copyOf(byId), ordered);
+    }
+  }
+
+  @Autowired
+  private SkillRepository skillRepository;
+
+  private volatile Snapshot snapshot;
+
+  // ----------------------------- Maintenance -----------------------------//
+  /**
+   * Reloads the whole catalog from the database.
+   */
+  public synchronized void reload() {
+    snapshot = Snapshot.of(skillRepository.findAll());
+  }
+
+  /**
+   * Adds or replaces a single skill.
+   *
+   * @param skill The saved skill
+   */
+  public synchronized void put(SkillEntity skill) {
+    Map<Integer, SkillEntity> skills = new HashMap<>(current().byId());
+    skills.put(skill.getSkill_id(), skill);
+    snapshot = Snapshot.of(skills.values());
+  }
+
+  // ------------------------------- Queries -------------------------------//
+  /**
+   * Finds a skill by ID.
+   *
+   * @param skillId The ID of the skill
+   * @return The skill, or empty if there is no such skill
+   */
+  public Optional<SkillEntity> find(int skillId) {
+    SkillEntity skill = current().byId().get(skillId);
+    return skill != null ? Optional.of(skill) : loadMissing(skillId);
+  }
+
+  /**
+   * Finds a skill by ID, failing if it does not exist.
+   *
+   * @param skillId The ID of the skill
+   * @return The skill
+   * @throws EntityNotFoundException if there is no such skill
+   */
+  public SkillEntity require(int skillId) {
+    return find(skillId)
+        .orElseThrow(() -> new EntityNotFoundException("Skill not found with id: " + skillId));
+  }
+
+  /**
+   * @return Every skill ordered by ID (an unmodifiable list)
+   */
+  public List<SkillEntity> all() {
+    return current().ordered();
+  }
+
+  public int size() {
+    return current().byId().size();
+  }
+
+  // ------------------------------- Helpers -------------------------------//
+  /**
+   * Looks up a skill the snapshot does not have, in case another instance
+   * created it, and adds it to the snapshot if found.
+   */
+  private Optional<SkillEntity> loadMissing(int skillId) {
+    Optional<SkillEntity> skill = skillRepository.findById(skillId);
+    skill.ifPresent(this::put);
+    return skill;
+  }
+
+  private Snapshot current() {
+    Snapshot loaded = snapshot;
+    if (loaded == null) {
+      synchronized (this) {
+        if (snapshot == null) {
+          reload();
+        }
+        loaded = snapshot;
+      }
+    }
+    return loaded;
+  }
+}
@@ -28,6 +28,13 @@ public class SkillService {
       @Autowired
       private SkillRepository skillRepository;
 
+      /**
+       * Shared in-memory copy of the skill table, swapped whenever a skill is
+       * saved.
+       */
+      @Autowired
+      private SkillCatalog skillCatalog;
+
       // -------------------------------- Create Skill ------------------------------//
       
       /**
@@ -41,15 +48,17 @@ public class SkillService {
                 if (skill == null) {
                             throw new IllegalArgumentException("Skill information cannot be null");
                 }
-                return skillRepository.save(skill);
+                SkillEntity savedSkill = skillRepository.save(skill);
+                skillCatalog.put(savedSkill);
+                return savedSkill;
         }
 
       // -------------------------------- Get All Skills ------------------------------//
         /**
-         * Retrieves all skills from the database.  
-         * @return List<SkillEntity> A list of all skills in the database
+         * Retrieves all skills from the in-memory skill catalog.
+         * @return List<SkillEntity> A list of all skills, ordered by ID
         */
         public List<SkillEntity> getAllSkills() {
-            return skillRepository.findAll();
+            return skillCatalog.all();
         }
 }
\ No newline at end of file
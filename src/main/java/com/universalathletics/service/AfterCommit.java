@@ -0,0 +1,37 @@
+package com.universalathletics.service;
+
+//------------------------------- imports ------------------------------------//
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+//--------------------------- After Commit Class ------------------------------//
+/**
+ * Defers updates of the in-memory indexes until the surrounding transaction
+ * has committed, so a rollback never leaves an index describing rows that do
+ * not exist.
+ */
+public final class AfterCommit {
+
+  private AfterCommit() {
+  }
+
+  /**
+   * Runs an action once the current transaction commits. The action is
+   * dropped if the transaction rolls back, and runs immediately when there
+   * is no transaction.
+   *
+   * @param action The index update to run
+   */
+  public static void run(Runnable action) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      action.run();
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+      @Override
+      public void afterCommit() {
+        action.run();
+      }
+    });
+  }
+}
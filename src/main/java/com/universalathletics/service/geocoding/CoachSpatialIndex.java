@@ -0,0 +1,213 @@
+package com.universalathletics.service.geocoding;
+
+//------------------------------- imports ------------------------------------//
+import com.universalathletics.service.geocoding.model.GeoPoint;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+//------------------------ Coach Spatial Index Class --------------------------//
+/**
+ * In-memory grid index over coach coordinates.
+ *
+ * Coaches are bucketed into fixed-size latitude/longitude cells, so a
+ * radius or nearest-neighbour query only inspects the cells around the
+ * query point instead of every coach in the database.
+ *
+ * CoachService loads the index at startup and keeps it in sync on coach
+ * create, update and delete. It also rebuilds it every
+ * {@code coaches.spatial-index.refresh-ms}, since coaches written through
+ * another instance only reach this one that way.
+ */
+@Component
+public class CoachSpatialIndex {
+
+  /** Cell edge length in degrees (~55km of latitude). */
+  static final double CELL_DEGREES = 0.5;
+
+  private static final double KM_PER_DEGREE = 111.32;
+  private static final int LAT_CELLS = (int) Math.ceil(180 / CELL_DEGREES);
+  private static final int LNG_CELLS = (int) Math.ceil(360 / CELL_DEGREES);
+  private static final double INITIAL_SEARCH_RADIUS_KM = 25.0;
+  private static final double MAX_SEARCH_RADIUS_KM = 20038.0; // half the Earth's circumference
+
+  /**
+   * A coach ID paired with its distance from the query point.
+   */
+  public record Neighbor(int coachId, double distanceKm) {
+  }
+
+  private final Map<Integer, GeoPoint> locations = new ConcurrentHashMap<>();
+  private final Map<Long, Set<Integer>> cells = new ConcurrentHashMap<>();
+
+  // ----------------------------- Maintenance -----------------------------//
+  /**
+   * Adds or moves a coach. A null location removes the coach from the index.
+   *
+   * @param coachId  The ID of the coach
+   * @param location The coach's coordinates, or null if unknown
+   */
+  public synchronized void put(int coachId, GeoPoint location) {
+    remove(coachId);
+    if (location == null) {
+      return;
+    }
+    locations.put(coachId, location);
+    cells.computeIfAbsent(cellKey(location), key -> ConcurrentHashMap.newKeySet()).add(coachId);
+  }
+
+  /**
+   * Removes a coach from the index if present.
+   *
+   * @param coachId The ID of the coach
+   */
+  public synchronized void remove(int coachId) {
+    GeoPoint previous = locations.remove(coachId);
+    if (previous == null) {
+      return;
+    }
+    long key = cellKey(previous);
+    Set<Integer> cell = cells.get(key);
+    if (cell != null) {
+      cell.remove(coachId);
+      if (cell.isEmpty()) {
+        cells.remove(key);
+      }
+    }
+  }
+
+  /**
+   * Replaces the whole index contents.
+   *
+   * @param coachLocations Map of coach ID to coordinates
+   */
+  public synchronized void rebuild(Map<Integer, GeoPoint> coachLocations) {
+    locations.clear();
+    cells.clear();
+    coachLocations.forEach(this::put);
+  }
+
+  public int size() {
+    return locations.size();
+  }
+
+  // ------------------------------- Queries -------------------------------//
+  /**
+   * Finds every coach within a radius of a point.
+   *
+   * @param origin   The query point
+   * @param radiusKm The search radius in kilometers
+   * @return Neighbors ordered by distance (closest first)
+   */
+  public List<Neighbor> withinRadius(GeoPoint origin, double radiusKm) {
+    List<Neighbor> result = new ArrayList<>();
+    for (Integer coachId : candidates(origin, radiusKm)) {
+      GeoPoint location = locations.get(coachId);
+      if (location == null) {
+        continue;
+      }
+      double distance = origin.distanceKm(location);
+      if (distance <= radiusKm) {
+        result.add(new Neighbor(coachId, distance));
+      }
+    }
+    result.sort(Comparator.comparingDouble(Neighbor::distanceKm).thenComparingInt(Neighbor::coachId));
+    return result;
+  }
+
+  /**
+   * Finds the k coaches closest to a point.
+   * The search radius doubles until at least k coaches are inside it, which
+   * guarantees the k nearest are among them.
+   *
+   * @param origin The query point
+   * @param k      The number of coaches to return
+   * @return Up to k neighbors ordered by distance (closest first)
+   */
+  public List<Neighbor> nearest(GeoPoint origin, int k) {
+    if (k <= 0 || locations.isEmpty()) {
+      return new ArrayList<>();
+    }
+    int wanted = Math.min(k, locations.size());
+    double radiusKm = INITIAL_SEARCH_RADIUS_KM;
+    List<Neighbor> found = withinRadius(origin, radiusKm);
+    while (found.size() < wanted && radiusKm < MAX_SEARCH_RADIUS_KM) {
+      radiusKm = Math.min(radiusKm * 2, MAX_SEARCH_RADIUS_KM);
+      found = withinRadius(origin, radiusKm);
+    }
+    return found.size() > k ? new ArrayList<>(found.subList(0, k)) : found;
+  }
+
+  // ------------------------------- Helpers -------------------------------//
+  /**
+   * Collects coach IDs from every cell overlapping the bounding box of the
+   * search circle. Small boxes probe each of their cells; boxes with more
+   * cells than are occupied walk the occupied cells and keep those inside
+   * the box. Either way only coaches in overlapping cells are returned.
+   */
+  Collection<Integer> candidates(GeoPoint origin, double radiusKm) {
+    double latSpan = radiusKm / KM_PER_DEGREE;
+    double minLat = origin.getLatitude() - latSpan;
+    double maxLat = origin.getLatitude() + latSpan;
+
+    // Longitude degrees shrink with latitude; near the poles every column is in range
+    double maxAbsLat = Math.min(90.0, Math.max(Math.abs(minLat), Math.abs(maxLat)));
+    double cosLat = Math.cos(Math.toRadians(maxAbsLat));
+    double lngSpan = cosLat > 1e-6 ? latSpan / cosLat : 360.0;
+
+    int minLatCell = latCell(Math.max(-90.0, minLat));
+    int maxLatCell = latCell(Math.min(90.0, maxLat));
+    int lngCellCount = lngSpan >= 180.0
+        ? LNG_CELLS
+        : Math.min(LNG_CELLS, lngCell(origin.getLongitude() + lngSpan) - lngCell(origin.getLongitude() - lngSpan) + 1);
+    int firstLngCell = lngSpan >= 180.0 ? 0 : lngCell(origin.getLongitude() - lngSpan);
+    long boxCells = (long) (maxLatCell - minLatCell + 1) * lngCellCount;
+
+    List<Integer> result = new ArrayList<>();
+    if (boxCells > cells.size()) {
+      for (Map.Entry<Long, Set<Integer>> entry : cells.entrySet()) {
+        int latIndex = (int) (entry.getKey() >> 32);
+        int lngIndex = (int) entry.getKey().longValue();
+        if (latIndex >= minLatCell && latIndex <= maxLatCell
+            && Math.floorMod(lngIndex - firstLngCell, LNG_CELLS) < lngCellCount) {
+          result.addAll(entry.getValue());
+        }
+      }
+      return result;
+    }
+
+    for (int latIndex = minLatCell; latIndex <= maxLatCell; latIndex++) {
+      for (int offset = 0; offset < lngCellCount; offset++) {
+        int lngIndex = Math.floorMod(firstLngCell + offset, LNG_CELLS);
+        Set<Integer> cell = cells.get(cellKey(latIndex, lngIndex));
+        if (cell != null) {
+          result.addAll(cell);
+        }
+      }
+    }
+    return result;
+  }
+
+  private static int latCell(double latitude) {
+    return Math.min(LAT_CELLS - 1, (int) Math.floor((latitude + 90.0) / CELL_DEGREES));
+  }
+
+  /** Unwrapped longitude cell; callers wrap with floorMod when looking up. */
+  private static int lngCell(double longitude) {
+    return (int) Math.floor((longitude + 180.0) / CELL_DEGREES);
+  }
+
+  private static long cellKey(GeoPoint location) {
+    return cellKey(latCell(location.getLatitude()), Math.floorMod(lngCell(location.getLongitude()), LNG_CELLS));
+  }
+
+  private static long cellKey(int latIndex, int lngIndex) {
+    return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+  }
+}
@@ -0,0 +1,175 @@
+package com.universalathletics.service.geocoding;
+
+//------------------------------- imports ------------------------------------//
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiFunction;
+
+import javax.annotation.PreDestroy;
+
+//-------------------- Display Location Backfill Job Class --------------------//
+/**
+ * Background job that fills in Display_Location for coaches and members
+ * written before the column existed.
+ *
+ * Each run resolves at most {@code batch-size} rows per table and waits
+ * {@code delay-ms} between lookups, which keeps Nominatim traffic within its
+ * one-request-per-second usage policy. A run takes minutes, so it executes on
+ * the job's own thread rather than the shared scheduler thread, which would
+ * otherwise hold up every other scheduled job. Rows are walked in ID order
+ * with a cursor. A row that fails to resolve is skipped for a growing number
+ * of runs, so rows that never resolve stop costing a lookup on every pass.
+ */
+@Component
+public class DisplayLocationBackfillJob {
+
+  private static final Logger logger = LoggerFactory.getLogger(DisplayLocationBackfillJob.class);
+
+  /**
+   * Most runs a failing row is skipped for, however often it has failed.
+   */
+  private static final int MAX_SKIPPED_RUNS = 64;
+
+  @Autowired
+  private CoachRepository coachRepository;
+
+  @Autowired
+  private MemberInfoRepository memberInfoRepository;
+
+  @Autowired
+  private GeocodingService geocodingService;
+
+  @Value("${geocoding.display-location.backfill.enabled:true}")
+  private boolean enabled;
+
+  /**
+   * Maximum rows resolved per table on each run.
+   */
+  @Value("${geocoding.display-location.backfill.batch-size:50}")
+  private int batchSize;
+
+  /**
+   * Pause between lookups, in milliseconds.
+   */
+  @Value("${geocoding.display-location.backfill.delay-ms:1100}")
+  private long delayMillis;
+
+  /**
+   * How often a row has failed to resolve, and the run it is next tried on.
+   */
+  private record Failure(int count, long retryRun) {
+  }
+
+  private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+    Thread thread = new Thread(runnable, "display-location-backfill");
+    thread.setDaemon(true);
+    return thread;
+  });
+
+  private final AtomicBoolean running = new AtomicBoolean();
+
+  /** "kind:id" -> failure; only touched on the executor thread */
+  private final Map<String, Failure> failures = new HashMap<>();
+
+  private long runs = 0;
+  private int coachCursor = 0;
+  private int memberCursor = 0;
+
+  /**
+   * Starts resolving the next batch of coaches and members missing a display
+   * location, unless the previous batch is still running.
+   */
+  @Scheduled(initialDelayString = "${geocoding.display-location.backfill.initial-delay-ms:60000}",
+      fixedDelayString = "${geocoding.display-location.backfill.interval-ms:300000}")
+  public void run() {
+    if (!enabled || !running.compareAndSet(false, true)) {
+      return;
+    }
+    executor.execute(() -> {
+      try {
+        runBatch();
+      } finally {
+        running.set(false);
+      }
+    });
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  /**
+   * Resolves the next batch of coaches and members missing a display location.
+   */
+  void runBatch() {
+    runs++;
+    try {
+      coachCursor = backfill("coach", coachCursor,
+          coachRepository.findMissingDisplayLocation(coachCursor, PageRequest.of(0, batchSize)),
+          coachRepository::updateDisplayLocation);
+      memberCursor = backfill("member", memberCursor,
+          memberInfoRepository.findMissingDisplayLocation(memberCursor, PageRequest.of(0, batchSize)),
+          memberInfoRepository::updateDisplayLocation);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (Exception e) {
+      logger.error("Display location backfill failed: {}", e.getMessage(), e);
+    }
+  }
+
+  /**
+   * Resolves one batch of [id, latitude, longitude] rows.
+   *
+   * @return The cursor for the next run; 0 once the table has been walked to the end
+   */
+  int backfill(String kind, int cursor, List<Object[]> rows,
+      BiFunction<Integer, String, Integer> update) throws InterruptedException {
+    if (rows.isEmpty()) {
+      return 0;
+    }
+    int resolved = 0;
+    int attempted = 0;
+    int lastId = cursor;
+    for (Object[] row : rows) {
+      lastId = (Integer) row[0];
+      String key = kind + ":" + lastId;
+      Failure failure = failures.get(key);
+      if (failure != null && runs < failure.retryRun()) {
+        continue;
+      }
+      if (attempted > 0 && delayMillis > 0) {
+        Thread.sleep(delayMillis);
+      }
+      attempted++;
+      String displayLocation = geocodingService.resolveDisplayLocation(
+          new GeoPoint((Double) row[1], (Double) row[2]));
+      if (displayLocation != null) {
+        update.apply(lastId, displayLocation);
+        failures.remove(key);
+        resolved++;
+      } else {
+        // Wait 2, 4, 8, ... runs before trying the row again
+        int count = failure != null ? failure.count() + 1 : 1;
+        failures.put(key, new Failure(count, runs + Math.min(1L << count, MAX_SKIPPED_RUNS)));
+      }
+    }
+    logger.info("Backfilled display location for {} of {} {} rows", resolved, attempted, kind);
+    return rows.size() < batchSize ? 0 : lastId;
+  }
+}
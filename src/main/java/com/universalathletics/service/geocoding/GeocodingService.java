@@ -4,92 +4,78 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
 import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.service.geocoding.gazetteer.OfflineReverseGeocoder;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
 @Service
 public class GeocodingService {
+    /**
+     * Time allowed to connect to, and then to hear back from, Nominatim.
+     * A lookup that runs out of time resolves to no display location.
+     */
+    private static final Duration CONNECT_TIMEOUT = Duration.ofSeconds(3);
+    private static final Duration READ_TIMEOUT = Duration.ofSeconds(5);
+
     /**
      * Instance of RestTemplate for making HTTP requests to OpenStreetMap API.
      */
-    private static final RestTemplate restTemplate = new RestTemplate();
+    private static final RestTemplate restTemplate = createRestTemplate();
+
+    /**
+     * Local gazetteer consulted before calling out to Nominatim.
+     */
+    @Autowired
+    private OfflineReverseGeocoder offlineReverseGeocoder;
+
+    private static RestTemplate createRestTemplate() {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(CONNECT_TIMEOUT);
+        requestFactory.setReadTimeout(READ_TIMEOUT);
+        return new RestTemplate(requestFactory);
+    }
 
     /**
      * Helper method to parse latitude from coordinate string
      * @param coordinateString String in format "Latitude: 42.02384529218001, Longitude: -93.64541386213286"
-     * @return double the parsed latitude value
+     * @return double the parsed latitude value, or 0.0 if the string is not a coordinate pair
      */
     public double parseLatitude(String coordinateString) {
-        if (coordinateString == null || coordinateString.isEmpty()) {
-            return 0.0;
-        }
-        
-        try {
-            // Extract the substring between "Latitude: " and the comma
-            int startIndex = coordinateString.indexOf("Latitude: ") + "Latitude: ".length();
-            int endIndex = coordinateString.indexOf(",", startIndex);
-            
-            if (startIndex < 0 || endIndex < 0) {
-                System.err.println("Invalid coordinate string format for latitude: " + coordinateString);
-                return 0.0;
-            }
-            
-            String latitudeStr = coordinateString.substring(startIndex, endIndex).trim();
-            double latitude = Double.parseDouble(latitudeStr);
-            System.out.println("Parsed latitude: " + latitude);
-            System.out.println("Rounded Latitude: " + Math.round(latitude * 100000.0) / 100000.0);
-            
-            // Round the latitude to 5 decimal places
-            return Math.round(latitude * 100000.0) / 100000.0;
-        } catch (Exception e) {
-            System.err.println("Error parsing latitude from: " + coordinateString);
-            e.printStackTrace();
-            return 0.0;
-        }
+        GeoPoint point = GeoPoint.parse(coordinateString);
+        return point != null ? point.getLatitude() : 0.0;
     }
    
     /**
      * Helper method to parse longitude from coordinate string
      * @param coordinateString String in format "Latitude: 42.02384529218001, Longitude: -93.64541386213286"
-     * @return double the parsed longitude value
+     * @return double the parsed longitude value, or 0.0 if the string is not a coordinate pair
      */
     public double parseLongitude(String coordinateString) {
-        if (coordinateString == null || coordinateString.isEmpty()) {
-            return 0.0;
-        }
-        
-        try {
-            // Extract the substring after "Longitude: "
-            int startIndex = coordinateString.indexOf("Longitude: ") + "Longitude: ".length();
-            
-            if (startIndex < 0) {
-                System.err.println("Invalid coordinate string format for longitude: " + coordinateString);
-                return 0.0;
-            }
-            
-            String longitudeStr = coordinateString.substring(startIndex).trim();
-            double longitude = Double.parseDouble(longitudeStr);
-           
-            // Round the longitude to 5 decimal places
-            return Math.round(longitude * 100000.0) / 100000.0;
-        } catch (Exception e) {
-            System.err.println("Error parsing longitude from: " + coordinateString);
-            e.printStackTrace();
-            return 0.0;
-        }
+        GeoPoint point = GeoPoint.parse(coordinateString);
+        return point != null ? point.getLongitude() : 0.0;
     }
 
     /**
-     * Helper method to convert the latitude and longitude to a city/state string using OpenStreetMap Nominatim API
+     * Helper method to convert the latitude and longitude to a city/state string.
+     * Answers from the local gazetteer when it has a nearby place, otherwise
+     * falls back to the OpenStreetMap Nominatim API
      */
     public String getCityStateFromCoordinates(double latitude, double longitude) {
+        String offline = offlineReverseGeocoder != null ? offlineReverseGeocoder.lookup(latitude, longitude) : null;
+        if (offline != null) {
+            return offline;
+        }
         try {
             // Format the URL for the Nominatim API
             String url = String.format(
@@ -139,6 +125,42 @@ public class GeocodingService {
 
     }    
    
+    /**
+     * Resolves a stored location to the text shown to users.
+     * Coordinate locations are reverse geocoded to "City, State"; anything else
+     * is assumed to already be human-readable and is returned as-is.
+     * @param location Location string as stored on a coach or member
+     * @return String display location, or null if the location is empty or could not be resolved
+     */
+    public String resolveDisplayLocation(String location) {
+        if (location == null || location.isBlank()) {
+            return null;
+        }
+        GeoPoint coordinates = GeoPoint.parse(location);
+        if (coordinates == null) {
+            return location.trim();
+        }
+        return resolveDisplayLocation(coordinates);
+    }
+
+    /**
+     * Reverse geocodes coordinates to "City, State".
+     * @param coordinates The coordinates to resolve
+     * @return String display location, or null if it could not be resolved
+     */
+    public String resolveDisplayLocation(GeoPoint coordinates) {
+        if (coordinates == null) {
+            return null;
+        }
+        String cityState = getCityStateFromCoordinates(coordinates.getLatitude(), coordinates.getLongitude());
+        if (cityState == null || cityState.isEmpty()
+                || cityState.equals("Location not found")
+                || cityState.equals("Error retrieving location")) {
+            return null;
+        }
+        return cityState;
+    }
+
     /**
      * Helper method to calculate distance between two sets of coordinates using the Haversine formula
      * @param lat1
@@ -148,18 +170,7 @@ public class GeocodingService {
      * @return double the distance in kilometers
      */
     public double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371; // Earth's radius in kilometers
-        
-        double latDistance = Math.toRadians(lat2 - lat1);
-        double lonDistance = Math.toRadians(lon2 - lon1);
-        
-        double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
-        
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        
-        return R * c; 
+        return GeoPoint.distanceKm(lat1, lon1, lat2, lon2);
     }
 
     /**
@@ -175,9 +186,12 @@ public class GeocodingService {
         CoachEntity currentCoach;
     
         for (CoachEntity coach : coaches) {
-            latitude = parseLatitude(coach.getLocation());
-            longitude = parseLongitude(coach.getLocation());
-            formattedLocation = getCityStateFromCoordinates(latitude, longitude);
+            GeoPoint coordinates = coach.getCoordinates();
+            latitude = coordinates != null ? coordinates.getLatitude() : 0.0;
+            longitude = coordinates != null ? coordinates.getLongitude() : 0.0;
+            formattedLocation = coach.getDisplayLocation() != null
+                ? coach.getDisplayLocation()
+                : getCityStateFromCoordinates(latitude, longitude);
             currentCoach = new CoachEntity(coach.getFirstName(), coach.getLastName(), coach.getEmail(), coach.getPhone(), coach.getBiography1(), coach.getBiography2(), coach.getProfilePic(), coach.getBioPic1(), coach.getBioPic2(), formattedLocation, coach.getFirebaseID());
             updatedCoaches.add(currentCoach);
         }
@@ -0,0 +1,179 @@
+package com.universalathletics.service.geocoding.gazetteer;
+
+//------------------------------- imports ------------------------------------//
+import com.universalathletics.service.geocoding.model.GeoPoint;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+//----------------------------- Gazetteer Class -------------------------------//
+/**
+ * Read-only, memory-mapped city/state gazetteer used for offline reverse
+ * geocoding.
+ *
+ * File layout (big-endian, written by {@link GazetteerWriter}):
+ * <pre>
+ * header : int magic, int version, float cellDegrees,
+ *          int placeCount, int cellCount, int namesLength
+ * cells  : cellCount  x (int cellKey, int firstPlace, int placeCount), sorted by cellKey
+ * places : placeCount x (float latitude, float longitude, int nameOffset), grouped by cell
+ * names  : namesLength bytes of (unsigned short length, UTF-8 "City, State")
+ * </pre>
+ *
+ * Lookups only read the grid cells around the query point, so they take
+ * microseconds and never touch the network. All reads use absolute offsets,
+ * so a single instance is safe to share between threads.
+ */
+public class Gazetteer {
+
+  static final int MAGIC = 0x55414757; // "UAGW"
+  // Version 2 stores full state names; version 1 files used postal codes
+  static final int VERSION = 2;
+  static final int HEADER_BYTES = 6 * Integer.BYTES;
+  static final int CELL_BYTES = 3 * Integer.BYTES;
+  static final int PLACE_BYTES = 3 * Integer.BYTES;
+
+  private final MappedByteBuffer buffer;
+  private final float cellDegrees;
+  private final int latCells;
+  private final int lngCells;
+  private final int placeCount;
+  private final int cellCount;
+  private final int cellsOffset;
+  private final int placesOffset;
+  private final int namesOffset;
+
+  private Gazetteer(MappedByteBuffer buffer) {
+    this.buffer = buffer;
+    buffer.order(ByteOrder.BIG_ENDIAN);
+    if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+      throw new IllegalArgumentException("Not a gazetteer file (bad magic or version)");
+    }
+    this.cellDegrees = buffer.getFloat(8);
+    this.placeCount = buffer.getInt(12);
+    this.cellCount = buffer.getInt(16);
+    int namesLength = buffer.getInt(20);
+    this.latCells = cellsFor(180, cellDegrees);
+    this.lngCells = cellsFor(360, cellDegrees);
+    this.cellsOffset = HEADER_BYTES;
+    this.placesOffset = cellsOffset + cellCount * CELL_BYTES;
+    this.namesOffset = placesOffset + placeCount * PLACE_BYTES;
+    if (namesOffset + namesLength > buffer.capacity()) {
+      throw new IllegalArgumentException("Gazetteer file is truncated");
+    }
+  }
+
+  /**
+   * Memory-maps a gazetteer file.
+   *
+   * @param path Path to the binary gazetteer
+   * @return Gazetteer backed by the mapped file
+   * @throws IOException if the file cannot be read
+   * @throws IllegalArgumentException if the file is not a valid gazetteer
+   */
+  public static Gazetteer open(Path path) throws IOException {
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping stays valid after the channel is closed
+      return new Gazetteer(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+    }
+  }
+
+  public int size() {
+    return placeCount;
+  }
+
+  /**
+   * Finds the closest place to a coordinate.
+   *
+   * @param latitude      Latitude of the query point
+   * @param longitude     Longitude of the query point
+   * @param maxDistanceKm Places further away than this are ignored
+   * @return String "City, State" of the nearest place, or null if none is close enough
+   */
+  public String nearestPlace(double latitude, double longitude, double maxDistanceKm) {
+    int latIndex = latCell(latitude, cellDegrees, latCells);
+    int lngIndex = lngCell(longitude, cellDegrees, lngCells);
+    // Widen the ring of cells far enough to cover maxDistanceKm at this latitude
+    int latRing = (int) Math.ceil(maxDistanceKm / (111.32 * cellDegrees));
+    double cosLat = Math.cos(Math.toRadians(Math.min(89.0, Math.abs(latitude) + latRing * cellDegrees)));
+    int lngRing = Math.min(lngCells / 2, (int) Math.ceil(latRing / Math.max(cosLat, 1e-3)));
+
+    double bestDistance = maxDistanceKm;
+    int bestNameOffset = -1;
+    for (int dLat = -latRing; dLat <= latRing; dLat++) {
+      int row = latIndex + dLat;
+      if (row < 0 || row >= latCells) {
+        continue;
+      }
+      for (int dLng = -lngRing; dLng <= lngRing; dLng++) {
+        int column = Math.floorMod(lngIndex + dLng, lngCells);
+        int cell = findCell(row * lngCells + column);
+        if (cell < 0) {
+          continue;
+        }
+        int cellBase = cellsOffset + cell * CELL_BYTES;
+        int first = buffer.getInt(cellBase + 4);
+        int count = buffer.getInt(cellBase + 8);
+        for (int place = first; place < first + count; place++) {
+          int placeBase = placesOffset + place * PLACE_BYTES;
+          double distance = GeoPoint.distanceKm(latitude, longitude,
+              buffer.getFloat(placeBase), buffer.getFloat(placeBase + 4));
+          if (distance <= bestDistance) {
+            bestDistance = distance;
+            bestNameOffset = buffer.getInt(placeBase + 8);
+          }
+        }
+      }
+    }
+    return bestNameOffset >= 0 ? readName(bestNameOffset) : null;
+  }
+
+  /**
+   * Binary search over the sorted cell table.
+   *
+   * @return index of the cell entry, or -1 if the cell has no places
+   */
+  private int findCell(int cellKey) {
+    int low = 0;
+    int high = cellCount - 1;
+    while (low <= high) {
+      int mid = (low + high) >>> 1;
+      int key = buffer.getInt(cellsOffset + mid * CELL_BYTES);
+      if (key < cellKey) {
+        low = mid + 1;
+      } else if (key > cellKey) {
+        high = mid - 1;
+      } else {
+        return mid;
+      }
+    }
+    return -1;
+  }
+
+  private String readName(int offset) {
+    int position = namesOffset + offset;
+    int length = buffer.getShort(position) & 0xffff;
+    byte[] bytes = new byte[length];
+    buffer.get(position + Short.BYTES, bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  // ------------------------ Grid helpers (shared) ------------------------//
+  static int cellsFor(int degrees, float cellDegrees) {
+    return (int) Math.ceil(degrees / cellDegrees);
+  }
+
+  static int latCell(double latitude, float cellDegrees, int latCells) {
+    int index = (int) Math.floor((latitude + 90.0) / cellDegrees);
+    return Math.max(0, Math.min(latCells - 1, index));
+  }
+
+  static int lngCell(double longitude, float cellDegrees, int lngCells) {
+    return Math.floorMod((int) Math.floor((longitude + 180.0) / cellDegrees), lngCells);
+  }
+}
@@ -0,0 +1,199 @@
+package com.universalathletics.service.geocoding.gazetteer;
+
+//------------------------------- imports ------------------------------------//
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+//-------------------------- Gazetteer Writer Class ---------------------------//
+/**
+ * Builds the binary gazetteer file read by {@link Gazetteer}.
+ *
+ * Can be run from the command line to convert a tab-separated place list
+ * (name, state code, latitude, longitude per line, e.g. extracted from the
+ * GeoNames cities dump) into a gazetteer. US state codes are expanded to
+ * full names, so offline results read like Nominatim's "City, State":
+ * <pre>
+ * java -cp app.jar com.universalathletics.service.geocoding.gazetteer.GazetteerWriter places.tsv gazetteer.bin
+ * </pre>
+ */
+public final class GazetteerWriter {
+
+  /** Default cell edge length in degrees (~110km of latitude). */
+  public static final float DEFAULT_CELL_DEGREES = 1.0f;
+
+  /**
+   * A named place to store in the gazetteer.
+   *
+   * @param name      Display name, e.g. "Ames, Iowa"
+   * @param latitude  Latitude of the place
+   * @param longitude Longitude of the place
+   */
+  public record Place(String name, double latitude, double longitude) {
+  }
+
+  /** Full names of US states and territories by postal code, as Nominatim reports them. */
+  private static final Map<String, String> STATE_NAMES = Map.ofEntries(
+      Map.entry("AL", "Alabama"), Map.entry("AK", "Alaska"), Map.entry("AZ", "Arizona"),
+      Map.entry("AR", "Arkansas"), Map.entry("CA", "California"), Map.entry("CO", "Colorado"),
+      Map.entry("CT", "Connecticut"), Map.entry("DE", "Delaware"), Map.entry("DC", "District of Columbia"),
+      Map.entry("FL", "Florida"), Map.entry("GA", "Georgia"), Map.entry("HI", "Hawaii"),
+      Map.entry("ID", "Idaho"), Map.entry("IL", "Illinois"), Map.entry("IN", "Indiana"),
+      Map.entry("IA", "Iowa"), Map.entry("KS", "Kansas"), Map.entry("KY", "Kentucky"),
+      Map.entry("LA", "Louisiana"), Map.entry("ME", "Maine"), Map.entry("MD", "Maryland"),
+      Map.entry("MA", "Massachusetts"), Map.entry("MI", "Michigan"), Map.entry("MN", "Minnesota"),
+      Map.entry("MS", "Mississippi"), Map.entry("MO", "Missouri"), Map.entry("MT", "Montana"),
+      Map.entry("NE", "Nebraska"), Map.entry("NV", "Nevada"), Map.entry("NH", "New Hampshire"),
+      Map.entry("NJ", "New Jersey"), Map.entry("NM", "New Mexico"), Map.entry("NY", "New York"),
+      Map.entry("NC", "North Carolina"), Map.entry("ND", "North Dakota"), Map.entry("OH", "Ohio"),
+      Map.entry("OK", "Oklahoma"), Map.entry("OR", "Oregon"), Map.entry("PA", "Pennsylvania"),
+      Map.entry("RI", "Rhode Island"), Map.entry("SC", "South Carolina"), Map.entry("SD", "South Dakota"),
+      Map.entry("TN", "Tennessee"), Map.entry("TX", "Texas"), Map.entry("UT", "Utah"),
+      Map.entry("VT", "Vermont"), Map.entry("VA", "Virginia"), Map.entry("WA", "Washington"),
+      Map.entry("WV", "West Virginia"), Map.entry("WI", "Wisconsin"), Map.entry("WY", "Wyoming"),
+      Map.entry("AS", "American Samoa"), Map.entry("GU", "Guam"), Map.entry("MP", "Northern Mariana Islands"),
+      Map.entry("PR", "Puerto Rico"), Map.entry("VI", "United States Virgin Islands"));
+
+  private GazetteerWriter() {
+  }
+
+  /**
+   * Writes places to a gazetteer file.
+   *
+   * @param places      The places to store
+   * @param target      Path of the file to create or replace
+   * @param cellDegrees Grid cell edge length in degrees
+   * @throws IOException if the file cannot be written
+   */
+  public static void write(List<Place> places, Path target, float cellDegrees) throws IOException {
+    int latCells = Gazetteer.cellsFor(180, cellDegrees);
+    int lngCells = Gazetteer.cellsFor(360, cellDegrees);
+
+    // Group places by cell so every cell is one contiguous run
+    List<Place> sorted = new ArrayList<>(places);
+    sorted.sort(Comparator.comparingInt(place -> cellKey(place, cellDegrees, latCells, lngCells)));
+
+    // Identical names are stored once
+    Map<String, Integer> nameOffsets = new LinkedHashMap<>();
+    int namesLength = 0;
+    for (Place place : sorted) {
+      if (!nameOffsets.containsKey(place.name())) {
+        nameOffsets.put(place.name(), namesLength);
+        namesLength += Short.BYTES + encodedName(place.name()).length;
+      }
+    }
+
+    List<int[]> cells = new ArrayList<>();
+    for (int i = 0; i < sorted.size(); i++) {
+      int key = cellKey(sorted.get(i), cellDegrees, latCells, lngCells);
+      int[] last = cells.isEmpty() ? null : cells.get(cells.size() - 1);
+      if (last != null && last[0] == key) {
+        last[2]++;
+      } else {
+        cells.add(new int[] { key, i, 1 });
+      }
+    }
+
+    try (OutputStream file = Files.newOutputStream(target);
+        DataOutputStream out = new DataOutputStream(new BufferedOutputStream(file))) {
+      out.writeInt(Gazetteer.MAGIC);
+      out.writeInt(Gazetteer.VERSION);
+      out.writeFloat(cellDegrees);
+      out.writeInt(sorted.size());
+      out.writeInt(cells.size());
+      out.writeInt(namesLength);
+      for (int[] cell : cells) {
+        out.writeInt(cell[0]);
+        out.writeInt(cell[1]);
+        out.writeInt(cell[2]);
+      }
+      for (Place place : sorted) {
+        out.writeFloat((float) place.latitude());
+        out.writeFloat((float) place.longitude());
+        out.writeInt(nameOffsets.get(place.name()));
+      }
+      for (String name : nameOffsets.keySet()) {
+        byte[] bytes = encodedName(name);
+        out.writeShort(bytes.length);
+        out.write(bytes);
+      }
+    }
+  }
+
+  /**
+   * Reads a tab-separated place list (name, state, latitude, longitude).
+   * Blank lines, comment lines starting with '#' and malformed rows are skipped.
+   *
+   * @param source Path of the TSV file
+   * @return List of places with names formatted as "City, State"
+   * @throws IOException if the file cannot be read
+   */
+  public static List<Place> readTsv(Path source) throws IOException {
+    List<Place> places = new ArrayList<>();
+    try (BufferedReader reader = Files.newBufferedReader(source, StandardCharsets.UTF_8)) {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isBlank() || line.startsWith("#")) {
+          continue;
+        }
+        String[] columns = line.split("\t");
+        if (columns.length < 4) {
+          continue;
+        }
+        try {
+          double latitude = Double.parseDouble(columns[2].trim());
+          double longitude = Double.parseDouble(columns[3].trim());
+          String state = stateName(columns[1].trim());
+          String name = state.isEmpty() ? columns[0].trim() : columns[0].trim() + ", " + state;
+          places.add(new Place(name, latitude, longitude));
+        } catch (NumberFormatException e) {
+          // Skip rows without numeric coordinates
+        }
+      }
+    }
+    return places;
+  }
+
+  public static void main(String[] args) throws IOException {
+    if (args.length != 2) {
+      System.err.println("Usage: GazetteerWriter <places.tsv> <gazetteer.bin>");
+      System.exit(1);
+    }
+    List<Place> places = readTsv(Path.of(args[0]));
+    write(places, Path.of(args[1]), DEFAULT_CELL_DEGREES);
+    System.out.println("Wrote " + places.size() + " places to " + args[1]);
+  }
+
+  // ------------------------------- Helpers -------------------------------//
+  private static int cellKey(Place place, float cellDegrees, int latCells, int lngCells) {
+    return Gazetteer.latCell(place.latitude(), cellDegrees, latCells) * lngCells
+        + Gazetteer.lngCell(place.longitude(), cellDegrees, lngCells);
+  }
+
+  /**
+   * Expands a US postal code to the state's full name. Other values, such as
+   * names that are already spelled out, are returned unchanged.
+   */
+  static String stateName(String state) {
+    return STATE_NAMES.getOrDefault(state.toUpperCase(Locale.ROOT), state);
+  }
+
+  private static byte[] encodedName(String name) {
+    byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+    if (bytes.length > 0xffff) {
+      throw new IllegalArgumentException("Place name too long: " + name);
+    }
+    return bytes;
+  }
+}
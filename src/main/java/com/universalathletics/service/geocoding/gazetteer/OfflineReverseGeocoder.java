@@ -0,0 +1,66 @@
+package com.universalathletics.service.geocoding.gazetteer;
+
+//------------------------------- imports ------------------------------------//
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import java.io.IOException;
+import java.nio.file.Path;
+
+//--------------------- Offline Reverse Geocoder Class ------------------------//
+/**
+ * Reverse geocoder backed by a local, memory-mapped gazetteer.
+ *
+ * The gazetteer is mapped once at startup from {@code geocoding.gazetteer.path}.
+ * When no path is configured, or the file cannot be opened, the geocoder is
+ * disabled and every lookup returns null so callers fall back to Nominatim.
+ */
+@Component
+public class OfflineReverseGeocoder {
+
+  private static final Logger logger = LoggerFactory.getLogger(OfflineReverseGeocoder.class);
+
+  @Value("${geocoding.gazetteer.path:}")
+  private String gazetteerPath;
+
+  /**
+   * Coordinates further than this from every known place are not resolved offline.
+   */
+  @Value("${geocoding.gazetteer.max-distance-km:50}")
+  private double maxDistanceKm;
+
+  private volatile Gazetteer gazetteer;
+
+  @PostConstruct
+  public void initialize() {
+    if (gazetteerPath == null || gazetteerPath.isBlank()) {
+      logger.info("No gazetteer configured; reverse geocoding will use Nominatim");
+      return;
+    }
+    try {
+      gazetteer = Gazetteer.open(Path.of(gazetteerPath));
+      logger.info("Loaded gazetteer with {} places from {}", gazetteer.size(), gazetteerPath);
+    } catch (IOException | IllegalArgumentException e) {
+      logger.warn("Could not load gazetteer from {}: {}", gazetteerPath, e.getMessage());
+    }
+  }
+
+  public boolean isEnabled() {
+    return gazetteer != null;
+  }
+
+  /**
+   * Resolves coordinates to the nearest known place.
+   *
+   * @param latitude  Latitude of the point
+   * @param longitude Longitude of the point
+   * @return String "City, State", or null if the gazetteer is disabled or has no nearby place
+   */
+  public String lookup(double latitude, double longitude) {
+    Gazetteer current = gazetteer;
+    return current != null ? current.nearestPlace(latitude, longitude, maxDistanceKm) : null;
+  }
+}
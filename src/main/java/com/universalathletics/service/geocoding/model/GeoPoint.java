@@ -0,0 +1,148 @@
+package com.universalathletics.service.geocoding.model;
+
+//------------------------------- imports ------------------------------------//
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+
+import java.util.Objects;
+
+//------------------------------ GeoPoint Class ------------------------------//
+/**
+ * Value type for a latitude/longitude pair, embedded into the Coach and
+ * Member_Info tables as numeric Latitude/Longitude columns.
+ *
+ * Location strings sent by the app are parsed once when the owning entity is
+ * written, so distance calculations never touch the string form.
+ */
+@Embeddable
+public class GeoPoint {
+
+  private static final double EARTH_RADIUS_KM = 6371.0;
+  private static final String LATITUDE_LABEL = "Latitude:";
+  private static final String LONGITUDE_LABEL = "Longitude:";
+
+  @Column(name = "Latitude")
+  private Double latitude;
+
+  @Column(name = "Longitude")
+  private Double longitude;
+
+  /**
+   * No-arg constructor required by JPA and Jackson
+   */
+  protected GeoPoint() {
+  }
+
+  public GeoPoint(double latitude, double longitude) {
+    this.latitude = latitude;
+    this.longitude = longitude;
+  }
+
+  /**
+   * Parses a location string into a GeoPoint.
+   * Supports the app's "Latitude: X, Longitude: Y" format as well as a plain
+   * "lat,lng" pair. Values are rounded to 5 decimal places (~1m).
+   *
+   * @param location The location string to parse
+   * @return GeoPoint, or null if the string is not a valid coordinate pair
+   */
+  public static GeoPoint parse(String location) {
+    if (location == null || location.isBlank()) {
+      return null;
+    }
+
+    String latitudePart;
+    String longitudePart;
+    int latitudeIndex = location.indexOf(LATITUDE_LABEL);
+    int longitudeIndex = location.indexOf(LONGITUDE_LABEL);
+
+    if (latitudeIndex >= 0 && longitudeIndex > latitudeIndex) {
+      int commaIndex = location.indexOf(',', latitudeIndex);
+      if (commaIndex < 0 || commaIndex > longitudeIndex) {
+        return null;
+      }
+      latitudePart = location.substring(latitudeIndex + LATITUDE_LABEL.length(), commaIndex);
+      longitudePart = location.substring(longitudeIndex + LONGITUDE_LABEL.length());
+    } else {
+      String[] parts = location.split(",");
+      if (parts.length != 2) {
+        return null;
+      }
+      latitudePart = parts[0];
+      longitudePart = parts[1];
+    }
+
+    try {
+      double latitude = Double.parseDouble(latitudePart.trim());
+      double longitude = Double.parseDouble(longitudePart.trim());
+      if (latitude < -90 || latitude > 90 || longitude < -180 || longitude > 180) {
+        return null;
+      }
+      return new GeoPoint(round(latitude), round(longitude));
+    } catch (NumberFormatException e) {
+      return null;
+    }
+  }
+
+  /**
+   * Great-circle distance between two coordinates using the Haversine formula
+   *
+   * @return double the distance in kilometers
+   */
+  public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+    double latDistance = Math.toRadians(lat2 - lat1);
+    double lonDistance = Math.toRadians(lon2 - lon1);
+
+    double a = Math.sin(latDistance / 2) * Math.sin(latDistance / 2)
+        + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+        * Math.sin(lonDistance / 2) * Math.sin(lonDistance / 2);
+
+    double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+
+    return EARTH_RADIUS_KM * c;
+  }
+
+  /**
+   * Distance from this point to another point
+   *
+   * @param other The other point
+   * @return double the distance in kilometers
+   */
+  public double distanceKm(GeoPoint other) {
+    return distanceKm(latitude, longitude, other.latitude, other.longitude);
+  }
+
+  private static double round(double value) {
+    return Math.round(value * 100000.0) / 100000.0;
+  }
+
+  // -------- Getters --------- //
+  public Double getLatitude() {
+    return latitude;
+  }
+  public Double getLongitude() {
+    return longitude;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof GeoPoint)) {
+      return false;
+    }
+    GeoPoint other = (GeoPoint) o;
+    return Objects.equals(latitude, other.latitude) && Objects.equals(longitude, other.longitude);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(latitude, longitude);
+  }
+
+  @Override
+  public String toString() {
+    return "Latitude: " + latitude + ", Longitude: " + longitude;
+  }
+}
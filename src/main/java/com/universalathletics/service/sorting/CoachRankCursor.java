@@ -0,0 +1,65 @@
+package com.universalathletics.service.sorting;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+
+/**
+ * Opaque keyset cursor for paging through ranked coaches.
+ *
+ * Holds the overall score and coach ID of the last coach on a page; the next
+ * page starts with the first coach ranked strictly after it in
+ * {@link CoachSortingService#RANKING_ORDER}.
+ *
+ * @param score   Overall score of the last coach on the previous page
+ * @param coachId ID of the last coach on the previous page
+ */
+public record CoachRankCursor(double score, int coachId) {
+
+    private static final int ENCODED_BYTES = Long.BYTES + Integer.BYTES;
+
+    /**
+     * Builds the cursor that follows the given score.
+     */
+    public static CoachRankCursor after(CoachScore score) {
+        return new CoachRankCursor(score.overall(), score.coachId());
+    }
+
+    /**
+     * Whether a score ranks strictly after this cursor (lower score, or the
+     * same score with a higher coach ID).
+     */
+    public boolean precedes(CoachScore other) {
+        int byScore = Double.compare(score, other.overall());
+        return byScore != 0 ? byScore > 0 : other.coachId() > coachId;
+    }
+
+    /**
+     * Encodes the cursor as a URL-safe string for the client to send back.
+     */
+    public String encode() {
+        ByteBuffer buffer = ByteBuffer.allocate(ENCODED_BYTES);
+        buffer.putLong(Double.doubleToLongBits(score));
+        buffer.putInt(coachId);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(buffer.array());
+    }
+
+    /**
+     * Decodes a cursor previously returned by {@link #encode()}.
+     *
+     * @param cursor The encoded cursor
+     * @return CoachRankCursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static CoachRankCursor decode(String cursor) {
+        byte[] bytes = Base64.getUrlDecoder().decode(cursor);
+        if (bytes.length != ENCODED_BYTES) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        double score = Double.longBitsToDouble(buffer.getLong());
+        if (Double.isNaN(score)) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+        return new CoachRankCursor(score, buffer.getInt());
+    }
+}
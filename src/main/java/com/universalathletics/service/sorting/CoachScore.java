@@ -0,0 +1,24 @@
+package com.universalathletics.service.sorting;
+
+/**
+ * Immutable compatibility score for a single coach, computed once per sort
+ * request by {@link CoachSortingService}.
+ *
+ * Carries the individual components alongside the weighted total so the
+ * client can see why a coach was ranked where it was.
+ *
+ * @param coachId       The ID of the scored coach
+ * @param distanceKm    Distance between the user and the coach in kilometers
+ * @param skillMatches  Number of requested skills the coach offers
+ * @param distanceScore Distance component on a 0-1 scale (1 is closest)
+ * @param skillScore    Skill component on a 0-1 scale
+ * @param overall       Weighted compatibility score (higher is better)
+ */
+public record CoachScore(
+    int coachId,
+    double distanceKm,
+    int skillMatches,
+    double distanceScore,
+    double skillScore,
+    double overall) {
+}
@@ -0,0 +1,231 @@
+package com.universalathletics.service.sorting;
+
+//------------------------------- imports ------------------------------------//
+import com.universalathletics.modules.jct.coachSkill.SkillLevel;
+import org.springframework.stereotype.Component;
+
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+//------------------------- Coach Skill Index Class ---------------------------//
+/**
+ * In-memory bitmap index over the Coach_Skill table.
+ *
+ * For every (skill, minimum SkillLevel) pair it keeps a bitmap of coach IDs
+ * that have the skill at that level or higher, so multi-skill filters are
+ * bitmap ANDs. Each coach also has a bitmap of skill IDs, so counting how
+ * many requested skills a coach offers is a single popcount.
+ *
+ * CoachService loads the index at startup and keeps it in sync whenever a
+ * coach's skills change. It also rebuilds it every
+ * {@code coaches.skill-index.refresh-ms}, since skill changes made through
+ * another instance only reach this one that way.
+ */
+@Component
+public class CoachSkillIndex {
+
+  private static final SkillLevel[] LEVELS = SkillLevel.values();
+
+  /** skillId -> bitmaps of coach IDs, indexed by minimum level ordinal */
+  private final Map<Integer, BitSet[]> coachesBySkill = new HashMap<>();
+
+  /** coachId -> skillId -> level, the source of truth for rebuilding bitmaps */
+  private final Map<Integer, Map<Integer, SkillLevel>> skillsByCoach = new HashMap<>();
+
+  /** coachId -> bitmap of skill IDs */
+  private final Map<Integer, BitSet> skillBitsByCoach = new HashMap<>();
+
+  private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+  // ----------------------------- Maintenance -----------------------------//
+  /**
+   * Replaces the whole index contents.
+   *
+   * @param coachSkills Map of coach ID to that coach's skill levels
+   */
+  public void rebuild(Map<Integer, Map<Integer, SkillLevel>> coachSkills) {
+    lock.writeLock().lock();
+    try {
+      coachesBySkill.clear();
+      skillsByCoach.clear();
+      skillBitsByCoach.clear();
+      coachSkills.forEach(this::addCoach);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Replaces all skills for a coach.
+   *
+   * @param coachId The ID of the coach
+   * @param skills  Map of skill ID to skill level
+   */
+  public void setCoachSkills(int coachId, Map<Integer, SkillLevel> skills) {
+    lock.writeLock().lock();
+    try {
+      removeCoachInternal(coachId);
+      addCoach(coachId, skills);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Sets a single skill level for a coach.
+   *
+   * @param coachId    The ID of the coach
+   * @param skillId    The ID of the skill
+   * @param skillLevel The new skill level
+   */
+  public void setSkillLevel(int coachId, int skillId, SkillLevel skillLevel) {
+    lock.writeLock().lock();
+    try {
+      Map<Integer, SkillLevel> skills = new HashMap<>(skillsByCoach.getOrDefault(coachId, Map.of()));
+      skills.put(skillId, skillLevel);
+      removeCoachInternal(coachId);
+      addCoach(coachId, skills);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  /**
+   * Removes every skill for a coach.
+   *
+   * @param coachId The ID of the coach
+   */
+  public void removeCoach(int coachId) {
+    lock.writeLock().lock();
+    try {
+      removeCoachInternal(coachId);
+    } finally {
+      lock.writeLock().unlock();
+    }
+  }
+
+  // ------------------------------- Queries -------------------------------//
+  /**
+   * Finds coaches that have a skill at or above a minimum level.
+   *
+   * @param skillId       The ID of the skill
+   * @param minSkillLevel The minimum skill level required
+   * @return BitSet of coach IDs (a copy the caller may modify)
+   */
+  public BitSet coachesWithSkill(int skillId, SkillLevel minSkillLevel) {
+    lock.readLock().lock();
+    try {
+      BitSet[] byLevel = coachesBySkill.get(skillId);
+      return byLevel != null ? (BitSet) byLevel[minSkillLevel.ordinal()].clone() : new BitSet();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Finds coaches that meet every (skill, minimum level) requirement.
+   *
+   * @param skillIds       List of skill IDs
+   * @param minSkillLevels List of minimum skill levels (corresponding to skillIds)
+   * @return BitSet of coach IDs (a copy the caller may modify)
+   */
+  public BitSet coachesWithAllSkills(List<Integer> skillIds, List<SkillLevel> minSkillLevels) {
+    lock.readLock().lock();
+    try {
+      BitSet result = null;
+      for (int i = 0; i < skillIds.size(); i++) {
+        BitSet[] byLevel = coachesBySkill.get(skillIds.get(i));
+        if (byLevel == null) {
+          return new BitSet();
+        }
+        BitSet coaches = byLevel[minSkillLevels.get(i).ordinal()];
+        if (result == null) {
+          result = (BitSet) coaches.clone();
+        } else {
+          result.and(coaches);
+        }
+        if (result.isEmpty()) {
+          break;
+        }
+      }
+      return result != null ? result : new BitSet();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  /**
+   * Counts how many of the requested skills a coach has, at any level.
+   *
+   * @param coachId         The ID of the coach
+   * @param requestedSkills BitSet of requested skill IDs
+   * @return The number of matching skills
+   */
+  public int matchCount(int coachId, BitSet requestedSkills) {
+    lock.readLock().lock();
+    try {
+      BitSet coachSkills = skillBitsByCoach.get(coachId);
+      if (coachSkills == null || requestedSkills.isEmpty()) {
+        return 0;
+      }
+      BitSet matches = (BitSet) coachSkills.clone();
+      matches.and(requestedSkills);
+      return matches.cardinality();
+    } finally {
+      lock.readLock().unlock();
+    }
+  }
+
+  // ------------------------------- Helpers -------------------------------//
+  private void addCoach(int coachId, Map<Integer, SkillLevel> skills) {
+    if (skills == null || skills.isEmpty()) {
+      return;
+    }
+    BitSet skillBits = new BitSet();
+    for (Map.Entry<Integer, SkillLevel> entry : skills.entrySet()) {
+      int skillId = entry.getKey();
+      SkillLevel level = entry.getValue() != null ? entry.getValue() : SkillLevel.BEGINNER;
+      skillBits.set(skillId);
+
+      BitSet[] byLevel = coachesBySkill.computeIfAbsent(skillId, id -> newLevelBitmaps());
+      // A coach at a given level also satisfies every lower minimum level
+      for (int ordinal = 0; ordinal <= level.ordinal(); ordinal++) {
+        byLevel[ordinal].set(coachId);
+      }
+    }
+    skillsByCoach.put(coachId, new HashMap<>(skills));
+    skillBitsByCoach.put(coachId, skillBits);
+  }
+
+  private void removeCoachInternal(int coachId) {
+    Map<Integer, SkillLevel> previous = skillsByCoach.remove(coachId);
+    skillBitsByCoach.remove(coachId);
+    if (previous == null) {
+      return;
+    }
+    for (Integer skillId : previous.keySet()) {
+      BitSet[] byLevel = coachesBySkill.get(skillId);
+      if (byLevel == null) {
+        continue;
+      }
+      for (BitSet coaches : byLevel) {
+        coaches.clear(coachId);
+      }
+      if (byLevel[0].isEmpty()) {
+        coachesBySkill.remove(skillId);
+      }
+    }
+  }
+
+  private static BitSet[] newLevelBitmaps() {
+    BitSet[] byLevel = new BitSet[LEVELS.length];
+    for (int i = 0; i < byLevel.length; i++) {
+      byLevel[i] = new BitSet();
+    }
+    return byLevel;
+  }
+}
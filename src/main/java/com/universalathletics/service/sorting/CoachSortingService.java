@@ -1,69 +1,149 @@
 package com.universalathletics.service.sorting;
 
 import com.universalathletics.modules.coach.entity.CoachEntity;
-import com.universalathletics.service.geocoding.GeocodingService;
+import com.universalathletics.service.geocoding.model.GeoPoint;
 import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.service.SkillCatalog;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.Function;
 
 @Service
 public class CoachSortingService {
 
+    // Constants for weighting factors
+    private static final double DISTANCE_WEIGHT = 0.7;  // 70% weight for distance
+    private static final double SKILLS_WEIGHT = 0.3;    // 30% weight for skills
+    private static final double MAX_RELEVANT_DISTANCE = 300.0;  // km - distances beyond this are all equally bad
+    private static final double MAX_RELEVANT_SKILL_MATCHES = 5.0;
+
+    /**
+     * Largest page a single topCoaches call will rank.
+     */
+    public static final int MAX_PAGE_SIZE = 200;
+
+    /**
+     * Orders coaches by overall score (highest first), breaking ties by coach ID
+     * so the order is stable between requests.
+     */
+    public static final Comparator<CoachScore> RANKING_ORDER = (a, b) -> {
+        int byScore = Double.compare(b.overall(), a.overall());
+        return byScore != 0 ? byScore : Integer.compare(a.coachId(), b.coachId());
+    };
+
     @Autowired
-    private GeocodingService geocodingService;
+    private CoachSkillIndex coachSkillIndex;
+
+    @Autowired
+    private SkillCatalog skillCatalog;
 
-    
     /**
-     * Calculate how well a coach's skills match the requested skills
-     * 
-     * @param coach The coach to evaluate
+     * Collect the IDs of the requested skills into a bitmap so each coach's
+     * match count is a single popcount against the skill index
+     *
      * @param requestedSkills The skills requested by the user
-     * @return A score representing how well the coach's skills match the request
+     * @return BitSet of requested skill IDs (empty if none were requested)
+     * @throws IllegalArgumentException if a skill does not exist
      */
-    public int calculateSkillMatchScore(CoachEntity coach, List<SkillEntity> requestedSkills) {
-        if (requestedSkills == null || requestedSkills.isEmpty() || coach.getSkills() == null) {
-            return 0;
+    public BitSet toSkillBits(List<SkillEntity> requestedSkills) {
+        BitSet skillBits = new BitSet();
+        if (requestedSkills != null) {
+            for (SkillEntity skill : requestedSkills) {
+                setSkillBit(skillBits, skill.getSkill_id());
+            }
         }
-        
-        int matchCount = 0;
-        for (SkillEntity requestedSkill : requestedSkills) {
-            for (SkillEntity coachSkill : coach.getSkills()) {
-                if (coachSkill.getSkill_id() == requestedSkill.getSkill_id()) {
-                    matchCount++;
-                    break;
+        return skillBits;
+    }
+
+    /**
+     * Collect requested skill IDs into a bitmap
+     *
+     * @param requestedSkillIds The IDs of the skills requested by the user
+     * @return BitSet of requested skill IDs (empty if none were requested)
+     * @throws IllegalArgumentException if a skill ID is null or unknown
+     */
+    public BitSet toSkillBits(Collection<Integer> requestedSkillIds) {
+        BitSet skillBits = new BitSet();
+        if (requestedSkillIds != null) {
+            for (Integer skillId : requestedSkillIds) {
+                if (skillId == null) {
+                    throw new IllegalArgumentException("Skill ID cannot be null");
                 }
+                setSkillBit(skillBits, skillId);
             }
         }
-        
-        return matchCount;
+        return skillBits;
     }
-    
+
     /**
-     * Calculate overall compatibility score between a user and a coach
+     * Only IDs in the skill catalog are set, so user input can neither index
+     * a negative bit nor grow the bitmap past the real skill IDs
+     */
+    private void setSkillBit(BitSet skillBits, int skillId) {
+        if (skillId <= 0 || skillCatalog.find(skillId).isEmpty()) {
+            throw new IllegalArgumentException("Unknown skill ID: " + skillId);
+        }
+        skillBits.set(skillId);
+    }
+
+    /**
+     * Calculate how well a coach's skills match the requested skills
+     *
+     * @param coach The coach to evaluate
+     * @param requestedSkills BitSet of the skill IDs requested by the user
+     * @return A score representing how well the coach's skills match the request
+     */
+    public int calculateSkillMatchScore(CoachEntity coach, BitSet requestedSkills) {
+        if (coach.getId() == null) {
+            return 0;
+        }
+        return coachSkillIndex.matchCount(coach.getId(), requestedSkills);
+    }
+
+    /**
+     * Calculate the compatibility score between a user and a coach
      * Distance is weighted more heavily than skill matches
-     * 
+     *
      * @param coach The coach to evaluate
-     * @param requestedSkills The skills requested by the user
-     * @param userLatitude User's latitude
-     * @param userLongitude User's longitude
-     * @return A score representing overall compatibility (higher is better)
+     * @param requestedSkills BitSet of the skill IDs requested by the user
+     * @param userLocation User's coordinates
+     * @return CoachScore holding the distance, skill and overall components
      */
-    public double calculateCompatibilityScore(CoachEntity coach, List<SkillEntity> requestedSkills, 
-        double userLatitude, double userLongitude) {
-        // Constants for weighting factors
-        final double DISTANCE_WEIGHT = 0.7;  // 70% weight for distance
-        final double SKILLS_WEIGHT = 0.3;    // 30% weight for skills
-        final double MAX_RELEVANT_DISTANCE = 300.0;  // km - distances beyond this are all equally bad
+    public CoachScore scoreCoach(CoachEntity coach, BitSet requestedSkills, GeoPoint userLocation) {
+        int coachId = coach.getId() != null ? coach.getId() : 0;
+        int matchCount = calculateSkillMatchScore(coach, requestedSkills);
+        return scoreCoach(coachId, coach.getCoordinates(), matchCount, userLocation);
+    }
 
+    /**
+     * Calculate the compatibility score for a coach that has not been loaded,
+     * from its coordinates and the skill index
+     *
+     * @param coachId The ID of the coach to evaluate
+     * @param coordinates The coach's coordinates, or null if unknown
+     * @param requestedSkills BitSet of the skill IDs requested by the user
+     * @param userLocation User's coordinates
+     * @return CoachScore holding the distance, skill and overall components
+     */
+    public CoachScore scoreCoach(int coachId, GeoPoint coordinates, BitSet requestedSkills, GeoPoint userLocation) {
+        return scoreCoach(coachId, coordinates, coachSkillIndex.matchCount(coachId, requestedSkills), userLocation);
+    }
+
+    private CoachScore scoreCoach(int coachId, GeoPoint coordinates, int matchCount, GeoPoint userLocation) {
         // Calculate distance score (inverse - closer is better)
-        double distance = 0.0;
-        if (coach.getLocation() != null && !coach.getLocation().isEmpty()) {
-            double coachLatitude = geocodingService.parseLatitude(coach.getLocation());
-            double coachLongitude = geocodingService.parseLongitude(coach.getLocation());
-            distance = geocodingService.calculateDistance(userLatitude, userLongitude, coachLatitude, coachLongitude);
+        double distance;
+        if (coordinates != null) {
+            distance = userLocation.distanceKm(coordinates);
         } else {
             // No location data - assign maximum distance
             distance = MAX_RELEVANT_DISTANCE;
@@ -73,40 +153,143 @@ public class CoachSortingService {
         // Using an inverse relationship with a cap
         double distanceScore = Math.max(0, 1 - (distance / MAX_RELEVANT_DISTANCE));
 
-        // Calculate skill match score
-        int matchCount = calculateSkillMatchScore(coach, requestedSkills);
-
         // Convert skill matches to a 0-1 score
-        double skillScore = Math.min(1.0, matchCount / 5.0);
+        double skillScore = Math.min(1.0, matchCount / MAX_RELEVANT_SKILL_MATCHES);
 
-        // Calculate weighted score
         double overallScore = (distanceScore * DISTANCE_WEIGHT) + (skillScore * SKILLS_WEIGHT);
 
-        // For debugging
-        System.out.println(String.format("Coach %s: distance=%.2fkm (score=%.2f), skills=%d (score=%.2f), overall=%.2f", 
-        coach.getLastName(), distance, distanceScore, matchCount, skillScore, overallScore));
+        return new CoachScore(coachId, distance, matchCount, distanceScore, skillScore, overallScore);
+    }
 
-        return overallScore;
+    /**
+     * Parse the user's location once per request. An unparseable location
+     * falls back to (0, 0) as the string parser always has.
+     *
+     * @param location User's location string
+     * @return GeoPoint for the user
+     */
+    public GeoPoint toUserLocation(String location) {
+        GeoPoint userLocation = GeoPoint.parse(location);
+        return userLocation != null ? userLocation : new GeoPoint(0.0, 0.0);
     }
-    
+
     /**
-     * Sort coaches based on skills and location relative to the user
+     * Sort coaches based on skills and location relative to the user.
+     * Every coach is scored exactly once; the resulting CoachScore is attached
+     * to the coach so the breakdown is returned with the response.
+     *
      * @param skills
      * @param location
      * @return List<CoachEntity> the sorted list of coaches that are the best fit for the user
      */
     public List<CoachEntity> sortCoaches(List<CoachEntity> coaches, List<SkillEntity> skills, String location) {
-        double latitude = geocodingService.parseLatitude(location);
-        double longitude = geocodingService.parseLongitude(location);
-    
-        coaches.sort((coach1, coach2) -> {
-            double score1 = calculateCompatibilityScore(coach1, skills, latitude, longitude);
-            double score2 = calculateCompatibilityScore(coach2, skills, latitude, longitude);
-            // Sort in descending order (highest score first)
-            return Double.compare(score2, score1);
-        });
+        GeoPoint userLocation = toUserLocation(location);
+        BitSet requestedSkills = toSkillBits(skills);
+
+        for (CoachEntity coach : coaches) {
+            coach.setScore(scoreCoach(coach, requestedSkills, userLocation));
+        }
+
+        // Comparator only reads precomputed scores - no scoring work per comparison
+        coaches.sort((coach1, coach2) -> RANKING_ORDER.compare(coach1.getScore(), coach2.getScore()));
 
         return coaches;
 
     }
+
+    /**
+     * One page of ranked coaches and the cursor for the page after it.
+     *
+     * @param coaches    Coaches on this page, best first
+     * @param nextCursor Cursor for the next page, or null if this is the last page
+     */
+    public record RankedPage(List<CoachEntity> coaches, CoachRankCursor nextCursor) {
+    }
+
+    /**
+     * Returns the best {@code limit} coaches ranked after {@code cursor}.
+     * Scores every coach once but only keeps the current top K in a bounded
+     * heap, so the work is O(n log k) instead of a full sort.
+     *
+     * @param coaches The coaches to rank
+     * @param skills The skills requested by the user
+     * @param location The user's location string
+     * @param limit Maximum number of coaches to return (1 to MAX_PAGE_SIZE)
+     * @param cursor Position after which to start, or null for the first page
+     * @return RankedPage with the coaches on this page and the next cursor
+     * @throws IllegalArgumentException if limit is out of range
+     */
+    public RankedPage topCoaches(List<CoachEntity> coaches, List<SkillEntity> skills, String location,
+        int limit, CoachRankCursor cursor) {
+        Map<Integer, CoachEntity> coachesById = new HashMap<>();
+        Map<Integer, GeoPoint> coachLocations = new HashMap<>();
+        for (CoachEntity coach : coaches) {
+            int coachId = coach.getId() != null ? coach.getId() : 0;
+            coachesById.put(coachId, coach);
+            coachLocations.put(coachId, coach.getCoordinates());
+        }
+        return topCoaches(coachLocations, skills, location, limit, cursor,
+            ids -> ids.stream().map(coachesById::get).toList());
+    }
+
+    /**
+     * Returns the best {@code limit} coaches ranked after {@code cursor},
+     * scoring from coordinates and the skill index alone. Only the coaches on
+     * the page are loaded, through {@code loadCoaches}.
+     *
+     * @param coachLocations Every coach's coordinates by ID, null if unknown
+     * @param skills The skills requested by the user
+     * @param location The user's location string
+     * @param limit Maximum number of coaches to return (1 to MAX_PAGE_SIZE)
+     * @param cursor Position after which to start, or null for the first page
+     * @param loadCoaches Loads coaches by ID in the given order, skipping missing ones
+     * @return RankedPage with the coaches on this page and the next cursor
+     * @throws IllegalArgumentException if limit is out of range
+     */
+    public RankedPage topCoaches(Map<Integer, GeoPoint> coachLocations, List<SkillEntity> skills, String location,
+        int limit, CoachRankCursor cursor, Function<List<Integer>, List<CoachEntity>> loadCoaches) {
+        if (limit <= 0 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        GeoPoint userLocation = toUserLocation(location);
+        BitSet requestedSkills = toSkillBits(skills);
+
+        // Worst-ranked candidate sits at the head so it can be evicted in O(log k)
+        PriorityQueue<CoachScore> heap = new PriorityQueue<>(Math.min(limit, coachLocations.size()) + 1,
+            RANKING_ORDER.reversed());
+        int remaining = 0;
+
+        for (Map.Entry<Integer, GeoPoint> coach : coachLocations.entrySet()) {
+            CoachScore score = scoreCoach(coach.getKey(), coach.getValue(), requestedSkills, userLocation);
+            if (cursor != null && !cursor.precedes(score)) {
+                continue;
+            }
+            remaining++;
+            if (heap.size() < limit) {
+                heap.add(score);
+            } else if (RANKING_ORDER.compare(score, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(score);
+            }
+        }
+
+        List<CoachScore> scores = new ArrayList<>(heap);
+        scores.sort(RANKING_ORDER);
+        Map<Integer, CoachScore> scoresById = new HashMap<>();
+        scores.forEach(score -> scoresById.put(score.coachId(), score));
+
+        List<CoachEntity> page = new ArrayList<>();
+        for (CoachEntity coach : loadCoaches.apply(scores.stream().map(CoachScore::coachId).toList())) {
+            if (coach != null) {
+                coach.setScore(scoresById.get(coach.getId() != null ? coach.getId() : 0));
+                page.add(coach);
+            }
+        }
+
+        // The cursor follows the ranking, so a coach deleted since it was scored is simply skipped
+        CoachRankCursor nextCursor = remaining > limit
+            ? CoachRankCursor.after(scores.get(scores.size() - 1))
+            : null;
+        return new RankedPage(page, nextCursor);
+    }
 }
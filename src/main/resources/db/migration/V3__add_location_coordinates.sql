@@ -0,0 +1,39 @@
+-- Migration to store coach and member coordinates as numeric columns
+-- Location strings are "Latitude: X, Longitude: Y" (or a plain "lat,lng" pair);
+-- new writes keep Latitude/Longitude in sync from the application.
+ALTER TABLE Coach
+    ADD COLUMN Latitude DOUBLE NULL,
+    ADD COLUMN Longitude DOUBLE NULL;
+
+ALTER TABLE Member_Info
+    ADD COLUMN Latitude DOUBLE NULL,
+    ADD COLUMN Longitude DOUBLE NULL;
+
+-- Backfill "Latitude: X, Longitude: Y" rows
+UPDATE Coach SET
+    Latitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(Location, 'Latitude:', -1), ',', 1)) AS DECIMAL(12, 8)), 5),
+    Longitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(Location, 'Longitude:', -1)) AS DECIMAL(12, 8)), 5)
+WHERE Location REGEXP '^ *Latitude: *-?[0-9]+(\\.[0-9]+)? *, *Longitude: *-?[0-9]+(\\.[0-9]+)? *$';
+
+UPDATE Member_Info SET
+    Latitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(SUBSTRING_INDEX(Location, 'Latitude:', -1), ',', 1)) AS DECIMAL(12, 8)), 5),
+    Longitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(Location, 'Longitude:', -1)) AS DECIMAL(12, 8)), 5)
+WHERE Location REGEXP '^ *Latitude: *-?[0-9]+(\\.[0-9]+)? *, *Longitude: *-?[0-9]+(\\.[0-9]+)? *$';
+
+-- Backfill plain "lat,lng" rows
+UPDATE Coach SET
+    Latitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(Location, ',', 1)) AS DECIMAL(12, 8)), 5),
+    Longitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(Location, ',', -1)) AS DECIMAL(12, 8)), 5)
+WHERE Location REGEXP '^ *-?[0-9]+(\\.[0-9]+)? *, *-?[0-9]+(\\.[0-9]+)? *$';
+
+UPDATE Member_Info SET
+    Latitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(Location, ',', 1)) AS DECIMAL(12, 8)), 5),
+    Longitude = ROUND(CAST(TRIM(SUBSTRING_INDEX(Location, ',', -1)) AS DECIMAL(12, 8)), 5)
+WHERE Location REGEXP '^ *-?[0-9]+(\\.[0-9]+)? *, *-?[0-9]+(\\.[0-9]+)? *$';
+
+-- Discard anything outside the valid coordinate ranges
+UPDATE Coach SET Latitude = NULL, Longitude = NULL
+WHERE Latitude NOT BETWEEN -90 AND 90 OR Longitude NOT BETWEEN -180 AND 180;
+
+UPDATE Member_Info SET Latitude = NULL, Longitude = NULL
+WHERE Latitude NOT BETWEEN -90 AND 90 OR Longitude NOT BETWEEN -180 AND 180;
@@ -0,0 +1,8 @@
+-- Migration to store the reverse-geocoded "City, State" for coach and member locations
+-- New writes fill Display_Location from the application; existing rows are
+-- backfilled by DisplayLocationBackfillJob.
+ALTER TABLE Coach
+    ADD COLUMN Display_Location VARCHAR(255) NULL;
+
+ALTER TABLE Member_Info
+    ADD COLUMN Display_Location VARCHAR(255) NULL;
@@ -0,0 +1,12 @@
+-- Migration to index the Session lookups used by SessionRepository
+-- Schedules are read per coach or member in date/time order, so each
+-- index leads with the user column and ends with the schedule columns.
+-- InnoDB appends Session_ID to every secondary index, which makes
+-- (Session_Date, Session_Time, Session_ID) keyset scans index-only seeks.
+CREATE INDEX idx_session_coach_schedule ON Session (Coach_ID, Session_Date, Session_Time);
+
+CREATE INDEX idx_session_member_schedule ON Session (Member_ID, Session_Date, Session_Time);
+
+CREATE INDEX idx_session_coach_member ON Session (Coach_ID, Member_ID, Session_Date);
+
+CREATE INDEX idx_session_request ON Session (Request_ID);
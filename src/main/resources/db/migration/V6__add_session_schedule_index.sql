@@ -0,0 +1,4 @@
+-- Migration to index the all-sessions calendar query
+-- Supports keyset pages over (Session_Date, Session_Time, Session_ID) with no
+-- user filter; Session_ID is appended implicitly by InnoDB.
+CREATE INDEX idx_session_schedule ON Session (Session_Date, Session_Time);
@@ -0,0 +1,35 @@
+-- Migration to add a canonical pair key to connection requests
+-- Pair_Key identifies the two users regardless of who sent the request, e.g.
+-- 'C3:M8' for coach 3 and member 8. Pending_Pair_Key holds the same value only
+-- while the request is PENDING; its unique index allows one pending request per
+-- pair. MySQL has no partial indexes, but unique indexes ignore NULLs.
+
+-- The old key included Status, which blocked a pair from ever having two
+-- declined or cancelled requests
+ALTER TABLE Connection_Request DROP INDEX unique_request;
+
+ALTER TABLE Connection_Request
+    ADD COLUMN Pair_Key VARCHAR(32) NULL,
+    ADD COLUMN Pending_Pair_Key VARCHAR(32) NULL;
+
+UPDATE Connection_Request
+SET Pair_Key = IF(CONCAT(LEFT(Sender_Type, 1), Sender_ID) <= CONCAT(LEFT(Receiver_Type, 1), Receiver_ID),
+                  CONCAT(LEFT(Sender_Type, 1), Sender_ID, ':', LEFT(Receiver_Type, 1), Receiver_ID),
+                  CONCAT(LEFT(Receiver_Type, 1), Receiver_ID, ':', LEFT(Sender_Type, 1), Sender_ID));
+
+-- Keep the oldest pending request per pair and cancel any later duplicates
+UPDATE Connection_Request c
+JOIN (SELECT Pair_Key, MIN(Request_ID) AS Keep_ID
+      FROM Connection_Request
+      WHERE Status = 'PENDING'
+      GROUP BY Pair_Key) k ON c.Request_ID = k.Keep_ID
+SET c.Pending_Pair_Key = c.Pair_Key;
+
+UPDATE Connection_Request
+SET Status = 'CANCELLED'
+WHERE Status = 'PENDING' AND Pending_Pair_Key IS NULL;
+
+ALTER TABLE Connection_Request
+    MODIFY COLUMN Pair_Key VARCHAR(32) NOT NULL,
+    ADD UNIQUE INDEX uq_connection_pending_pair (Pending_Pair_Key),
+    ADD INDEX idx_connection_pair (Pair_Key);
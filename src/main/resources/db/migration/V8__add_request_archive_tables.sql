@@ -0,0 +1,62 @@
+-- Migration to add archive tables for resolved requests
+-- RequestArchiveJob moves ACCEPTED, REJECTED and CANCELLED requests older than
+-- requests.archive.min-age-days out of Connection_Request and Session_Request,
+-- keeping their Request_ID. The history endpoints read both tables, so
+-- nothing disappears from the app; the hot tables keep only recent rows.
+
+CREATE TABLE IF NOT EXISTS Connection_Request_Archive (
+    Request_ID INT(11) NOT NULL,
+    Sender_Type ENUM('COACH', 'MEMBER') NOT NULL,
+    Sender_ID INT(11) NOT NULL,
+    Sender_Firebase_ID VARCHAR(255),
+    Receiver_Type ENUM('COACH', 'MEMBER') NOT NULL,
+    Receiver_ID INT(11) NOT NULL,
+    Receiver_Firebase_ID VARCHAR(255),
+    Sender_First_Name VARCHAR(255),
+    Sender_Last_Name VARCHAR(255),
+    Sender_Profile_Pic LONGTEXT,
+    Receiver_First_Name VARCHAR(255),
+    Receiver_Last_Name VARCHAR(255),
+    Receiver_Profile_Pic LONGTEXT,
+    Status ENUM('PENDING', 'ACCEPTED', 'REJECTED', 'CANCELLED') NOT NULL,
+    Message TEXT,
+    Created_At TIMESTAMP NOT NULL,
+    Updated_At TIMESTAMP NOT NULL,
+    Pair_Key VARCHAR(32),
+    Archived_At TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (Request_ID),
+    INDEX idx_cr_archive_sender (Sender_Type, Sender_ID, Updated_At),
+    INDEX idx_cr_archive_receiver (Receiver_Type, Receiver_ID, Updated_At)
+);
+
+CREATE TABLE IF NOT EXISTS Session_Request_Archive (
+    Request_ID INT(11) NOT NULL,
+    Sender_Type ENUM('COACH', 'MEMBER') NOT NULL,
+    Sender_ID INT(11) NOT NULL,
+    Sender_Firebase_ID VARCHAR(255),
+    Receiver_Type ENUM('COACH', 'MEMBER') NOT NULL,
+    Receiver_ID INT(11) NOT NULL,
+    Receiver_Firebase_ID VARCHAR(255),
+    Sender_First_Name VARCHAR(255),
+    Sender_Last_Name VARCHAR(255),
+    Sender_Profile_Pic LONGTEXT,
+    Receiver_First_Name VARCHAR(255),
+    Receiver_Last_Name VARCHAR(255),
+    Receiver_Profile_Pic LONGTEXT,
+    Status ENUM('PENDING', 'ACCEPTED', 'REJECTED', 'CANCELLED') NOT NULL,
+    Message TEXT,
+    Session_Date_1 DATE NOT NULL,
+    Session_Date_2 DATE NOT NULL,
+    Session_Date_3 DATE NOT NULL,
+    Session_Time_1 TIME NOT NULL,
+    Session_Time_2 TIME NOT NULL,
+    Session_Time_3 TIME NOT NULL,
+    Session_Location VARCHAR(500) NOT NULL,
+    Session_Description TEXT NOT NULL,
+    Created_At TIMESTAMP NOT NULL,
+    Updated_At TIMESTAMP NOT NULL,
+    Archived_At TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (Request_ID),
+    INDEX idx_sr_archive_sender (Sender_Type, Sender_ID, Updated_At),
+    INDEX idx_sr_archive_receiver (Receiver_Type, Receiver_ID, Updated_At)
+);
@@ -0,0 +1,48 @@
+package com.universalathletics.cloudStorage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
+
+/**
+ * Covers the service when storage is not configured, as in local development.
+ */
+public class GoogleCloudStorageServiceTest {
+
+    private final GoogleCloudStorageService storageService = new GoogleCloudStorageService();
+
+    private static ProfileCardDTO card(String profilePic) {
+        ProfileCardDTO card = new ProfileCardDTO();
+        card.setProfilePic(profilePic);
+        return card;
+    }
+
+    @Test
+    public void signAll_returnsEmptyMapWhenNothingToSign() {
+        assertTrue(storageService.signAll(List.of()).isEmpty());
+        assertTrue(storageService.signAll(Arrays.asList(null, "", "  ")).isEmpty());
+    }
+
+    @Test
+    public void signAll_failsWhenKeysNeedSigning() {
+        assertThrows(IllegalStateException.class, () -> storageService.signAll(List.of("profiles/a.jpg")));
+    }
+
+    @Test
+    public void signInPlace_keepsStoredReferencesWhenSigningFails() {
+        List<ProfileCardDTO> cards = List.of(card("profiles/a.jpg"), card(null));
+
+        storageService.signInPlace(cards, ProfileCardDTO::getProfilePic, ProfileCardDTO::setProfilePic);
+
+        assertEquals("profiles/a.jpg", cards.get(0).getProfilePic());
+        assertNull(cards.get(1).getProfilePic());
+    }
+}
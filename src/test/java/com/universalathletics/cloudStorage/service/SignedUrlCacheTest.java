@@ -0,0 +1,55 @@
+package com.universalathletics.cloudStorage.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.Test;
+
+public class SignedUrlCacheTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+
+    private final AtomicLong now = new AtomicLong(0);
+
+    @Test
+    public void get_reusesSignatureUntilSafetyMargin() {
+        SignedUrlCache cache = new SignedUrlCache(10, HOUR, now::get);
+        cache.put("profiles/a.jpg", "signed-a", 24 * HOUR);
+
+        now.set(22 * HOUR);
+        assertEquals("signed-a", cache.get("profiles/a.jpg"));
+
+        now.set(23 * HOUR);
+        assertNull(cache.get("profiles/a.jpg"));
+
+        SignedUrlCache.Stats stats = cache.stats();
+        assertEquals(1, stats.hits());
+        assertEquals(1, stats.misses());
+        assertEquals(0, stats.size());
+    }
+
+    @Test
+    public void put_evictsOldestWhenOverCapacity() {
+        SignedUrlCache cache = new SignedUrlCache(2, HOUR, now::get);
+        cache.put("a", "signed-a", 24 * HOUR);
+        cache.put("b", "signed-b", 24 * HOUR);
+        cache.put("a", "signed-a2", 24 * HOUR);
+        cache.put("c", "signed-c", 24 * HOUR);
+
+        assertNull(cache.get("b"));
+        assertEquals("signed-a2", cache.get("a"));
+        assertEquals("signed-c", cache.get("c"));
+        assertEquals(1, cache.stats().evictions());
+    }
+
+    @Test
+    public void invalidate_dropsCachedSignature() {
+        SignedUrlCache cache = new SignedUrlCache(10, HOUR, now::get);
+        cache.put("profiles/a.jpg", "signed-a", 24 * HOUR);
+        cache.invalidate("profiles/a.jpg");
+
+        assertNull(cache.get("profiles/a.jpg"));
+    }
+}
@@ -0,0 +1,154 @@
+package com.universalathletics.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.coach.service.CoachPurgeService;
+import com.universalathletics.modules.coach.service.CoachService;
+import com.universalathletics.modules.jct.coachSkill.SkillLevel;
+import com.universalathletics.modules.jct.repository.SkillAssociationWriter;
+import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+import com.universalathletics.modules.memberInfo.service.MemberInfoService;
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.repository.SkillRepository;
+import com.universalathletics.modules.skill.service.SkillCatalog;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.geocoding.GeocodingService;
+import com.universalathletics.service.geocoding.gazetteer.OfflineReverseGeocoder;
+import com.universalathletics.service.sorting.CoachSkillIndex;
+
+/**
+ * Renders service results the way a controller does with open-in-view
+ * disabled: after the service call has returned and outside any transaction,
+ * with a plain ObjectMapper that has no Hibernate module to hide lazy
+ * properties. Any lazy load during serialization fails the test.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:fetchplandb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({CoachService.class, CoachPurgeService.class, MemberInfoService.class, CoachSpatialIndex.class,
+    CoachSkillIndex.class, GeocodingService.class, OfflineReverseGeocoder.class, SkillCatalog.class,
+    SkillAssociationWriter.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class FetchPlanIntegrationTest {
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    @Autowired
+    private CoachService coachService;
+
+    @Autowired
+    private MemberInfoService memberInfoService;
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private MemberInfoRepository memberInfoRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private SkillAssociationWriter skillAssociationWriter;
+
+    private Integer skill(String title) {
+        SkillEntity skill = new SkillEntity();
+        skill.setTitle(title);
+        return skillRepository.save(skill).getSkill_id();
+    }
+
+    private MemberInfoEntity memberWithSkill(String firebaseId) {
+        MemberInfoEntity member = new MemberInfoEntity();
+        member.setFirebaseID(firebaseId);
+        member.setFirstName("Test");
+        member.setLastName("Member");
+        member = memberInfoRepository.save(member);
+        skillAssociationWriter.syncMemberSkills(member.getId(), List.of(skill("Hitting")));
+        return member;
+    }
+
+    @Test
+    public void plainMapper_failsOnLazyLoadOutsideTransaction() {
+        memberWithSkill("fb-lazy");
+
+        // Without a fetch plan the skills are an uninitialized proxy collection
+        MemberInfoEntity member = memberInfoRepository.findByFirebaseID("fb-lazy").orElseThrow();
+
+        assertThrows(JsonMappingException.class, () -> objectMapper.writeValueAsString(member));
+    }
+
+    @Test
+    public void memberReads_fetchSkillsBeforeReturning() throws Exception {
+        memberWithSkill("fb-member");
+
+        String byFirebaseId = objectMapper.writeValueAsString(memberInfoService.findMemberByFirebaseId("fb-member"));
+        String all = objectMapper.writeValueAsString(memberInfoService.findAllMembers());
+
+        assertThat(byFirebaseId).contains("Hitting");
+        assertThat(all).contains("Hitting");
+        assertThat(byFirebaseId).doesNotContain("\"coaches\"");
+    }
+
+    @Test
+    public void updateMember_returnsStoredSkills() throws Exception {
+        memberWithSkill("fb-update");
+        Integer pitching = skill("Pitching");
+        MemberInfoEntity update = new MemberInfoEntity();
+        update.setFirebaseID("fb-update");
+        update.setFirstName("Updated");
+        SkillEntity skill = new SkillEntity();
+        skill.setSkill_id(pitching);
+        update.setSkills(List.of(skill));
+
+        String json = objectMapper.writeValueAsString(memberInfoService.updateMember(update));
+
+        assertThat(json).contains("Pitching").doesNotContain("Hitting");
+    }
+
+    @Test
+    public void coachReads_useLoadedSkillsOnly() throws Exception {
+        CoachEntity coach = new CoachEntity();
+        coach.setFirebaseID("fb-coach");
+        coach.setFirstName("Test");
+        coach = coachRepository.save(coach);
+        skillAssociationWriter.syncCoachSkills(coach.getId(), Map.of(skill("Fielding"), SkillLevel.ADVANCED));
+
+        CoachEntity update = new CoachEntity();
+        update.setFirebaseID("fb-coach");
+        update.setFirstName("Updated");
+
+        String byFirebaseId = objectMapper.writeValueAsString(coachService.findCoachByFirebaseID("fb-coach"));
+        String all = objectMapper.writeValueAsString(coachService.findAllCoaches());
+        String updated = objectMapper.writeValueAsString(coachService.updateCoach(update));
+
+        assertThat(byFirebaseId).contains("Fielding");
+        assertThat(all).contains("Fielding");
+        assertThat(updated).contains("Fielding").contains("Updated");
+    }
+}
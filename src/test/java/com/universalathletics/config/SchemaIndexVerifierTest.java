@@ -0,0 +1,48 @@
+package com.universalathletics.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:indexdb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(SchemaIndexVerifier.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SchemaIndexVerifierTest {
+
+    @Autowired
+    private SchemaIndexVerifier schemaIndexVerifier;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    public void entityMappingsDeclareEveryRequiredIndex() throws SQLException {
+        assertThat(schemaIndexVerifier.findMissingIndexes()).isEmpty();
+    }
+
+    @Test
+    public void reportsDroppedIndex() throws SQLException {
+        entityManager.createNativeQuery("DROP INDEX idx_session_request").executeUpdate();
+
+        assertThat(schemaIndexVerifier.findMissingIndexes())
+            .extracting(SchemaIndexVerifier.RequiredIndex::name)
+            .containsExactly("idx_session_request");
+    }
+}
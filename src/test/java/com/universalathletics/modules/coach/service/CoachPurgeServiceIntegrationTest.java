@@ -0,0 +1,109 @@
+package com.universalathletics.modules.coach.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.requests.connection.entity.ConnectionRequestEntity;
+import com.universalathletics.modules.requests.connection.repository.ConnectionRequestRepository;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.repository.SkillRepository;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.sorting.CoachSkillIndex;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:coachpurgedb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({CoachPurgeService.class, CoachSpatialIndex.class, CoachSkillIndex.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class CoachPurgeServiceIntegrationTest {
+
+    @Autowired
+    private CoachPurgeService coachPurgeService;
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private ConnectionRequestRepository connectionRequestRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    /**
+     * Coach_Job_Title has no entity, so the generated schema lacks it. Create
+     * it as V1 does, without the Job_Title foreign key.
+     */
+    @BeforeEach
+    public void createJobTitleTable() {
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS Coach_Job_Title ("
+                + "Coach_ID INT NOT NULL, Job_Title_ID INT NOT NULL, PRIMARY KEY (Coach_ID, Job_Title_ID))")
+            .executeUpdate();
+    }
+
+    private Integer coachWithDependents(String firebaseId, int skillId) {
+        CoachEntity coach = new CoachEntity();
+        coach.setFirebaseID(firebaseId);
+        Integer coachId = coachRepository.saveAndFlush(coach).getId();
+        entityManager.createNativeQuery("INSERT INTO Coach_Skill (Coach_ID, Skill_ID, Skill_Level) VALUES (:id, :skillId, 'BEGINNER')")
+            .setParameter("id", coachId)
+            .setParameter("skillId", skillId)
+            .executeUpdate();
+        entityManager.createNativeQuery("INSERT INTO Coach_Job_Title (Coach_ID, Job_Title_ID) VALUES (:id, 1)")
+            .setParameter("id", coachId)
+            .executeUpdate();
+        connectionRequestRepository.saveAndFlush(
+            new ConnectionRequestEntity(UserType.MEMBER, 77, UserType.COACH, coachId, null));
+        return coachId;
+    }
+
+    private long count(String sql, Integer coachId) {
+        return ((Number) entityManager.createNativeQuery(sql).setParameter("id", coachId).getSingleResult()).longValue();
+    }
+
+    @Test
+    public void purgeChunk_deletesCoachesAndDependentsOnly() {
+        SkillEntity skill = new SkillEntity();
+        skill.setTitle("Pitching");
+        int skillId = skillRepository.saveAndFlush(skill).getSkill_id();
+        Integer first = coachWithDependents("purge-1", skillId);
+        Integer second = coachWithDependents("purge-2", skillId);
+        Integer kept = coachWithDependents("purge-kept", skillId);
+
+        assertThat(coachPurgeService.findExistingCoachIds(List.of(first, second, 99999))).containsExactly(first, second);
+
+        int deleted = coachPurgeService.purgeChunk(List.of(first, second));
+        entityManager.clear();
+
+        assertThat(deleted).isEqualTo(2);
+        assertThat(coachPurgeService.findAllCoachIds()).containsExactly(kept);
+        assertThat(count("SELECT COUNT(*) FROM Coach_Skill WHERE Coach_ID = :id", first)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM Connection_Request WHERE Receiver_ID = :id", second)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM Coach_Job_Title WHERE Coach_ID = :id", first)).isZero();
+        assertThat(count("SELECT COUNT(*) FROM Coach_Skill WHERE Coach_ID = :id", kept)).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM Coach_Job_Title WHERE Coach_ID = :id", kept)).isEqualTo(1);
+        assertThat(count("SELECT COUNT(*) FROM Connection_Request WHERE Receiver_ID = :id", kept)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,97 @@
+package com.universalathletics.modules.coach.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.sorting.CoachSkillIndex;
+
+@ExtendWith(MockitoExtension.class)
+public class CoachPurgeServiceUnitTest {
+
+    private static final String REQUEST_FILTER =
+        " WHERE (Sender_Type='COACH' AND Sender_ID IN (:ids)) OR (Receiver_Type='COACH' AND Receiver_ID IN (:ids))";
+
+    @Mock
+    private CoachRepository coachRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Query query;
+
+    @Mock
+    private CoachSpatialIndex coachSpatialIndex;
+
+    @Mock
+    private CoachSkillIndex coachSkillIndex;
+
+    @InjectMocks
+    private CoachPurgeService coachPurgeService;
+
+    @BeforeEach
+    public void setUp() {
+        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
+        when(query.setParameter(anyString(), any())).thenReturn(query);
+        when(query.executeUpdate()).thenReturn(1);
+    }
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void purgeChunk_executesNativeDeletesInOrder() {
+        assertEquals(1, coachPurgeService.purgeChunk(List.of(42)));
+
+        InOrder inOrder = inOrder(entityManager);
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Member_Coach WHERE Coach_ID IN (:ids)");
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Coach_Job_Title WHERE Coach_ID IN (:ids)");
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Session WHERE Coach_ID IN (:ids)");
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Session_Request" + REQUEST_FILTER);
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Connection_Request" + REQUEST_FILTER);
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Session_Request_Archive" + REQUEST_FILTER);
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Connection_Request_Archive" + REQUEST_FILTER);
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Coach_Skill WHERE Coach_ID IN (:ids)");
+        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Coach WHERE Coach_ID IN (:ids)");
+    }
+
+    @Test
+    public void purgeChunk_dropsCoachesFromIndexesOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        coachPurgeService.purgeChunk(List.of(42));
+        verifyNoInteractions(coachSpatialIndex, coachSkillIndex);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(coachSpatialIndex).remove(42);
+        verify(coachSkillIndex).removeCoach(42);
+    }
+}
@@ -14,8 +14,18 @@ import com.universalathletics.modules.coach.entity.CoachEntity;
 import com.universalathletics.modules.coach.repository.CoachRepository;
 import com.universalathletics.modules.jct.coachSkill.repository.CoachSkillRepository;
 import com.universalathletics.modules.jct.memberCoach.repository.MemberCoachRepository;
+import com.universalathletics.modules.jct.repository.SkillAssociationWriter;
+import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
 import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
 import com.universalathletics.modules.session.repository.SessionRepository;
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.repository.SkillRepository;
+import com.universalathletics.modules.skill.service.SkillCatalog;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.geocoding.GeocodingService;
+import com.universalathletics.service.geocoding.gazetteer.OfflineReverseGeocoder;
+import com.universalathletics.service.sorting.CoachSkillIndex;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.Query;
@@ -25,9 +35,11 @@ import jakarta.persistence.Query;
     "spring.datasource.url=jdbc:h2:mem:testdb;DB_CLOSE_DELAY=-1",
     "spring.datasource.driverClassName=org.h2.Driver",
     "spring.datasource.username=sa",
-    "spring.datasource.password="
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
 })
-@Import(CoachService.class)
+@Import({CoachService.class, CoachPurgeService.class, CoachSpatialIndex.class, CoachSkillIndex.class,
+    GeocodingService.class, OfflineReverseGeocoder.class, SkillCatalog.class, SkillAssociationWriter.class})
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
 @DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
 public class CoachServiceIntegrationTest {
@@ -50,6 +62,12 @@ public class CoachServiceIntegrationTest {
     @Autowired
     private SessionRepository sessionRepository;
 
+    @Autowired
+    private MemberInfoRepository memberInfoRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
     @Autowired
     private EntityManager entityManager;
 
@@ -65,26 +83,39 @@ public class CoachServiceIntegrationTest {
         Integer id = saved.getId();
         assertThat(id).isNotNull();
 
+        // Member and skill rows the dependents' foreign keys point at
+        MemberInfoEntity member = new MemberInfoEntity();
+        member.setFirebaseID("mfb");
+        Integer memberId = memberInfoRepository.save(member).getId();
+        SkillEntity skill = new SkillEntity();
+        skill.setTitle("Pitching");
+        Integer skillId = skillRepository.save(skill).getSkill_id();
+
+        // Coach_Job_Title has no entity, so create it as V1 does, without the Job_Title foreign key
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS Coach_Job_Title ("
+                + "Coach_ID INT NOT NULL, Job_Title_ID INT NOT NULL, PRIMARY KEY (Coach_ID, Job_Title_ID))")
+            .executeUpdate();
+
         // Insert dependent rows via native queries
         // Member_Coach
-        Query q1 = entityManager.createNativeQuery("INSERT INTO Member_Coach (Member_ID, Coach_ID) VALUES (9999, :id)");
-        q1.setParameter("id", id).executeUpdate();
+        Query q1 = entityManager.createNativeQuery("INSERT INTO Member_Coach (Member_ID, Coach_ID) VALUES (:memberId, :id)");
+        q1.setParameter("memberId", memberId).setParameter("id", id).executeUpdate();
 
         // Coach_Job_Title
         Query q2 = entityManager.createNativeQuery("INSERT INTO Coach_Job_Title (Coach_ID, Job_Title_ID) VALUES (:id, 1)");
         q2.setParameter("id", id).executeUpdate();
 
         // Session
-        Query q3 = entityManager.createNativeQuery("INSERT INTO Session (Request_ID, Session_Date, Session_Time, Session_Location, Session_Description, Coach_ID, Coach_Firebase_ID, Coach_First_Name, Coach_Last_Name, Coach_Profile_Pic, Member_ID, Member_First_Name, Member_Last_Name, Member_Profile_Pic, Member_Firebase_ID, Created_At, Updated_At) VALUES (1, '2000-01-01', '00:00:00', 'loc', 'desc', :id, 'fb', 'Test', 'Coach', '', 9999, 'M', 'N', '', 'mfb', NOW(), NOW())");
-        q3.setParameter("id", id).executeUpdate();
+        Query q3 = entityManager.createNativeQuery("INSERT INTO Session (Request_ID, Session_Date, Session_Time, Session_Location, Session_Description, Coach_ID, Coach_Firebase_ID, Coach_First_Name, Coach_Last_Name, Coach_Profile_Pic, Member_ID, Member_First_Name, Member_Last_Name, Member_Profile_Pic, Member_Firebase_ID, Created_At, Updated_At) VALUES (1, '2000-01-01', '00:00:00', 'loc', 'desc', :id, 'fb', 'Test', 'Coach', '', :memberId, 'M', 'N', '', 'mfb', NOW(), NOW())");
+        q3.setParameter("id", id).setParameter("memberId", memberId).executeUpdate();
 
         // Session_Request where receiver is coach
-        Query q4 = entityManager.createNativeQuery("INSERT INTO Session_Request (Sender_Type, Sender_ID, Sender_Firebase_ID, Receiver_Type, Receiver_ID, Receiver_Firebase_ID, Sender_First_Name, Sender_Last_Name, Receiver_First_Name, Receiver_Last_Name, Status, Message, Session_Date_1, Session_Date_2, Session_Date_3, Session_Time_1, Session_Time_2, Session_Time_3, Session_Location, Session_Description, Created_At, Updated_At) VALUES ('MEMBER', 9999, 'mfb', 'COACH', :id, 'cfb', 'M', 'N', 'T', 'C', 'PENDING', 'msg', '2000-01-01','2000-01-02','2000-01-03','00:00:00','00:00:00','00:00:00','loc','desc', NOW(), NOW())");
-        q4.setParameter("id", id).executeUpdate();
+        Query q4 = entityManager.createNativeQuery("INSERT INTO Session_Request (Request_ID, Sender_Type, Sender_ID, Sender_Firebase_ID, Receiver_Type, Receiver_ID, Receiver_Firebase_ID, Sender_First_Name, Sender_Last_Name, Receiver_First_Name, Receiver_Last_Name, Status, Message, Session_Date_1, Session_Date_2, Session_Date_3, Session_Time_1, Session_Time_2, Session_Time_3, Session_Location, Session_Description, Created_At, Updated_At) VALUES (1, 'MEMBER', :memberId, 'mfb', 'COACH', :id, 'cfb', 'M', 'N', 'T', 'C', 'PENDING', 'msg', '2000-01-01','2000-01-02','2000-01-03','00:00:00','00:00:00','00:00:00','loc','desc', NOW(), NOW())");
+        q4.setParameter("id", id).setParameter("memberId", memberId).executeUpdate();
 
         // Coach_Skill
-        Query q5 = entityManager.createNativeQuery("INSERT INTO Coach_Skill (Coach_ID, Skill_ID, Skill_Level) VALUES (:id, 1, 'BEGINNER')");
-        q5.setParameter("id", id).executeUpdate();
+        Query q5 = entityManager.createNativeQuery("INSERT INTO Coach_Skill (Coach_ID, Skill_ID, Skill_Level) VALUES (:id, :skillId, 'BEGINNER')");
+        q5.setParameter("id", id).setParameter("skillId", skillId).executeUpdate();
 
         entityManager.flush();
 
@@ -1,21 +1,32 @@
 package com.universalathletics.modules.coach.service;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import jakarta.persistence.EntityManager;
-import jakarta.persistence.Query;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import com.universalathletics.modules.coach.entity.CoachEntity;
 import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.jct.coachSkill.repository.CoachSkillRepository;
+import com.universalathletics.service.geocoding.CoachSpatialIndex;
+import com.universalathletics.service.geocoding.GeocodingService;
+import com.universalathletics.service.sorting.CoachSkillIndex;
 
 @ExtendWith(MockitoExtension.class)
 public class CoachServiceUnitTest {
@@ -24,32 +35,76 @@ public class CoachServiceUnitTest {
     private CoachRepository coachRepository;
 
     @Mock
-    private EntityManager entityManager;
+    private CoachPurgeService coachPurgeService;
 
     @Mock
-    private Query query;
+    private CoachSkillRepository coachSkillRepository;
+
+    @Mock
+    private CoachSpatialIndex coachSpatialIndex;
+
+    @Mock
+    private CoachSkillIndex coachSkillIndex;
+
+    @Mock
+    private GeocodingService geocodingService;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
 
     @InjectMocks
     private CoachService coachService;
 
+    @BeforeEach
+    public void setUp() {
+        lenient().when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
     @Test
-    public void deleteCoach_executesNativeDeletesInOrder() {
+    public void deleteCoach_purgesTheCoachAsASingleChunk() {
         Integer id = 42;
 
         when(coachRepository.existsById(id)).thenReturn(true);
-        when(entityManager.createNativeQuery(anyString())).thenReturn(query);
-        when(query.setParameter(anyString(), any())).thenReturn(query);
-        when(query.executeUpdate()).thenReturn(1);
+        when(coachPurgeService.purgeChunk(List.of(id))).thenReturn(1);
 
         coachService.deleteCoach(id);
 
-        InOrder inOrder = inOrder(entityManager);
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Member_Coach WHERE Coach_ID = :id");
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Coach_Job_Title WHERE Coach_ID = :id");
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Session WHERE Coach_ID = :id");
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Session_Request WHERE (Sender_Type='COACH' AND Sender_ID = :id) OR (Receiver_Type='COACH' AND Receiver_ID = :id)");
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Connection_Request WHERE (Sender_Type='COACH' AND Sender_ID = :id) OR (Receiver_Type='COACH' AND Receiver_ID = :id)");
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Coach_Skill WHERE Coach_ID = :id");
-        inOrder.verify(entityManager).createNativeQuery("DELETE FROM Coach WHERE Coach_ID = :id");
+        verify(coachPurgeService).purgeChunk(List.of(id));
+    }
+
+    @Test
+    public void saveCoach_storesDisplayLocation() {
+        String location = "Latitude: 42.02385, Longitude: -93.64541";
+        CoachEntity coach = new CoachEntity();
+        coach.setId(7);
+        coach.setLocation(location);
+
+        when(geocodingService.resolveDisplayLocation(location)).thenReturn("Ames, Iowa");
+        when(coachRepository.save(coach)).thenReturn(coach);
+
+        assertEquals("Ames, Iowa", coachService.saveCoach(coach).getDisplayLocation());
+    }
+
+    @Test
+    public void updateCoach_skipsGeocodingWhenLocationUnchanged() {
+        String location = "Latitude: 42.02385, Longitude: -93.64541";
+        CoachEntity existing = new CoachEntity();
+        existing.setId(7);
+        existing.setFirebaseID("fb-7");
+        existing.setLocation(location);
+        existing.setDisplayLocation("Ames, Iowa");
+
+        CoachEntity update = new CoachEntity();
+        update.setFirebaseID("fb-7");
+        update.setLocation(location);
+
+        when(coachRepository.findLocationByFirebaseID("fb-7"))
+            .thenReturn(Collections.singletonList(new Object[] {location, "Ames, Iowa"}));
+        when(coachRepository.findByFirebaseID("fb-7")).thenReturn(Optional.of(existing));
+        when(coachRepository.save(existing)).thenReturn(existing);
+
+        assertEquals("Ames, Iowa", coachService.updateCoach(update).getDisplayLocation());
+        verify(geocodingService, never()).resolveDisplayLocation(anyString());
     }
 }
@@ -0,0 +1,80 @@
+package com.universalathletics.modules.jct.memberCoach.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.jct.memberCoach.entity.MemberCoachEntity;
+import com.universalathletics.modules.jct.memberCoach.model.ProfileCardDTO;
+import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:membercoachdb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class MemberCoachRepositoryTest {
+
+    @Autowired
+    private MemberCoachRepository memberCoachRepository;
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private MemberInfoRepository memberInfoRepository;
+
+    private Integer member(String firstName) {
+        MemberInfoEntity member = new MemberInfoEntity();
+        member.setFirebaseID("fb-" + firstName);
+        member.setFirstName(firstName);
+        member.setLastName("Member");
+        member.setProfilePic("members/" + firstName + ".png");
+        member.setDisplayLocation("Ames, Iowa");
+        return memberInfoRepository.saveAndFlush(member).getId();
+    }
+
+    @Test
+    public void findMemberCardsByCoachId_pagesCardFieldsInIdOrder() {
+        CoachEntity coach = new CoachEntity();
+        coach.setFirstName("Test");
+        coach.setLocation("Latitude: 42.02385, Longitude: -93.64541");
+        Integer coachId = coachRepository.saveAndFlush(coach).getId();
+        Integer first = member("Ann");
+        Integer second = member("Ben");
+        Integer third = member("Cal");
+        for (Integer memberId : List.of(third, first, second)) {
+            memberCoachRepository.saveAndFlush(new MemberCoachEntity(memberId, coachId));
+        }
+
+        List<ProfileCardDTO> firstPage = memberCoachRepository.findMemberCardsByCoachId(coachId, PageRequest.of(0, 2));
+        List<ProfileCardDTO> secondPage = memberCoachRepository.findMemberCardsByCoachId(coachId, PageRequest.of(1, 2));
+
+        assertThat(firstPage).extracting(ProfileCardDTO::getId).containsExactly(first, second);
+        assertThat(secondPage).extracting(ProfileCardDTO::getId).containsExactly(third);
+        assertThat(firstPage.get(0).getFirebaseID()).isEqualTo("fb-Ann");
+        assertThat(firstPage.get(0).getProfilePic()).isEqualTo("members/Ann.png");
+        assertThat(firstPage.get(0).getLocation()).isEqualTo("Ames, Iowa");
+        assertThat(memberCoachRepository.countByCoachId(coachId)).isEqualTo(3);
+        assertThat(memberCoachRepository.findCoachCardsByMemberId(first, PageRequest.of(0, 10)))
+            .extracting(ProfileCardDTO::getFirstName).containsExactly("Test");
+        // Not yet backfilled, so the card falls back to the raw location
+        assertThat(memberCoachRepository.findCoachCardsByMemberId(first, PageRequest.of(0, 10)))
+            .extracting(ProfileCardDTO::getLocation).containsExactly("Latitude: 42.02385, Longitude: -93.64541");
+    }
+}
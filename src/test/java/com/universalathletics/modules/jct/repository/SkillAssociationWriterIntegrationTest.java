@@ -0,0 +1,111 @@
+package com.universalathletics.modules.jct.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.jct.coachSkill.SkillLevel;
+import com.universalathletics.modules.jct.repository.SkillAssociationWriter.SkillDelta;
+import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.repository.SkillRepository;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:skilldeltadb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(SkillAssociationWriter.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SkillAssociationWriterIntegrationTest {
+
+    @Autowired
+    private SkillAssociationWriter skillAssociationWriter;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    @Autowired
+    private CoachRepository coachRepository;
+
+    @Autowired
+    private MemberInfoRepository memberInfoRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int skill(String title) {
+        SkillEntity skill = new SkillEntity();
+        skill.setTitle(title);
+        return skillRepository.saveAndFlush(skill).getSkill_id();
+    }
+
+    private Map<Integer, SkillLevel> coachSkills(int coachId) {
+        Map<Integer, SkillLevel> skills = new HashMap<>();
+        jdbcTemplate.query("SELECT Skill_ID, Skill_Level FROM Coach_Skill WHERE Coach_ID = ?",
+            rs -> {
+                skills.put(rs.getInt(1), SkillLevel.valueOf(rs.getString(2)));
+            },
+            coachId);
+        return skills;
+    }
+
+    @Test
+    public void syncCoachSkills_appliesOnlyTheDifference() {
+        int pitching = skill("Pitching");
+        int hitting = skill("Hitting");
+        int catching = skill("Catching");
+        CoachEntity coach = new CoachEntity();
+        coach.setFirebaseID("coach-skill-delta");
+        int coachId = coachRepository.saveAndFlush(coach).getId();
+
+        skillAssociationWriter.syncCoachSkills(coachId, Map.of(pitching, SkillLevel.BEGINNER, hitting, SkillLevel.ADVANCED));
+
+        Map<Integer, SkillLevel> desired = new HashMap<>();
+        desired.put(hitting, SkillLevel.BEGINNER);
+        desired.put(catching, null);
+        SkillDelta delta = skillAssociationWriter.syncCoachSkills(coachId, desired);
+
+        assertThat(delta.added()).containsOnlyKeys(catching);
+        assertThat(delta.removed()).containsOnly(pitching);
+        assertThat(delta.changed()).containsEntry(hitting, SkillLevel.BEGINNER).hasSize(1);
+        assertThat(coachSkills(coachId)).isEqualTo(Map.of(
+            hitting, SkillLevel.BEGINNER, catching, SkillAssociationWriter.DEFAULT_LEVEL));
+
+        assertThat(skillAssociationWriter.syncCoachSkills(coachId, coachSkills(coachId)).isEmpty()).isTrue();
+    }
+
+    @Test
+    public void syncMemberSkills_addsAndRemovesRows() {
+        int pitching = skill("Pitching");
+        int hitting = skill("Hitting");
+        MemberInfoEntity member = new MemberInfoEntity();
+        member.setFirebaseID("member-skill-delta");
+        int memberId = memberInfoRepository.saveAndFlush(member).getId();
+
+        skillAssociationWriter.syncMemberSkills(memberId, List.of(pitching));
+        SkillDelta delta = skillAssociationWriter.syncMemberSkills(memberId, List.of(hitting));
+
+        assertThat(delta.added()).containsOnlyKeys(hitting);
+        assertThat(delta.removed()).containsOnly(pitching);
+        assertThat(jdbcTemplate.queryForList("SELECT Skill_ID FROM Member_Skill WHERE Member_ID = ?", Integer.class, memberId))
+            .containsExactly(hitting);
+    }
+}
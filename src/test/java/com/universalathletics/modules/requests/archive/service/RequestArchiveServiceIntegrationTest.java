@@ -0,0 +1,99 @@
+package com.universalathletics.modules.requests.archive.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.universalathletics.modules.requests.archive.repository.ConnectionRequestArchiveRepository;
+import com.universalathletics.modules.requests.connection.entity.ConnectionRequestEntity;
+import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.connection.repository.ConnectionRequestRepository;
+import com.universalathletics.modules.requests.connection.service.ConnectionRequestService;
+import com.universalathletics.modules.requests.model.RequestHistoryPageDTO;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:archivedb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({RequestArchiveService.class, ConnectionRequestService.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class RequestArchiveServiceIntegrationTest {
+
+    @Autowired
+    private RequestArchiveService requestArchiveService;
+
+    @Autowired
+    private ConnectionRequestService connectionRequestService;
+
+    @Autowired
+    private ConnectionRequestRepository connectionRequestRepository;
+
+    @Autowired
+    private ConnectionRequestArchiveRepository connectionRequestArchiveRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Integer connection(Integer senderId, RequestStatus status, int daysOld) {
+        ConnectionRequestEntity request = new ConnectionRequestEntity(UserType.MEMBER, senderId, UserType.COACH, 5, null);
+        request.setStatus(status);
+        Integer requestId = connectionRequestRepository.saveAndFlush(request).getId();
+        // The entity callbacks always stamp the current time, so age the row directly
+        entityManager.getEntityManager()
+            .createNativeQuery("UPDATE Connection_Request SET Updated_At = :updatedAt WHERE Request_ID = :id")
+            .setParameter("updatedAt", LocalDateTime.now().minusDays(daysOld))
+            .setParameter("id", requestId)
+            .executeUpdate();
+        return requestId;
+    }
+
+    @Test
+    public void archiveConnectionRequests_movesOnlyOldResolvedRequests() {
+        Integer oldAccepted = connection(1, RequestStatus.ACCEPTED, 60);
+        Integer oldPending = connection(2, RequestStatus.PENDING, 60);
+        Integer recentRejected = connection(3, RequestStatus.REJECTED, 1);
+
+        int archived = requestArchiveService.archiveConnectionRequests(LocalDateTime.now().minusDays(30), 100);
+        entityManager.clear();
+
+        assertThat(archived).isEqualTo(1);
+        assertThat(connectionRequestRepository.existsById(oldAccepted)).isFalse();
+        assertThat(connectionRequestArchiveRepository.existsById(oldAccepted)).isTrue();
+        assertThat(connectionRequestRepository.existsById(oldPending)).isTrue();
+        assertThat(connectionRequestRepository.existsById(recentRejected)).isTrue();
+    }
+
+    @Test
+    public void getRequestHistory_pagesAcrossHotAndArchivedRequests() {
+        Integer oldAccepted = connection(1, RequestStatus.ACCEPTED, 60);
+        Integer recentRejected = connection(3, RequestStatus.REJECTED, 1);
+        connection(2, RequestStatus.PENDING, 2);
+        requestArchiveService.archiveConnectionRequests(LocalDateTime.now().minusDays(30), 100);
+        entityManager.clear();
+
+        RequestHistoryPageDTO<ConnectionRequestDTO> first =
+            connectionRequestService.getRequestHistory(UserType.COACH, 5, 1, null);
+        RequestHistoryPageDTO<ConnectionRequestDTO> second =
+            connectionRequestService.getRequestHistory(UserType.COACH, 5, 1, first.getNextCursor());
+
+        assertThat(first.getRequests()).extracting(ConnectionRequestDTO::getId).isEqualTo(List.of(recentRejected));
+        assertThat(second.getRequests()).extracting(ConnectionRequestDTO::getId).isEqualTo(List.of(oldAccepted));
+        assertThat(second.getNextCursor()).isNull();
+    }
+}
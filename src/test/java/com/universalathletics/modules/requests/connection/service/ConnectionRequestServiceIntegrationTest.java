@@ -0,0 +1,228 @@
+package com.universalathletics.modules.requests.connection.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.jct.memberCoach.repository.MemberCoachRepository;
+import com.universalathletics.modules.memberInfo.entity.MemberInfoEntity;
+import com.universalathletics.modules.requests.connection.entity.ConnectionRequestEntity;
+import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.connection.repository.ConnectionRequestRepository;
+import com.universalathletics.modules.requests.events.RequestChangedEvent;
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+import com.universalathletics.modules.requests.util.BulkActions;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:connectiondb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import(ConnectionRequestService.class)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@RecordApplicationEvents
+public class ConnectionRequestServiceIntegrationTest {
+
+    @Autowired
+    private ConnectionRequestService connectionRequestService;
+
+    @Autowired
+    private ConnectionRequestRepository connectionRequestRepository;
+
+    @Autowired
+    private MemberCoachRepository memberCoachRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    private ConnectionRequestEntity pendingRequest(UserType senderType, Integer senderId, UserType receiverType, Integer receiverId) {
+        ConnectionRequestEntity request = new ConnectionRequestEntity();
+        request.setSenderType(senderType);
+        request.setSenderId(senderId);
+        request.setReceiverType(receiverType);
+        request.setReceiverId(receiverId);
+        request.setStatus(RequestStatus.PENDING);
+        request.setCreatedAt(LocalDateTime.now());
+        request.setUpdatedAt(LocalDateTime.now());
+        return connectionRequestRepository.saveAndFlush(request);
+    }
+
+    // Accepting inserts a Member_Coach row, whose foreign keys need real users
+    private Integer member(String firebaseId) {
+        MemberInfoEntity member = new MemberInfoEntity();
+        member.setFirebaseID(firebaseId);
+        return entityManager.persistAndFlush(member).getId();
+    }
+
+    private Integer coach(String firebaseId) {
+        CoachEntity coach = new CoachEntity();
+        coach.setFirebaseID(firebaseId);
+        return entityManager.persistAndFlush(coach).getId();
+    }
+
+    private RequestStatus statusOf(Integer requestId) {
+        // Bulk updates bypass the persistence context, so reload from the database
+        entityManager.clear();
+        return entityManager.find(ConnectionRequestEntity.class, requestId).getStatus();
+    }
+
+    @Test
+    public void acceptConnectionRequest_connectsUsersOnlyOnce() {
+        Integer coachId = coach("coach-1");
+        Integer memberId = member("member-1");
+        Integer requestId = pendingRequest(UserType.COACH, coachId, UserType.MEMBER, memberId).getId();
+
+        assertThat(connectionRequestService.acceptConnectionRequest(requestId, memberId)).isTrue();
+        assertThat(connectionRequestService.acceptConnectionRequest(requestId, memberId)).isFalse();
+
+        assertThat(memberCoachRepository.existsByMemberIdAndCoachId(memberId, coachId)).isTrue();
+        assertThat(memberCoachRepository.count()).isEqualTo(1);
+        assertThat(connectionRequestRepository.insertMemberCoachForRequest(requestId)).isZero();
+    }
+
+    @Test
+    public void transitions_requireOwnershipAndPendingStatus() {
+        Integer requestId = pendingRequest(UserType.MEMBER, 8, UserType.COACH, 3).getId();
+
+        assertThat(connectionRequestService.declineConnectionRequest(requestId, 99)).isFalse();
+        assertThat(connectionRequestService.cancelConnectionRequest(requestId, 3)).isFalse();
+        assertThat(connectionRequestService.cancelConnectionRequest(requestId, 8)).isTrue();
+
+        // Once cancelled, the receiver can no longer act on it
+        assertThat(connectionRequestService.acceptConnectionRequest(requestId, 3)).isFalse();
+        assertThat(connectionRequestService.declineConnectionRequest(requestId, 3)).isFalse();
+        assertThat(statusOf(requestId)).isEqualTo(RequestStatus.CANCELLED);
+        assertThat(memberCoachRepository.count()).isZero();
+    }
+
+    @Test
+    public void declineConnectionRequest_publishesOnlyTheSuccessfulTransition() {
+        Integer requestId = pendingRequest(UserType.MEMBER, 8, UserType.COACH, 3).getId();
+
+        assertThat(connectionRequestService.declineConnectionRequest(requestId, 3)).isTrue();
+        assertThat(connectionRequestService.declineConnectionRequest(requestId, 3)).isFalse();
+
+        assertThat(events.stream(RequestChangedEvent.class)).containsExactly(new RequestChangedEvent(
+            RequestChangedEvent.Kind.CONNECTION, requestId, RequestStatus.REJECTED, UserType.MEMBER, 8, UserType.COACH, 3));
+    }
+
+    private ConnectionRequestDTO requestDto(UserType senderType, Integer senderId, UserType receiverType, Integer receiverId) {
+        ConnectionRequestDTO dto = new ConnectionRequestDTO();
+        dto.setSenderType(senderType);
+        dto.setSenderId(senderId);
+        dto.setReceiverType(receiverType);
+        dto.setReceiverId(receiverId);
+        return dto;
+    }
+
+    @Test
+    public void pairKey_isTheSameInEitherDirection() {
+        assertThat(ConnectionRequestEntity.pairKey(UserType.MEMBER, 8, UserType.COACH, 3)).isEqualTo("C3:M8");
+        assertThat(ConnectionRequestEntity.pairKey(UserType.COACH, 3, UserType.MEMBER, 8)).isEqualTo("C3:M8");
+    }
+
+    @Test
+    public void createConnectionRequest_rejectsPendingRequestInOppositeDirection() {
+        connectionRequestService.createCoachToMemberRequest(requestDto(UserType.COACH, 3, UserType.MEMBER, 8));
+
+        assertThrows(IllegalStateException.class,
+            () -> connectionRequestService.createMemberToCoachRequest(requestDto(UserType.MEMBER, 8, UserType.COACH, 3)));
+    }
+
+    @Test
+    public void createConnectionRequest_allowsNewRequestOnceThePreviousOneIsFinished() {
+        Integer declined = connectionRequestService
+            .createMemberToCoachRequest(requestDto(UserType.MEMBER, 8, UserType.COACH, 3)).getId();
+        assertThat(connectionRequestService.declineConnectionRequest(declined, 3)).isTrue();
+        Integer cancelled = connectionRequestService
+            .createMemberToCoachRequest(requestDto(UserType.MEMBER, 8, UserType.COACH, 3)).getId();
+        assertThat(connectionRequestService.cancelConnectionRequest(cancelled, 8)).isTrue();
+        Integer declinedAgain = connectionRequestService
+            .createMemberToCoachRequest(requestDto(UserType.MEMBER, 8, UserType.COACH, 3)).getId();
+        assertThat(connectionRequestService.declineConnectionRequest(declinedAgain, 3)).isTrue();
+
+        assertThat(connectionRequestService.createCoachToMemberRequest(requestDto(UserType.COACH, 3, UserType.MEMBER, 8)))
+            .isNotNull();
+    }
+
+    @Test
+    public void pendingPairIndex_rejectsDuplicateInsert() {
+        pendingRequest(UserType.MEMBER, 8, UserType.COACH, 3);
+
+        assertThrows(DataIntegrityViolationException.class,
+            () -> pendingRequest(UserType.COACH, 3, UserType.MEMBER, 8));
+    }
+
+    @Test
+    public void acceptConnectionRequests_reportsOutcomePerRequest() {
+        Integer coachId = coach("coach-1");
+        Integer otherCoachId = coach("coach-2");
+        Integer firstMember = member("member-1");
+        Integer secondMember = member("member-2");
+        Integer first = pendingRequest(UserType.MEMBER, firstMember, UserType.COACH, coachId).getId();
+        Integer second = pendingRequest(UserType.MEMBER, secondMember, UserType.COACH, coachId).getId();
+        Integer otherCoach = pendingRequest(UserType.MEMBER, firstMember, UserType.COACH, otherCoachId).getId();
+
+        List<BulkActionResultDTO> results = connectionRequestService.acceptConnectionRequests(
+            List.of(second, otherCoach, first, second), coachId);
+
+        assertThat(results).extracting(BulkActionResultDTO::getRequestId).containsExactly(second, otherCoach, first);
+        assertThat(results).extracting(BulkActionResultDTO::isSuccess).containsExactly(true, false, true);
+        assertThat(memberCoachRepository.existsByMemberIdAndCoachId(firstMember, coachId)).isTrue();
+        assertThat(memberCoachRepository.existsByMemberIdAndCoachId(secondMember, coachId)).isTrue();
+        assertThat(memberCoachRepository.count()).isEqualTo(2);
+        assertThat(statusOf(otherCoach)).isEqualTo(RequestStatus.PENDING);
+    }
+
+    @Test
+    public void accept_rejectsRequestsBetweenUsersOfTheSameType() {
+        Integer receiver = member("member-1");
+        Integer single = pendingRequest(UserType.MEMBER, member("member-2"), UserType.MEMBER, receiver).getId();
+        Integer bulk = pendingRequest(UserType.COACH, coach("coach-1"), UserType.MEMBER, receiver).getId();
+        Integer sameType = pendingRequest(UserType.MEMBER, member("member-3"), UserType.MEMBER, receiver).getId();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> connectionRequestService.acceptConnectionRequest(single, receiver));
+        List<BulkActionResultDTO> results = connectionRequestService.acceptConnectionRequests(
+            List.of(bulk, sameType), receiver);
+
+        assertThat(results).extracting(BulkActionResultDTO::isSuccess).containsExactly(true, false);
+        assertThat(results.get(1).getError()).isNotNull();
+        assertThat(statusOf(single)).isEqualTo(RequestStatus.PENDING);
+        assertThat(statusOf(sameType)).isEqualTo(RequestStatus.PENDING);
+        assertThat(memberCoachRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    public void bulkTransitions_rejectEmptyAndOversizedBatches() {
+        assertThrows(IllegalArgumentException.class,
+            () -> connectionRequestService.declineConnectionRequests(List.of(), 3));
+        List<Integer> tooMany = IntStream.rangeClosed(1, BulkActions.MAX_BATCH_SIZE + 1).boxed().toList();
+        assertThrows(IllegalArgumentException.class,
+            () -> connectionRequestService.cancelConnectionRequests(tooMany, 8));
+    }
+}
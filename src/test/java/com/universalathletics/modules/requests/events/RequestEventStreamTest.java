@@ -0,0 +1,47 @@
+package com.universalathletics.modules.requests.events;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+
+public class RequestEventStreamTest {
+
+    private RequestEventStream requestEventStream;
+
+    @BeforeEach
+    public void setUp() {
+        requestEventStream = new RequestEventStream();
+        ReflectionTestUtils.setField(requestEventStream, "timeoutMillis", 60000L);
+        ReflectionTestUtils.setField(requestEventStream, "maxStreamsPerUser", 2);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        requestEventStream.shutdown();
+    }
+
+    @Test
+    public void subscribe_closesOldestStreamBeyondPerUserLimit() {
+        requestEventStream.subscribe(UserType.COACH, 3);
+        requestEventStream.subscribe(UserType.COACH, 3);
+        requestEventStream.subscribe(UserType.COACH, 3);
+        requestEventStream.subscribe(UserType.MEMBER, 3);
+
+        assertEquals(3, requestEventStream.size());
+    }
+
+    @Test
+    public void onRequestChanged_ignoresUsersWithoutStreams() {
+        requestEventStream.onRequestChanged(new RequestChangedEvent(RequestChangedEvent.Kind.CONNECTION, 1,
+            RequestStatus.PENDING, UserType.MEMBER, 8, UserType.COACH, 3));
+        requestEventStream.heartbeat();
+
+        assertEquals(0, requestEventStream.size());
+    }
+}
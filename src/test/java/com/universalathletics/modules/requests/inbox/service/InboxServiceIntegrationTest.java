@@ -0,0 +1,88 @@
+package com.universalathletics.modules.requests.inbox.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.universalathletics.modules.requests.connection.entity.ConnectionRequestEntity;
+import com.universalathletics.modules.requests.connection.model.ConnectionRequestDTO;
+import com.universalathletics.modules.requests.connection.repository.ConnectionRequestRepository;
+import com.universalathletics.modules.requests.connection.service.ConnectionRequestService;
+import com.universalathletics.modules.requests.inbox.model.InboxDTO;
+import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
+import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+import com.universalathletics.modules.requests.session.service.SessionRequestService;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.service.SessionConflictIndex;
+import com.universalathletics.modules.session.service.SessionService;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:inboxdb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({InboxService.class, ConnectionRequestService.class, SessionRequestService.class,
+    SessionService.class, SessionConflictIndex.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class InboxServiceIntegrationTest {
+
+    @Autowired
+    private InboxService inboxService;
+
+    @Autowired
+    private ConnectionRequestRepository connectionRequestRepository;
+
+    @Autowired
+    private SessionRequestRepository sessionRequestRepository;
+
+    private Integer connection(UserType senderType, Integer senderId, UserType receiverType, Integer receiverId,
+                               RequestStatus status) {
+        ConnectionRequestEntity request = new ConnectionRequestEntity(senderType, senderId, receiverType, receiverId, null);
+        request.setStatus(status);
+        return connectionRequestRepository.saveAndFlush(request).getId();
+    }
+
+    private Integer session(UserType senderType, Integer senderId, UserType receiverType, Integer receiverId) {
+        LocalDate date = LocalDate.of(2030, 1, 1);
+        SessionRequestEntity request = new SessionRequestEntity(senderType, senderId, receiverType, receiverId, null,
+            date, date.plusDays(1), date.plusDays(2), LocalTime.of(9, 0), LocalTime.of(9, 0), LocalTime.of(9, 0),
+            "Gym", "Training");
+        request.setCreatedAt(LocalDateTime.now());
+        request.setUpdatedAt(LocalDateTime.now());
+        return sessionRequestRepository.saveAndFlush(request).getId();
+    }
+
+    @Test
+    public void getInbox_groupsPendingRequestsByKindAndDirection() {
+        Integer receivedConnection = connection(UserType.MEMBER, 8, UserType.COACH, 3, RequestStatus.PENDING);
+        Integer sentConnection = connection(UserType.COACH, 3, UserType.MEMBER, 9, RequestStatus.PENDING);
+        connection(UserType.MEMBER, 10, UserType.COACH, 3, RequestStatus.REJECTED);
+        // Member 3 is a different user from coach 3
+        connection(UserType.MEMBER, 3, UserType.COACH, 4, RequestStatus.PENDING);
+        Integer receivedSession = session(UserType.MEMBER, 8, UserType.COACH, 3);
+        Integer sentSession = session(UserType.COACH, 3, UserType.MEMBER, 8);
+
+        InboxDTO inbox = inboxService.getInbox(UserType.COACH, 3);
+
+        assertThat(inbox.getReceivedConnections()).extracting(ConnectionRequestDTO::getId).containsExactly(receivedConnection);
+        assertThat(inbox.getSentConnections()).extracting(ConnectionRequestDTO::getId).containsExactly(sentConnection);
+        assertThat(inbox.getReceivedSessions()).extracting(request -> request.getId()).containsExactly(receivedSession);
+        assertThat(inbox.getSentSessions()).extracting(request -> request.getId()).containsExactly(sentSession);
+        // The inbox reads each request table once and does not look up bookings
+        assertThat(inbox.getReceivedSessions().get(0).getConflictingSlots()).isNull();
+    }
+}
@@ -0,0 +1,151 @@
+package com.universalathletics.modules.requests.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.universalathletics.modules.requests.model.BulkActionResultDTO;
+import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
+import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.repository.SessionRepository;
+import com.universalathletics.modules.session.service.SessionConflictException;
+import com.universalathletics.modules.session.service.SessionConflictIndex;
+import com.universalathletics.modules.session.service.SessionService;
+
+/**
+ * Runs the service outside a test transaction, so each call commits or
+ * rolls back on its own as it does in production.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:sessionrequestdb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({SessionRequestService.class, SessionService.class, SessionConflictIndex.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SessionRequestServiceIntegrationTest {
+
+    private static final LocalDate DAY = LocalDate.of(2030, 1, 1);
+
+    @Autowired
+    private SessionRequestService sessionRequestService;
+
+    @Autowired
+    private SessionRequestRepository sessionRequestRepository;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Integer pendingRequest(Integer memberId, Integer coachId, LocalDateTime slot1, LocalDateTime slot2,
+                                   LocalDateTime slot3) {
+        SessionRequestEntity request = new SessionRequestEntity(UserType.MEMBER, memberId, UserType.COACH, coachId, null,
+            slot1.toLocalDate(), slot2.toLocalDate(), slot3.toLocalDate(),
+            slot1.toLocalTime(), slot2.toLocalTime(), slot3.toLocalTime(),
+            "Gym", "Training");
+        request.setStatus(RequestStatus.PENDING);
+        request.setCreatedAt(LocalDateTime.now());
+        request.setUpdatedAt(LocalDateTime.now());
+        return sessionRequestRepository.saveAndFlush(request).getId();
+    }
+
+    private void existingSession(Integer coachId, Integer memberId, LocalDateTime start) {
+        SessionEntity session = new SessionEntity();
+        session.setCoachId(coachId);
+        session.setMemberId(memberId);
+        session.setSessionDate(start.toLocalDate());
+        session.setSessionTime(start.toLocalTime());
+        sessionRepository.saveAndFlush(session);
+    }
+
+    private RequestStatus statusOf(Integer requestId) {
+        return sessionRequestRepository.findById(requestId).orElseThrow().getStatus();
+    }
+
+    @Test
+    public void acceptAndSchedule_conflictRollsBackTheAcceptance() {
+        existingSession(3, 20, DAY.atTime(9, 0));
+        Integer requestId = pendingRequest(8, 3, DAY.atTime(9, 30), DAY.plusDays(1).atTime(9, 0), DAY.plusDays(2).atTime(9, 0));
+
+        assertThrows(SessionConflictException.class,
+            () -> sessionRequestService.acceptAndScheduleSessionRequest(requestId, 3, 1));
+
+        assertThat(statusOf(requestId)).isEqualTo(RequestStatus.PENDING);
+        assertThat(sessionRepository.count()).isEqualTo(1);
+
+        SessionEntity session = sessionRequestService.acceptAndScheduleSessionRequest(requestId, 3, 2);
+
+        assertThat(session.getSessionDate()).isEqualTo(DAY.plusDays(1));
+        assertThat(statusOf(requestId)).isEqualTo(RequestStatus.ACCEPTED);
+    }
+
+    @Test
+    public void acceptAndSchedule_seesSessionsCommittedByEarlierCalls() {
+        LocalDateTime slot = DAY.atTime(10, 0);
+        Integer first = pendingRequest(8, 3, slot, slot.plusDays(5), slot.plusDays(6));
+        Integer second = pendingRequest(9, 3, slot.plusMinutes(30), slot.plusDays(7), slot.plusDays(8));
+
+        sessionRequestService.acceptAndScheduleSessionRequest(first, 3, 1);
+
+        assertThrows(SessionConflictException.class,
+            () -> sessionRequestService.acceptAndScheduleSessionRequest(second, 3, 1));
+        assertThat(statusOf(second)).isEqualTo(RequestStatus.PENDING);
+    }
+
+    @Test
+    public void acceptSessionRequests_rejectsRequestsThatConflictWithEarlierOnesInTheBatch() {
+        LocalDateTime slot = DAY.atTime(10, 0);
+        Integer first = pendingRequest(8, 3, slot, slot.plusDays(1), slot.plusDays(2));
+        Integer second = pendingRequest(9, 3, slot.plusMinutes(30), slot.plusDays(1).plusMinutes(30),
+            slot.plusDays(2).minusMinutes(30));
+
+        List<BulkActionResultDTO> results = sessionRequestService.acceptSessionRequests(List.of(first, second), 3);
+
+        assertThat(results.get(0).isSuccess()).isTrue();
+        assertThat(results.get(1).isSuccess()).isFalse();
+        assertThat(results.get(1).getError()).isEqualTo("Every proposed slot overlaps an existing booking");
+        assertThat(statusOf(first)).isEqualTo(RequestStatus.ACCEPTED);
+        assertThat(statusOf(second)).isEqualTo(RequestStatus.PENDING);
+    }
+
+    @Test
+    public void acceptSessionRequests_rolledBackBatchHoldsNoSlots() {
+        LocalDateTime slot = DAY.atTime(10, 0);
+        Integer first = pendingRequest(8, 3, slot, slot.plusDays(1), slot.plusDays(2));
+        Integer second = pendingRequest(9, 3, slot.plusMinutes(30), slot.plusDays(1).plusMinutes(30),
+            slot.plusDays(2).minusMinutes(30));
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            sessionRequestService.acceptSessionRequests(List.of(first), 3);
+            status.setRollbackOnly();
+        });
+
+        assertThat(statusOf(first)).isEqualTo(RequestStatus.PENDING);
+        assertThat(sessionRequestService.acceptSessionRequests(List.of(second), 3).get(0).isSuccess()).isTrue();
+        assertThat(statusOf(second)).isEqualTo(RequestStatus.ACCEPTED);
+    }
+}
@@ -0,0 +1,103 @@
+package com.universalathletics.modules.requests.session.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import com.universalathletics.modules.requests.events.RequestChangedEvent;
+import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
+import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.service.SessionConflictIndex;
+import com.universalathletics.modules.session.service.SessionService;
+
+@ExtendWith(MockitoExtension.class)
+public class SessionRequestServiceTest {
+
+    @Mock
+    private SessionRequestRepository sessionRequestRepository;
+
+    @Mock
+    private SessionConflictIndex sessionConflictIndex;
+
+    @Mock
+    private SessionService sessionService;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @InjectMocks
+    private SessionRequestService sessionRequestService;
+
+    private SessionRequestEntity memberToCoachRequest() {
+        SessionRequestEntity request = new SessionRequestEntity(
+            UserType.MEMBER, 7, UserType.COACH, 5, "Can we train?",
+            LocalDate.of(2030, 1, 1), LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 3),
+            LocalTime.of(9, 0), LocalTime.of(10, 0), LocalTime.of(11, 0),
+            "Gym", "Hitting");
+        request.setId(100);
+        request.setSenderFirstName("Mia");
+        request.setSenderFirebaseId("member-fb");
+        request.setSenderProfilePic("members/mia.png");
+        request.setReceiverFirstName("Cole");
+        request.setReceiverFirebaseId("coach-fb");
+        request.setReceiverProfilePic("coaches/cole.png");
+        return request;
+    }
+
+    @Test
+    public void acceptAndSchedule_createsSessionFromChosenSlot() {
+        when(sessionRequestRepository.findByIdAndReceiverId(100, 5)).thenReturn(Optional.of(memberToCoachRequest()));
+        when(sessionRequestRepository.transitionForReceiver(100, 5, RequestStatus.PENDING, RequestStatus.ACCEPTED))
+            .thenReturn(1);
+        when(sessionService.saveSession(any(SessionEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        SessionEntity session = sessionRequestService.acceptAndScheduleSessionRequest(100, 5, 2);
+
+        assertEquals(100, session.getRequestId());
+        assertEquals(LocalDate.of(2030, 1, 2), session.getSessionDate());
+        assertEquals(LocalTime.of(10, 0), session.getSessionTime());
+        assertEquals(5, session.getCoachId());
+        assertEquals("Cole", session.getCoachFirstName());
+        assertEquals("coach-fb", session.getCoachFirebaseId());
+        assertEquals("coaches/cole.png", session.getCoachProfilePic());
+        assertEquals(7, session.getMemberId());
+        assertEquals("Mia", session.getMemberFirstName());
+        assertEquals("members/mia.png", session.getMemberProfilePic());
+        assertEquals("Gym", session.getSessionLocation());
+        verify(eventPublisher).publishEvent(any(RequestChangedEvent.class));
+    }
+
+    @Test
+    public void acceptAndSchedule_ignoresRequestsThatAreNotPending() {
+        SessionRequestEntity request = memberToCoachRequest();
+        request.setStatus(RequestStatus.CANCELLED);
+        when(sessionRequestRepository.findByIdAndReceiverId(100, 5)).thenReturn(Optional.of(request));
+
+        assertNull(sessionRequestService.acceptAndScheduleSessionRequest(100, 5, 1));
+        verify(sessionService, never()).saveSession(any());
+    }
+
+    @Test
+    public void acceptAndSchedule_rejectsInvalidSlot() {
+        assertThrows(IllegalArgumentException.class,
+            () -> sessionRequestService.acceptAndScheduleSessionRequest(100, 5, 4));
+    }
+}
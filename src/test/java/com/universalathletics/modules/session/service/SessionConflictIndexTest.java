@@ -0,0 +1,135 @@
+package com.universalathletics.modules.session.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+import com.universalathletics.modules.requests.session.entity.SessionRequestEntity;
+import com.universalathletics.modules.requests.session.repository.SessionRequestRepository;
+import com.universalathletics.modules.requests.util.enums.RequestStatus;
+import com.universalathletics.modules.requests.util.enums.UserType;
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.repository.SessionRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class SessionConflictIndexTest {
+
+    @Mock
+    private SessionRepository sessionRepository;
+
+    @Mock
+    private SessionRequestRepository sessionRequestRepository;
+
+    @Mock
+    private CoachRepository coachRepository;
+
+    @Mock
+    private MemberInfoRepository memberInfoRepository;
+
+    @InjectMocks
+    private SessionConflictIndex sessionConflictIndex;
+
+    private final LocalDate tomorrow = LocalDate.now().plusDays(1);
+
+    @BeforeEach
+    public void setUp() {
+        SessionEntity existing = session(1, 5, 7, 100, tomorrow, LocalTime.of(10, 0));
+        lenient().when(sessionRepository.lockBookings(any(), any(), any(), any())).thenReturn(List.of(existing));
+        lenient().when(sessionRequestRepository.lockHeldSlots(eq(RequestStatus.ACCEPTED), any(), any(), any(), any()))
+            .thenReturn(List.of());
+    }
+
+    private static SessionEntity session(Integer id, Integer coachId, Integer memberId, Integer requestId,
+            LocalDate date, LocalTime time) {
+        SessionEntity session = new SessionEntity();
+        session.setId(id);
+        session.setCoachId(coachId);
+        session.setMemberId(memberId);
+        session.setRequestId(requestId);
+        session.setSessionDate(date);
+        session.setSessionTime(time);
+        return session;
+    }
+
+    private static SessionRequestEntity request(Integer id, Integer memberId, Integer coachId,
+            LocalDate date, LocalTime time1, LocalTime time2) {
+        SessionRequestEntity request = new SessionRequestEntity(
+            UserType.MEMBER, memberId, UserType.COACH, coachId, "Can we train?",
+            date, date, null, time1, time2, null, "Gym", "Hitting");
+        request.setId(id);
+        return request;
+    }
+
+    @Test
+    public void findConflicts_detectsOverlapButNotBackToBack() {
+        SessionConflictIndex.Schedules schedules = sessionConflictIndex.lockSchedules(
+            session(null, 5, 7, null, tomorrow, LocalTime.of(10, 30)));
+
+        assertEquals(1, schedules.findConflicts(5, null, tomorrow.atTime(10, 30), null, null).size());
+        assertEquals(1, schedules.findConflicts(5, null, tomorrow.atTime(9, 1), null, null).size());
+        assertTrue(schedules.findConflicts(5, null, tomorrow.atTime(11, 0), null, null).isEmpty());
+        assertTrue(schedules.findConflicts(5, null, tomorrow.atTime(9, 0), null, null).isEmpty());
+    }
+
+    @Test
+    public void lockSchedules_locksBothUsersAndReadsOnlyTheDaysAroundTheSession() {
+        SessionConflictIndex.Schedules schedules = sessionConflictIndex.lockSchedules(
+            session(null, 5, 7, null, tomorrow, LocalTime.of(23, 30)));
+
+        verify(coachRepository).lockByIds(Set.of(5));
+        verify(memberInfoRepository).lockByIds(Set.of(7));
+        verify(sessionRepository).lockBookings(Set.of(5), Set.of(7), tomorrow, tomorrow.plusDays(1));
+        assertEquals(2, schedules.findConflicts(5, 7, tomorrow.atTime(10, 0), null, null).size());
+    }
+
+    @Test
+    public void findConflicts_checksMemberAndIgnoresTheSessionBeingUpdated() {
+        SessionConflictIndex.Schedules schedules = sessionConflictIndex.lockSchedules(
+            session(1, 5, 7, null, tomorrow, LocalTime.of(10, 0)));
+
+        assertEquals(2, schedules.findConflicts(5, 7, tomorrow.atTime(10, 0), null, null).size());
+        assertTrue(schedules.findConflicts(5, 7, tomorrow.atTime(10, 0), 1, null).isEmpty());
+    }
+
+    @Test
+    public void acceptedRequestsHoldTheirSlotsExceptForThemselves() {
+        SessionRequestEntity accepted = request(200, 8, 6, tomorrow, LocalTime.of(14, 0), null);
+        lenient().when(sessionRepository.findBookings(any(), any(), any(), any())).thenReturn(List.of());
+        lenient().when(sessionRequestRepository.findHeldSlots(eq(RequestStatus.ACCEPTED), any(), any(), any(), any()))
+            .thenReturn(List.of(accepted));
+        SessionRequestEntity pending = request(201, 9, 6, tomorrow, LocalTime.of(14, 30), LocalTime.of(16, 0));
+        SessionRequestEntity later = request(202, 10, 6, tomorrow, LocalTime.of(16, 30), LocalTime.of(18, 0));
+
+        SessionConflictIndex.Schedules schedules = sessionConflictIndex.loadSchedules(List.of(pending, later));
+
+        verifyNoInteractions(coachRepository, memberInfoRepository);
+        assertEquals(List.of(1), schedules.findConflictingSlots(pending));
+        assertEquals(List.of(tomorrow.atTime(16, 0)), schedules.findFreeSlots(pending));
+        assertTrue(schedules.findConflicts(6, null, tomorrow.atTime(14, 0), null, 200).isEmpty());
+        assertTrue(schedules.findConflictingSlots(later).isEmpty());
+
+        // A hold only affects these schedules
+        schedules.holdRequestSlots(pending, List.of(tomorrow.atTime(16, 0)));
+
+        assertEquals(List.of(1), schedules.findConflictingSlots(later));
+        assertTrue(sessionConflictIndex.loadSchedules(List.of(later)).findConflictingSlots(later).isEmpty());
+    }
+}
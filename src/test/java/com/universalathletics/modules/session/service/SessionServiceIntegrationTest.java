@@ -0,0 +1,110 @@
+package com.universalathletics.modules.session.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.universalathletics.modules.session.entity.SessionEntity;
+import com.universalathletics.modules.session.model.SessionCursor;
+import com.universalathletics.modules.session.model.SessionPageDTO;
+import com.universalathletics.modules.session.repository.SessionRepository;
+
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=create",
+    "spring.datasource.url=jdbc:h2:mem:sessiondb;DB_CLOSE_DELAY=-1",
+    "spring.datasource.driverClassName=org.h2.Driver",
+    "spring.datasource.username=sa",
+    "spring.datasource.password=",
+    "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect"
+})
+@Import({SessionService.class, SessionConflictIndex.class})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.ANY)
+@DirtiesContext(classMode = DirtiesContext.ClassMode.AFTER_EACH_TEST_METHOD)
+public class SessionServiceIntegrationTest {
+
+    @Autowired
+    private SessionService sessionService;
+
+    @Autowired
+    private SessionRepository sessionRepository;
+
+    private SessionEntity session(Integer coachId, Integer memberId, LocalDate date, LocalTime time) {
+        SessionEntity session = new SessionEntity();
+        session.setRequestId(1);
+        session.setCoachId(coachId);
+        session.setMemberId(memberId);
+        session.setSessionDate(date);
+        session.setSessionTime(time);
+        session.setSessionLocation("Gym");
+        session.setSessionDescription("Training");
+        return sessionRepository.save(session);
+    }
+
+    @Test
+    public void findCoachSchedule_pagesInScheduleOrderWithinRange() {
+        LocalDate monday = LocalDate.of(2025, 6, 2);
+        List<SessionEntity> inRange = new ArrayList<>();
+        for (int day = 0; day < 5; day++) {
+            // Two sessions share each slot so the ID breaks ties
+            inRange.add(session(1, 10, monday.plusDays(day), LocalTime.of(9, 0)));
+            inRange.add(session(1, 11, monday.plusDays(day), LocalTime.of(9, 0)));
+            inRange.add(session(1, 12, monday.plusDays(day), LocalTime.of(7, 30)));
+        }
+        session(1, 10, monday.minusDays(1), LocalTime.of(9, 0));
+        session(1, 10, monday.plusDays(7), LocalTime.of(9, 0));
+        session(2, 10, monday, LocalTime.of(9, 0));
+
+        List<Integer> expected = inRange.stream()
+            .sorted(Comparator.comparing(SessionEntity::getSessionDate)
+                .thenComparing(SessionEntity::getSessionTime)
+                .thenComparing(SessionEntity::getId))
+            .map(SessionEntity::getId)
+            .toList();
+
+        List<Integer> paged = new ArrayList<>();
+        SessionCursor cursor = null;
+        int pages = 0;
+        do {
+            SessionPageDTO page = sessionService.findCoachSchedule(1, monday, monday.plusDays(6), 4, cursor);
+            page.getSessions().forEach(session -> paged.add(session.getId()));
+            cursor = page.getNextCursor() != null ? SessionCursor.decode(page.getNextCursor()) : null;
+            pages++;
+        } while (cursor != null);
+
+        assertThat(paged).isEqualTo(expected);
+        assertThat(pages).isEqualTo(4);
+    }
+
+    @Test
+    public void findMemberSchedule_lastPageHasNoCursor() {
+        LocalDate day = LocalDate.of(2025, 6, 2);
+        session(1, 10, day, LocalTime.of(9, 0));
+        session(2, 10, day, LocalTime.of(10, 0));
+
+        SessionPageDTO page = sessionService.findMemberSchedule(10, null, null, 2, null);
+
+        assertThat(page.getSessions()).hasSize(2);
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    public void findSchedule_rejectsInvalidRequests() {
+        LocalDate day = LocalDate.of(2025, 6, 2);
+
+        assertThrows(IllegalArgumentException.class, () -> sessionService.findSchedule(day, day.minusDays(1), 10, null));
+        assertThrows(IllegalArgumentException.class, () -> sessionService.findSchedule(day, day, 0, null));
+        assertThrows(IllegalArgumentException.class, () -> SessionCursor.decode("bogus"));
+    }
+}
@@ -0,0 +1,77 @@
+package com.universalathletics.modules.skill.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.repository.SkillRepository;
+
+import jakarta.persistence.EntityNotFoundException;
+
+@ExtendWith(MockitoExtension.class)
+public class SkillCatalogTest {
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private SkillCatalog skillCatalog;
+
+    private static SkillEntity skill(int id, String title) {
+        SkillEntity skill = new SkillEntity();
+        skill.setSkill_id(id);
+        skill.setTitle(title);
+        return skill;
+    }
+
+    @Test
+    public void require_loadsOnceAndServesFromMemory() {
+        SkillEntity hitting = skill(2, "Hitting");
+        when(skillRepository.findAll()).thenReturn(List.of(hitting, skill(1, "Pitching")));
+
+        assertSame(hitting, skillCatalog.require(2));
+        assertEquals(List.of(1, 2), skillCatalog.all().stream().map(SkillEntity::getSkill_id).toList());
+        assertTrue(skillCatalog.find(3).isEmpty());
+        assertThrows(EntityNotFoundException.class, () -> skillCatalog.require(3));
+
+        verify(skillRepository, times(1)).findAll();
+    }
+
+    @Test
+    public void put_swapsInNewSnapshotWithoutTouchingOldOne() {
+        when(skillRepository.findAll()).thenReturn(List.of(skill(1, "Pitching")));
+        List<SkillEntity> before = skillCatalog.all();
+
+        skillCatalog.put(skill(4, "Catching"));
+
+        assertEquals(1, before.size());
+        assertEquals(2, skillCatalog.size());
+        assertEquals("Catching", skillCatalog.require(4).getTitle());
+    }
+
+    @Test
+    public void require_fallsBackToRepositoryForSkillsCreatedElsewhere() {
+        when(skillRepository.findAll()).thenReturn(List.of(skill(1, "Pitching")));
+        when(skillRepository.findById(5)).thenReturn(Optional.of(skill(5, "Fielding")));
+
+        assertEquals("Fielding", skillCatalog.require(5).getTitle());
+        assertEquals(List.of(1, 5), skillCatalog.all().stream().map(SkillEntity::getSkill_id).toList());
+
+        skillCatalog.require(5);
+        verify(skillRepository, times(1)).findById(5);
+    }
+}
@@ -0,0 +1,52 @@
+package com.universalathletics.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public class AfterCommitTest {
+
+    private final List<String> ran = new ArrayList<>();
+
+    @AfterEach
+    public void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    public void run_withoutTransactionRunsImmediately() {
+        AfterCommit.run(() -> ran.add("update"));
+
+        assertEquals(List.of("update"), ran);
+    }
+
+    @Test
+    public void run_waitsForCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(() -> ran.add("update"));
+        assertEquals(List.of(), ran);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        assertEquals(List.of("update"), ran);
+    }
+
+    @Test
+    public void run_isDroppedOnRollback() {
+        TransactionSynchronizationManager.initSynchronization();
+        AfterCommit.run(() -> ran.add("update"));
+
+        TransactionSynchronizationManager.getSynchronizations()
+            .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+        assertEquals(List.of(), ran);
+    }
+}
@@ -0,0 +1,79 @@
+package com.universalathletics.service.geocoding;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.universalathletics.service.geocoding.model.GeoPoint;
+
+public class CoachSpatialIndexTest {
+
+    private static final GeoPoint DES_MOINES = new GeoPoint(41.58680, -93.62500);
+    private static final GeoPoint AMES = new GeoPoint(42.03470, -93.62000);
+    private static final GeoPoint OMAHA = new GeoPoint(41.25650, -95.93450);
+    private static final GeoPoint CHICAGO = new GeoPoint(41.87810, -87.62980);
+
+    private static List<Integer> ids(List<CoachSpatialIndex.Neighbor> neighbors) {
+        return neighbors.stream().map(CoachSpatialIndex.Neighbor::coachId).toList();
+    }
+
+    @Test
+    public void withinRadius_returnsOnlyCoachesInsideRadiusClosestFirst() {
+        CoachSpatialIndex index = new CoachSpatialIndex();
+        index.put(1, CHICAGO);
+        index.put(2, AMES);
+        index.put(3, OMAHA);
+        index.put(4, DES_MOINES);
+
+        assertEquals(List.of(4, 2), ids(index.withinRadius(DES_MOINES, 100)));
+        assertEquals(List.of(4, 2, 3), ids(index.withinRadius(DES_MOINES, 250)));
+    }
+
+    @Test
+    public void nearest_expandsUntilKCoachesFound() {
+        CoachSpatialIndex index = new CoachSpatialIndex();
+        index.put(1, CHICAGO);
+        index.put(2, AMES);
+        index.put(3, OMAHA);
+
+        assertEquals(List.of(2, 3), ids(index.nearest(DES_MOINES, 2)));
+        assertEquals(List.of(2, 3, 1), ids(index.nearest(DES_MOINES, 10)));
+    }
+
+    @Test
+    public void put_movesAndRemovesCoaches() {
+        CoachSpatialIndex index = new CoachSpatialIndex();
+        index.put(1, CHICAGO);
+        index.put(1, AMES);
+        assertEquals(List.of(1), ids(index.withinRadius(DES_MOINES, 100)));
+
+        index.put(1, null);
+        assertTrue(index.withinRadius(DES_MOINES, 100).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    public void withinRadius_wrapsAroundAntimeridian() {
+        CoachSpatialIndex index = new CoachSpatialIndex();
+        index.put(1, new GeoPoint(0.0, 179.9));
+        index.put(2, new GeoPoint(0.0, 170.0));
+
+        assertEquals(List.of(1), ids(index.withinRadius(new GeoPoint(0.0, -179.9), 50)));
+    }
+
+    @Test
+    public void candidates_skipsOccupiedCellsOutsideTheBox() {
+        CoachSpatialIndex index = new CoachSpatialIndex();
+        index.put(1, AMES);
+        index.put(2, CHICAGO);
+        index.put(3, new GeoPoint(-33.86880, 151.20930)); // Sydney
+
+        // The box around Des Moines has more cells than are occupied,
+        // but only the Iowa cell falls inside it
+        assertEquals(List.of(1), List.copyOf(index.candidates(DES_MOINES, 100)));
+        assertEquals(List.of(1, 2), index.candidates(DES_MOINES, 600).stream().sorted().toList());
+    }
+}
@@ -0,0 +1,59 @@
+package com.universalathletics.service.geocoding;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.universalathletics.modules.coach.repository.CoachRepository;
+import com.universalathletics.modules.memberInfo.repository.MemberInfoRepository;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+
+@ExtendWith(MockitoExtension.class)
+public class DisplayLocationBackfillJobTest {
+
+    @Mock
+    private CoachRepository coachRepository;
+
+    @Mock
+    private MemberInfoRepository memberInfoRepository;
+
+    @Mock
+    private GeocodingService geocodingService;
+
+    @InjectMocks
+    private DisplayLocationBackfillJob job;
+
+    @Test
+    public void runBatch_backsOffRowsThatDoNotResolve() {
+        ReflectionTestUtils.setField(job, "batchSize", 50);
+        ReflectionTestUtils.setField(job, "delayMillis", 0L);
+        List<Object[]> rows = new ArrayList<>();
+        rows.add(new Object[] {1, 42.0, -93.6});
+        rows.add(new Object[] {2, 0.0, 0.0});
+        when(coachRepository.findMissingDisplayLocation(eq(0), any(Pageable.class))).thenReturn(rows);
+        when(geocodingService.resolveDisplayLocation(new GeoPoint(42.0, -93.6))).thenReturn("Ames, Iowa");
+
+        job.runBatch();
+        rows.remove(0);
+        // Run 2 skips the failed row, run 3 retries it and run 4 skips it for longer
+        job.runBatch();
+        job.runBatch();
+        job.runBatch();
+
+        verify(coachRepository).updateDisplayLocation(1, "Ames, Iowa");
+        verify(geocodingService, times(2)).resolveDisplayLocation(new GeoPoint(0.0, 0.0));
+    }
+}
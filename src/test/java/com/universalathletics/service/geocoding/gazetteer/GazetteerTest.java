@@ -0,0 +1,81 @@
+package com.universalathletics.service.geocoding.gazetteer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class GazetteerTest {
+
+    @TempDir
+    Path tempDir;
+
+    private Gazetteer build(List<GazetteerWriter.Place> places) throws IOException {
+        Path file = tempDir.resolve("gazetteer.bin");
+        GazetteerWriter.write(places, file, GazetteerWriter.DEFAULT_CELL_DEGREES);
+        return Gazetteer.open(file);
+    }
+
+    @Test
+    public void nearestPlace_returnsClosestCity() throws IOException {
+        Gazetteer gazetteer = build(List.of(
+            new GazetteerWriter.Place("Ames, IA", 42.0347, -93.6200),
+            new GazetteerWriter.Place("Des Moines, IA", 41.5868, -93.6250),
+            new GazetteerWriter.Place("Boone, IA", 42.0597, -93.8802)));
+
+        assertEquals(3, gazetteer.size());
+        assertEquals("Ames, IA", gazetteer.nearestPlace(42.02385, -93.64541, 50));
+        assertEquals("Des Moines, IA", gazetteer.nearestPlace(41.60, -93.60, 50));
+        assertEquals("Boone, IA", gazetteer.nearestPlace(42.06, -93.86, 50));
+    }
+
+    @Test
+    public void nearestPlace_searchesNeighbouringCells() throws IOException {
+        // The query and the only place sit on opposite sides of a cell boundary
+        Gazetteer gazetteer = build(List.of(new GazetteerWriter.Place("Border, XX", 41.01, -93.99)));
+
+        assertEquals("Border, XX", gazetteer.nearestPlace(40.99, -94.01, 10));
+    }
+
+    @Test
+    public void nearestPlace_wrapsAroundTheAntimeridian() throws IOException {
+        Gazetteer gazetteer = build(List.of(new GazetteerWriter.Place("Taveuni, FJ", -16.8, 179.99)));
+
+        assertEquals("Taveuni, FJ", gazetteer.nearestPlace(-16.8, -179.99, 10));
+    }
+
+    @Test
+    public void nearestPlace_returnsNullWhenNothingIsClose() throws IOException {
+        Gazetteer gazetteer = build(List.of(new GazetteerWriter.Place("Ames, IA", 42.0347, -93.6200)));
+
+        assertNull(gazetteer.nearestPlace(0.0, 0.0, 50));
+        assertNull(gazetteer.nearestPlace(42.6, -93.62, 50));
+    }
+
+    @Test
+    public void readTsv_spellsOutStateNames() throws IOException {
+        Path source = tempDir.resolve("places.tsv");
+        Files.writeString(source, "# name\tstate\tlat\tlng\n"
+            + "Ames\tIA\t42.0347\t-93.6200\n"
+            + "Omaha\tNebraska\t41.2565\t-95.9345\n"
+            + "Toronto\tON\t43.6532\t-79.3832\n");
+
+        assertEquals(List.of("Ames, Iowa", "Omaha, Nebraska", "Toronto, ON"),
+            GazetteerWriter.readTsv(source).stream().map(GazetteerWriter.Place::name).toList());
+    }
+
+    @Test
+    public void open_rejectsOtherFiles() throws IOException {
+        Path file = tempDir.resolve("not-a-gazetteer.bin");
+        Files.write(file, new byte[64]);
+
+        assertThrows(IllegalArgumentException.class, () -> Gazetteer.open(file));
+    }
+}
@@ -0,0 +1,33 @@
+package com.universalathletics.service.geocoding.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import org.junit.jupiter.api.Test;
+
+public class GeoPointTest {
+
+    @Test
+    public void parse_handlesAppAndPlainFormats() {
+        GeoPoint labelled = GeoPoint.parse("Latitude: 42.02384529218001, Longitude: -93.64541386213286");
+        assertEquals(new GeoPoint(42.02385, -93.64541), labelled);
+
+        GeoPoint plain = GeoPoint.parse(" 42.02385 , -93.64541 ");
+        assertEquals(new GeoPoint(42.02385, -93.64541), plain);
+    }
+
+    @Test
+    public void parse_rejectsNonCoordinates() {
+        assertNull(GeoPoint.parse(null));
+        assertNull(GeoPoint.parse(""));
+        assertNull(GeoPoint.parse("Ames, Iowa"));
+        assertNull(GeoPoint.parse("Latitude: 95.0, Longitude: 10.0"));
+    }
+
+    @Test
+    public void distanceKm_isZeroForSamePoint() {
+        GeoPoint point = new GeoPoint(42.02385, -93.64541);
+        assertEquals(0.0, point.distanceKm(point), 1e-9);
+        assertEquals(111.19, new GeoPoint(0.0, 0.0).distanceKm(new GeoPoint(1.0, 0.0)), 0.01);
+    }
+}
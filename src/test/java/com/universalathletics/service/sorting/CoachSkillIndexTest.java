@@ -0,0 +1,82 @@
+package com.universalathletics.service.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.universalathletics.modules.jct.coachSkill.SkillLevel;
+
+public class CoachSkillIndexTest {
+
+    private static final int SWIMMING = 1;
+    private static final int HITTING = 2;
+    private static final int PITCHING = 3;
+
+    private static List<Integer> ids(BitSet bits) {
+        return bits.stream().boxed().toList();
+    }
+
+    private static CoachSkillIndex sampleIndex() {
+        CoachSkillIndex index = new CoachSkillIndex();
+        index.rebuild(Map.of(
+            10, Map.of(SWIMMING, SkillLevel.EXPERT, HITTING, SkillLevel.BEGINNER),
+            11, Map.of(SWIMMING, SkillLevel.INTERMEDIATE),
+            12, Map.of(HITTING, SkillLevel.ADVANCED, PITCHING, SkillLevel.ADVANCED)));
+        return index;
+    }
+
+    @Test
+    public void coachesWithSkill_includesHigherLevels() {
+        CoachSkillIndex index = sampleIndex();
+
+        assertEquals(List.of(10, 11), ids(index.coachesWithSkill(SWIMMING, SkillLevel.BEGINNER)));
+        assertEquals(List.of(10), ids(index.coachesWithSkill(SWIMMING, SkillLevel.ADVANCED)));
+        assertTrue(index.coachesWithSkill(99, SkillLevel.BEGINNER).isEmpty());
+    }
+
+    @Test
+    public void coachesWithAllSkills_intersectsRequirements() {
+        CoachSkillIndex index = sampleIndex();
+
+        assertEquals(List.of(10, 12), ids(index.coachesWithAllSkills(
+            List.of(HITTING), List.of(SkillLevel.BEGINNER))));
+        assertEquals(List.of(10), ids(index.coachesWithAllSkills(
+            List.of(SWIMMING, HITTING), List.of(SkillLevel.INTERMEDIATE, SkillLevel.BEGINNER))));
+        assertTrue(index.coachesWithAllSkills(
+            List.of(SWIMMING, HITTING), List.of(SkillLevel.BEGINNER, SkillLevel.INTERMEDIATE)).isEmpty());
+    }
+
+    @Test
+    public void matchCount_isPopcountOfRequestedSkills() {
+        CoachSkillIndex index = sampleIndex();
+        BitSet requested = new BitSet();
+        requested.set(HITTING);
+        requested.set(PITCHING);
+
+        assertEquals(1, index.matchCount(10, requested));
+        assertEquals(0, index.matchCount(11, requested));
+        assertEquals(2, index.matchCount(12, requested));
+        assertEquals(0, index.matchCount(99, requested));
+    }
+
+    @Test
+    public void updates_replaceCoachEntries() {
+        CoachSkillIndex index = sampleIndex();
+
+        index.setSkillLevel(11, SWIMMING, SkillLevel.EXPERT);
+        assertEquals(List.of(10, 11), ids(index.coachesWithSkill(SWIMMING, SkillLevel.EXPERT)));
+
+        index.setCoachSkills(10, Map.of(PITCHING, SkillLevel.BEGINNER));
+        assertEquals(List.of(11), ids(index.coachesWithSkill(SWIMMING, SkillLevel.BEGINNER)));
+        assertEquals(List.of(10, 12), ids(index.coachesWithSkill(PITCHING, SkillLevel.BEGINNER)));
+
+        index.removeCoach(12);
+        assertEquals(List.of(10), ids(index.coachesWithSkill(PITCHING, SkillLevel.BEGINNER)));
+        assertTrue(index.coachesWithSkill(HITTING, SkillLevel.BEGINNER).isEmpty());
+    }
+}
@@ -0,0 +1,190 @@
+package com.universalathletics.service.sorting;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.lenient;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.universalathletics.modules.coach.entity.CoachEntity;
+import com.universalathletics.modules.jct.coachSkill.SkillLevel;
+import com.universalathletics.modules.skill.entity.SkillEntity;
+import com.universalathletics.modules.skill.service.SkillCatalog;
+import com.universalathletics.service.geocoding.model.GeoPoint;
+
+@ExtendWith(MockitoExtension.class)
+public class CoachSortingServiceTest {
+
+    @Spy
+    private CoachSkillIndex coachSkillIndex = new CoachSkillIndex();
+
+    @Mock
+    private SkillCatalog skillCatalog;
+
+    @BeforeEach
+    public void knowEverySkillUpTo100() {
+        lenient().when(skillCatalog.find(anyInt())).thenAnswer(invocation -> {
+            int skillId = invocation.getArgument(0);
+            return skillId <= 100 ? Optional.of(skill(skillId)) : Optional.empty();
+        });
+    }
+
+    @InjectMocks
+    private CoachSortingService coachSortingService;
+
+    private CoachEntity coach(Integer id, String location, Integer... skillIds) {
+        CoachEntity coach = new CoachEntity();
+        coach.setId(id);
+        coach.setLocation(location);
+        coach.setCoordinates(GeoPoint.parse(location));
+        Map<Integer, SkillLevel> skills = new HashMap<>();
+        for (Integer skillId : skillIds) {
+            skills.put(skillId, SkillLevel.INTERMEDIATE);
+        }
+        coachSkillIndex.setCoachSkills(id, skills);
+        return coach;
+    }
+
+    private static SkillEntity skill(int id) {
+        SkillEntity skill = new SkillEntity();
+        skill.setSkill_id(id);
+        return skill;
+    }
+
+    @Test
+    public void sortCoaches_ranksByOverallScoreAndAttachesBreakdown() {
+        String user = "Latitude: 42.02385, Longitude: -93.64541";
+        CoachEntity far = coach(1, "Latitude: 41.58680, Longitude: -93.62500", 1, 2);
+        CoachEntity near = coach(2, "Latitude: 42.03000, Longitude: -93.64000", 1);
+        CoachEntity noLocation = coach(3, null, 1, 2, 3);
+
+        List<CoachEntity> sorted = coachSortingService.sortCoaches(
+            new ArrayList<>(List.of(noLocation, far, near)), List.of(skill(1), skill(2)), user);
+
+        assertEquals(List.of(2, 1, 3), sorted.stream().map(CoachEntity::getId).toList());
+
+        CoachScore farScore = far.getScore();
+        assertNotNull(farScore);
+        assertEquals(2, farScore.skillMatches());
+        assertEquals(0.4, farScore.skillScore(), 1e-9);
+        assertEquals(0.0, noLocation.getScore().distanceScore(), 1e-9);
+        assertEquals(2, noLocation.getScore().skillMatches());
+    }
+
+    @Test
+    public void sortCoaches_breaksTiesByCoachId() {
+        String user = "Latitude: 42.02385, Longitude: -93.64541";
+        CoachEntity second = coach(7, user, 1);
+        CoachEntity first = coach(4, user, 1);
+
+        List<CoachEntity> sorted = coachSortingService.sortCoaches(
+            new ArrayList<>(List.of(second, first)), List.of(skill(1)), user);
+
+        assertEquals(List.of(4, 7), sorted.stream().map(CoachEntity::getId).toList());
+    }
+
+    @Test
+    public void topCoaches_pagesMatchFullSort() {
+        String user = "Latitude: 42.02385, Longitude: -93.64541";
+        List<CoachEntity> coaches = new ArrayList<>();
+        for (int id = 1; id <= 23; id++) {
+            // Every third coach shares a location so ties are broken by ID
+            double latitude = 42.0 + (id % 3 == 0 ? 0.5 : id * 0.05);
+            coaches.add(coach(id, "Latitude: " + latitude + ", Longitude: -93.6", id % 4, id % 5));
+        }
+        List<Integer> expected = coachSortingService
+            .sortCoaches(new ArrayList<>(coaches), List.of(skill(1), skill(2)), user)
+            .stream().map(CoachEntity::getId).toList();
+
+        List<Integer> paged = new ArrayList<>();
+        CoachRankCursor cursor = null;
+        int pages = 0;
+        do {
+            CoachSortingService.RankedPage page = coachSortingService.topCoaches(
+                coaches, List.of(skill(1), skill(2)), user, 5, cursor);
+            page.coaches().forEach(coach -> paged.add(coach.getId()));
+            cursor = page.nextCursor() != null ? CoachRankCursor.decode(page.nextCursor().encode()) : null;
+            pages++;
+        } while (cursor != null);
+
+        assertEquals(expected, paged);
+        assertEquals(5, pages);
+    }
+
+    @Test
+    public void topCoaches_loadsOnlyThePageFromLocations() {
+        String user = "Latitude: 42.02385, Longitude: -93.64541";
+        Map<Integer, CoachEntity> coaches = new HashMap<>();
+        Map<Integer, GeoPoint> locations = new HashMap<>();
+        for (int id = 1; id <= 10; id++) {
+            CoachEntity coach = coach(id, "Latitude: " + (42.0 + id * 0.05) + ", Longitude: -93.6", id % 3);
+            coaches.put(id, coach);
+            locations.put(id, coach.getCoordinates());
+        }
+        locations.put(11, null);
+        List<Integer> expected = coachSortingService
+            .sortCoaches(new ArrayList<>(coaches.values()), List.of(skill(1)), user)
+            .stream().map(CoachEntity::getId).limit(3).toList();
+        List<List<Integer>> loads = new ArrayList<>();
+
+        CoachSortingService.RankedPage page = coachSortingService.topCoaches(locations, List.of(skill(1)), user, 3, null,
+            ids -> {
+                loads.add(ids);
+                return ids.stream().map(coaches::get).toList();
+            });
+
+        assertEquals(List.of(expected), loads);
+        assertEquals(expected, page.coaches().stream().map(CoachEntity::getId).toList());
+        assertEquals(expected.get(0), page.coaches().get(0).getScore().coachId());
+        assertNotNull(page.nextCursor());
+    }
+
+    @Test
+    public void topCoaches_lastPageHasNoCursor() {
+        String user = "Latitude: 42.02385, Longitude: -93.64541";
+        CoachSortingService.RankedPage page = coachSortingService.topCoaches(
+            List.of(coach(1, user), coach(2, user)), List.of(), user, 2, null);
+
+        assertEquals(2, page.coaches().size());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void topCoaches_rejectsLimitAboveMaximum() {
+        String user = "Latitude: 42.02385, Longitude: -93.64541";
+        List<CoachEntity> coaches = List.of(coach(1, user));
+
+        assertThrows(IllegalArgumentException.class, () -> coachSortingService.topCoaches(
+            coaches, List.of(), user, CoachSortingService.MAX_PAGE_SIZE + 1, null));
+        assertThrows(IllegalArgumentException.class, () -> coachSortingService.topCoaches(
+            coaches, List.of(), user, Integer.MAX_VALUE, null));
+    }
+
+    @Test
+    public void toSkillBits_rejectsUnknownOrNegativeSkillIds() {
+        assertEquals(2, coachSortingService.toSkillBits(List.of(3, 7)).cardinality());
+        assertThrows(IllegalArgumentException.class, () -> coachSortingService.toSkillBits(List.of(-1)));
+        assertThrows(IllegalArgumentException.class, () -> coachSortingService.toSkillBits(List.of(Integer.MAX_VALUE)));
+        assertThrows(IllegalArgumentException.class, () -> coachSortingService.toSkillBits(List.of(skill(0))));
+    }
+
+    @Test
+    public void decode_rejectsMalformedCursor() {
+        assertThrows(IllegalArgumentException.class, () -> CoachRankCursor.decode("not-a-cursor"));
+    }
+}